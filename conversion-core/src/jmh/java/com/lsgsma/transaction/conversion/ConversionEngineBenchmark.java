@@ -0,0 +1,70 @@
+package com.lsgsma.transaction.conversion;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Single-threaded throughput, i.e. conversions per second per core.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+@State(Scope.Thread)
+public class ConversionEngineBenchmark {
+
+    private static final String CURRENCY = "Brazil-Real";
+    private static final int BATCH_SIZE = 10_000;
+
+    private ConversionEngine conversionEngine;
+    private List<ConversionEngine.ConversionInput> batch;
+    private LocalDate transactionDate;
+    private BigDecimal amount;
+
+    @Setup
+    public void setup() {
+        var rateStore = new RateStore();
+        // Quarterly rates over ten years, like the Treasury dataset
+        for (var date = LocalDate.of(2015, 3, 31); date.isBefore(LocalDate.of(2025, 1, 1)); date = date.plusMonths(3).withDayOfMonth(1).plusMonths(1).minusDays(1)) {
+            rateStore.put(CURRENCY, date, BigDecimal.valueOf(4 + ThreadLocalRandom.current().nextDouble(2)).setScale(3, ConversionRules.ROUNDING_MODE));
+        }
+        conversionEngine = new ConversionEngine(rateStore);
+
+        batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(new ConversionEngine.ConversionInput(
+                    LocalDate.of(2016, 1, 1).plusDays(ThreadLocalRandom.current().nextInt(3000)),
+                    BigDecimal.valueOf(ThreadLocalRandom.current().nextLong(1, 1_000_000), 2)));
+        }
+        transactionDate = LocalDate.of(2024, 8, 20);
+        amount = new BigDecimal("150.75");
+    }
+
+    @Benchmark
+    public Optional<ConversionEngine.Conversion> convertOne() {
+        return conversionEngine.convert(CURRENCY, transactionDate, amount);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<ConversionEngine.Conversion> convertBatch() {
+        return conversionEngine.convertAll(CURRENCY, batch);
+    }
+}
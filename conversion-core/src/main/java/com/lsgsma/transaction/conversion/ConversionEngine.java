@@ -0,0 +1,47 @@
+package com.lsgsma.transaction.conversion;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+
+// Converts amounts with the rates held in a RateStore, applying ConversionRules.
+public class ConversionEngine {
+
+    private final RateStore rateStore;
+
+    public ConversionEngine(final RateStore rateStore) {
+        this.rateStore = rateStore;
+    }
+
+    public record ConversionInput(LocalDate transactionDate, BigDecimal amount) {}
+
+    // exchangeRate and convertedAmount are null when no rate applies to the transaction date.
+    public record Conversion(LocalDate transactionDate, BigDecimal amount, ExchangeRate exchangeRate, BigDecimal convertedAmount) {
+
+        public boolean converted() {
+            return exchangeRate != null;
+        }
+    }
+
+    public Optional<Conversion> convert(final String currency, final LocalDate transactionDate, final BigDecimal amount) {
+        return rateStore.findApplicable(currency, transactionDate)
+                .map(rate -> new Conversion(transactionDate, amount, rate, ConversionRules.convert(amount, rate.rate())));
+    }
+
+    // Bulk rows tend to repeat dates, so each distinct date is looked up once.
+    public List<Conversion> convertAll(final String currency, final List<ConversionInput> inputs) {
+        var ratesByDate = new HashMap<LocalDate, Optional<ExchangeRate>>();
+        var conversions = new ArrayList<Conversion>(inputs.size());
+        for (var input : inputs) {
+            var rate = ratesByDate.computeIfAbsent(input.transactionDate(), date -> rateStore.findApplicable(currency, date));
+            conversions.add(rate
+                    .map(exchangeRate -> new Conversion(input.transactionDate(), input.amount(), exchangeRate,
+                            ConversionRules.convert(input.amount(), exchangeRate.rate())))
+                    .orElseGet(() -> new Conversion(input.transactionDate(), input.amount(), null, null)));
+        }
+        return conversions;
+    }
+}
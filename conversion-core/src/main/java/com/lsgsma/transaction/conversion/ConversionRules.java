@@ -0,0 +1,33 @@
+package com.lsgsma.transaction.conversion;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+// Business rules of a conversion: a purchase uses the latest rate published up to six months
+// before its date, and every amount is rounded to cents, half up.
+public final class ConversionRules {
+
+    public static final int LOOKBACK_MONTHS = 6;
+    public static final int AMOUNT_SCALE = 2;
+    public static final RoundingMode ROUNDING_MODE = RoundingMode.HALF_UP;
+
+    private ConversionRules() {
+    }
+
+    public static LocalDate windowStart(final LocalDate transactionDate) {
+        return transactionDate.minusMonths(LOOKBACK_MONTHS);
+    }
+
+    public static boolean isWithinWindow(final LocalDate recordDate, final LocalDate transactionDate) {
+        return !recordDate.isAfter(transactionDate) && !recordDate.isBefore(windowStart(transactionDate));
+    }
+
+    public static BigDecimal roundAmount(final BigDecimal amount) {
+        return amount.setScale(AMOUNT_SCALE, ROUNDING_MODE);
+    }
+
+    public static BigDecimal convert(final BigDecimal amount, final BigDecimal exchangeRate) {
+        return roundAmount(amount.multiply(exchangeRate));
+    }
+}
@@ -0,0 +1,6 @@
+package com.lsgsma.transaction.conversion;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record ExchangeRate(LocalDate recordDate, BigDecimal rate) {}
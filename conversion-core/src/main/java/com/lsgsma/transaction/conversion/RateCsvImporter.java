@@ -0,0 +1,283 @@
+package com.lsgsma.transaction.conversion;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Loads a Treasury "Rates of Exchange" CSV download into a RateStore. The file is memory-mapped and parsed
+// byte by byte: only the currency names are decoded (once per distinct name), so heap use does not grow
+// with the file size beyond the rates that end up in the store.
+public class RateCsvImporter {
+
+    static final String RECORD_DATE_COLUMN = "Record Date";
+    static final String CURRENCY_COLUMN = "Country - Currency Description";
+    static final String EXCHANGE_RATE_COLUMN = "Exchange Rate";
+
+    private static final byte QUOTE = '"';
+    private static final byte COMMA = ',';
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+
+    private final RateStore rateStore;
+
+    public RateCsvImporter(final RateStore rateStore) {
+        this.rateStore = rateStore;
+    }
+
+    public record ImportResult(long rows, long skippedRows, Set<String> currencies, LocalDate latestRecordDate, Duration elapsed) {
+
+        public double rowsPerSecond() {
+            var seconds = elapsed.toNanos() / 1_000_000_000.0;
+            return seconds == 0 ? rows : rows / seconds;
+        }
+    }
+
+    public ImportResult importFile(final Path file) throws IOException {
+        var start = System.nanoTime();
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ); var arena = Arena.ofConfined()) {
+            var segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+            return new Parser(segment).parse(start);
+        }
+    }
+
+    private record CurrencyName(byte[] bytes, String name) {
+    }
+
+    private final class Parser {
+
+        private final MemorySegment segment;
+        private final long size;
+        private final Map<Integer, List<CurrencyName>> currencyNames = new HashMap<>();
+        private final Set<String> currencies = new HashSet<>();
+
+        private int recordDateIndex = -1;
+        private int currencyIndex = -1;
+        private int exchangeRateIndex = -1;
+        private final long[] fieldStart = new long[3];
+        private final long[] fieldEnd = new long[3];
+
+        private long rows;
+        private long skippedRows;
+        private LocalDate latestRecordDate;
+
+        Parser(final MemorySegment segment) {
+            this.segment = segment;
+            this.size = segment.byteSize();
+        }
+
+        ImportResult parse(final long start) {
+            var position = parseHeader();
+            while (position < size) {
+                position = parseLine(position);
+            }
+            return new ImportResult(rows, skippedRows, Set.copyOf(currencies), latestRecordDate,
+                    Duration.ofNanos(System.nanoTime() - start));
+        }
+
+        private long parseHeader() {
+            var end = 0L;
+            while (end < size && byteAt(end) != LF) {
+                end++;
+            }
+            var header = new String(segment.asSlice(0, end).toArray(ValueLayout.JAVA_BYTE), StandardCharsets.UTF_8)
+                    .replace("\uFEFF", "")
+                    .strip();
+            var columns = header.split(",", -1);
+            for (var i = 0; i < columns.length; i++) {
+                var column = columns[i].replace("\"", "").strip();
+                if (column.equalsIgnoreCase(RECORD_DATE_COLUMN)) {
+                    recordDateIndex = i;
+                } else if (column.equalsIgnoreCase(CURRENCY_COLUMN)) {
+                    currencyIndex = i;
+                } else if (column.equalsIgnoreCase(EXCHANGE_RATE_COLUMN)) {
+                    exchangeRateIndex = i;
+                }
+            }
+            if (recordDateIndex < 0 || currencyIndex < 0 || exchangeRateIndex < 0) {
+                throw new IllegalArgumentException("CSV header must contain '" + RECORD_DATE_COLUMN + "', '"
+                        + CURRENCY_COLUMN + "' and '" + EXCHANGE_RATE_COLUMN + "' but was: " + header);
+            }
+            return Math.min(size, end + 1);
+        }
+
+        private long parseLine(final long lineStart) {
+            Arrays.fill(fieldStart, -1);
+            Arrays.fill(fieldEnd, -1);
+            var field = 0;
+            var fieldBegin = lineStart;
+            var quoted = false;
+            var position = lineStart;
+            while (position < size) {
+                var b = byteAt(position);
+                if (b == QUOTE) {
+                    quoted = !quoted;
+                } else if (!quoted && (b == COMMA || b == LF)) {
+                    captureField(field, fieldBegin, position);
+                    field++;
+                    fieldBegin = position + 1;
+                    if (b == LF) {
+                        break;
+                    }
+                }
+                position++;
+            }
+            if (position >= size) {
+                captureField(field, fieldBegin, size);
+            }
+            storeRow();
+            return position + 1;
+        }
+
+        private void captureField(final int field, long begin, long end) {
+            var slot = field == recordDateIndex ? 0 : field == currencyIndex ? 1 : field == exchangeRateIndex ? 2 : -1;
+            if (slot < 0) {
+                return;
+            }
+            if (end > begin && byteAt(end - 1) == CR) {
+                end--;
+            }
+            if (end - begin >= 2 && byteAt(begin) == QUOTE && byteAt(end - 1) == QUOTE) {
+                begin++;
+                end--;
+            }
+            fieldStart[slot] = begin;
+            fieldEnd[slot] = end;
+        }
+
+        private void storeRow() {
+            // Blank lines, typically a trailing one
+            if (fieldEnd[0] - fieldStart[0] <= 0 && fieldEnd[1] - fieldStart[1] <= 0 && fieldEnd[2] - fieldStart[2] <= 0) {
+                return;
+            }
+            var recordDate = parseDate(fieldStart[0], fieldEnd[0]);
+            var exchangeRate = parseDecimal(fieldStart[2], fieldEnd[2]);
+            var currency = recordDate == null || exchangeRate == null ? null : currencyName(fieldStart[1], fieldEnd[1]);
+            if (currency == null) {
+                skippedRows++;
+                return;
+            }
+            rateStore.put(currency, recordDate, exchangeRate);
+            if (latestRecordDate == null || recordDate.isAfter(latestRecordDate)) {
+                latestRecordDate = recordDate;
+            }
+            rows++;
+        }
+
+        // yyyy-MM-dd
+        private LocalDate parseDate(final long begin, final long end) {
+            if (begin < 0 || end - begin != 10 || byteAt(begin + 4) != '-' || byteAt(begin + 7) != '-') {
+                return null;
+            }
+            var year = parseInt(begin, begin + 4);
+            var month = parseInt(begin + 5, begin + 7);
+            var day = parseInt(begin + 8, begin + 10);
+            if (year < 0 || month < 0 || day < 0) {
+                return null;
+            }
+            try {
+                return LocalDate.of(year, month, day);
+            } catch (DateTimeException _) {
+                return null;
+            }
+        }
+
+        private int parseInt(final long begin, final long end) {
+            var value = 0;
+            for (var position = begin; position < end; position++) {
+                var digit = byteAt(position) - '0';
+                if (digit < 0 || digit > 9) {
+                    return -1;
+                }
+                value = value * 10 + digit;
+            }
+            return value;
+        }
+
+        private BigDecimal parseDecimal(final long begin, final long end) {
+            if (begin < 0 || end <= begin) {
+                return null;
+            }
+            var position = begin;
+            var negative = byteAt(position) == '-';
+            if (negative) {
+                position++;
+            }
+            var unscaled = 0L;
+            var scale = -1;
+            var digits = 0;
+            for (; position < end; position++) {
+                var b = byteAt(position);
+                if (b == '.' && scale < 0) {
+                    scale = 0;
+                } else if (b >= '0' && b <= '9') {
+                    if (++digits > 18) {
+                        return null;
+                    }
+                    unscaled = unscaled * 10 + (b - '0');
+                    if (scale >= 0) {
+                        scale++;
+                    }
+                } else {
+                    return null;
+                }
+            }
+            if (digits == 0) {
+                return null;
+            }
+            return BigDecimal.valueOf(negative ? -unscaled : unscaled, Math.max(scale, 0));
+        }
+
+        private String currencyName(final long begin, final long end) {
+            if (begin < 0 || end <= begin) {
+                return null;
+            }
+            var hash = 1;
+            for (var position = begin; position < end; position++) {
+                hash = 31 * hash + byteAt(position);
+            }
+            var candidates = currencyNames.computeIfAbsent(hash, _ -> new ArrayList<>(1));
+            for (var candidate : candidates) {
+                if (matches(candidate.bytes(), begin, end)) {
+                    return candidate.name();
+                }
+            }
+            var bytes = segment.asSlice(begin, end - begin).toArray(ValueLayout.JAVA_BYTE);
+            var name = new String(bytes, StandardCharsets.UTF_8);
+            candidates.add(new CurrencyName(bytes, name));
+            currencies.add(name);
+            return name;
+        }
+
+        private boolean matches(final byte[] candidate, final long begin, final long end) {
+            if (candidate.length != end - begin) {
+                return false;
+            }
+            for (var i = 0; i < candidate.length; i++) {
+                if (candidate[i] != byteAt(begin + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private byte byteAt(final long offset) {
+            return segment.get(ValueLayout.JAVA_BYTE, offset);
+        }
+    }
+}
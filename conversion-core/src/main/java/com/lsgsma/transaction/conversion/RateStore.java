@@ -0,0 +1,98 @@
+package com.lsgsma.transaction.conversion;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// Thread-safe rates by currency and record date.
+public class RateStore {
+
+    private final Map<String, NavigableMap<LocalDate, BigDecimal>> ratesByCurrency = new ConcurrentHashMap<>();
+
+    public record Coverage(String currency, LocalDate earliestRecordDate, LocalDate latestRecordDate, int records) {}
+
+    // The applicable rate and the next known record date (null when it is the latest), so callers can reuse the
+    // rate for every date before nextRecordDate that is still inside the lookback window.
+    public record RatePeriod(ExchangeRate exchangeRate, LocalDate nextRecordDate) {
+
+        public boolean applies(final LocalDate transactionDate) {
+            return (nextRecordDate == null || transactionDate.isBefore(nextRecordDate))
+                    && ConversionRules.isWithinWindow(exchangeRate.recordDate(), transactionDate);
+        }
+    }
+
+    public void put(final String currency, final LocalDate recordDate, final BigDecimal rate) {
+        ratesByCurrency.computeIfAbsent(currency, _ -> new ConcurrentSkipListMap<>()).put(recordDate, rate);
+    }
+
+    public void putAll(final String currency, final Iterable<ExchangeRate> rates) {
+        var currencyRates = ratesByCurrency.computeIfAbsent(currency, _ -> new ConcurrentSkipListMap<>());
+        rates.forEach(rate -> currencyRates.put(rate.recordDate(), rate.rate()));
+    }
+
+    // Latest rate recorded on or before the transaction date and inside the lookback window.
+    public Optional<ExchangeRate> findApplicable(final String currency, final LocalDate transactionDate) {
+        return findLatest(currency, ConversionRules.windowStart(transactionDate), transactionDate);
+    }
+
+    public Optional<ExchangeRate> findLatest(final String currency, final LocalDate fromDate, final LocalDate toDate) {
+        var rates = ratesByCurrency.get(currency);
+        if (rates == null) {
+            return Optional.empty();
+        }
+        var entry = rates.floorEntry(toDate);
+        if (entry == null || entry.getKey().isBefore(fromDate)) {
+            return Optional.empty();
+        }
+        return Optional.of(new ExchangeRate(entry.getKey(), entry.getValue()));
+    }
+
+    // Every rate recorded between the two dates (inclusive), oldest first.
+    public List<ExchangeRate> findAll(final String currency, final LocalDate fromDate, final LocalDate toDate) {
+        var rates = ratesByCurrency.get(currency);
+        if (rates == null) {
+            return List.of();
+        }
+        return rates.subMap(fromDate, true, toDate, true).entrySet().stream()
+                .map(entry -> new ExchangeRate(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    public Optional<RatePeriod> findPeriod(final String currency, final LocalDate transactionDate) {
+        var rates = ratesByCurrency.get(currency);
+        if (rates == null) {
+            return Optional.empty();
+        }
+        var entry = rates.floorEntry(transactionDate);
+        if (entry == null || !ConversionRules.isWithinWindow(entry.getKey(), transactionDate)) {
+            return Optional.empty();
+        }
+        return Optional.of(new RatePeriod(new ExchangeRate(entry.getKey(), entry.getValue()), rates.higherKey(entry.getKey())));
+    }
+
+    public boolean contains(final String currency) {
+        return ratesByCurrency.containsKey(currency);
+    }
+
+    public Set<String> currencies() {
+        return Set.copyOf(ratesByCurrency.keySet());
+    }
+
+    public Optional<Coverage> coverage(final String currency) {
+        var rates = ratesByCurrency.get(currency);
+        if (rates == null || rates.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new Coverage(currency, rates.firstKey(), rates.lastKey(), rates.size()));
+    }
+
+    public void clear() {
+        ratesByCurrency.clear();
+    }
+}
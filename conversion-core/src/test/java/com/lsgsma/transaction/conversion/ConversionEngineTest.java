@@ -0,0 +1,54 @@
+package com.lsgsma.transaction.conversion;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConversionEngineTest {
+
+    private final RateStore rateStore = new RateStore();
+    private final ConversionEngine conversionEngine = new ConversionEngine(rateStore);
+
+    @Test
+    void givenApplicableRate_whenConvert_thenRoundHalfUpToCents() {
+        rateStore.put("Brazil-Real", LocalDate.of(2024, 6, 30), BigDecimal.valueOf(5.5));
+
+        var conversion = conversionEngine.convert("Brazil-Real", LocalDate.of(2024, 8, 20), BigDecimal.valueOf(150.75)).orElseThrow();
+
+        assertEquals(BigDecimal.valueOf(829.13), conversion.convertedAmount());
+        assertEquals(LocalDate.of(2024, 6, 30), conversion.exchangeRate().recordDate());
+    }
+
+    @Test
+    void givenNoApplicableRate_whenConvert_thenReturnEmpty() {
+        assertTrue(conversionEngine.convert("Brazil-Real", LocalDate.of(2024, 8, 20), BigDecimal.TEN).isEmpty());
+    }
+
+    @Test
+    void givenRows_whenConvertAll_thenKeepOrderAndFlagUnconverted() {
+        rateStore.put("Brazil-Real", LocalDate.of(2024, 6, 30), BigDecimal.valueOf(5.5));
+
+        var conversions = conversionEngine.convertAll("Brazil-Real", List.of(
+                new ConversionEngine.ConversionInput(LocalDate.of(2024, 8, 20), BigDecimal.valueOf(100)),
+                new ConversionEngine.ConversionInput(LocalDate.of(2024, 1, 10), BigDecimal.valueOf(100)),
+                new ConversionEngine.ConversionInput(LocalDate.of(2024, 8, 20), BigDecimal.valueOf(1.01))));
+
+        assertEquals(3, conversions.size());
+        assertEquals(new BigDecimal("550.00"), conversions.get(0).convertedAmount());
+        assertFalse(conversions.get(1).converted());
+        assertNull(conversions.get(1).convertedAmount());
+        assertEquals(new BigDecimal("5.56"), conversions.get(2).convertedAmount());
+    }
+
+    @Test
+    void givenAmount_whenRound_thenUseTwoDecimalsHalfUp() {
+        assertEquals(new BigDecimal("10.13"), ConversionRules.roundAmount(new BigDecimal("10.125")));
+        assertEquals(new BigDecimal("10.12"), ConversionRules.roundAmount(new BigDecimal("10.124")));
+    }
+}
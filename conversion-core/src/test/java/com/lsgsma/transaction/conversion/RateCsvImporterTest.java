@@ -0,0 +1,84 @@
+package com.lsgsma.transaction.conversion;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateCsvImporterTest {
+
+    private static final String HEADER = "Record Date,Country,Currency,Country - Currency Description,Exchange Rate,Effective Date\n";
+
+    @TempDir
+    private Path directory;
+
+    private final RateStore rateStore = new RateStore();
+    private final RateCsvImporter rateCsvImporter = new RateCsvImporter(rateStore);
+
+    @Test
+    void givenTreasuryCsv_whenImportFile_thenLoadRatesIntoStore() throws IOException {
+        var file = write(HEADER
+                + "2024-06-30,Brazil,Real,Brazil-Real,5.5,2024-06-30\n"
+                + "2024-03-31,Brazil,Real,Brazil-Real,4.987,2024-03-31\n"
+                + "2024-06-30,Japan,Yen,Japan-Yen,160.2,2024-06-30\n");
+
+        var result = rateCsvImporter.importFile(file);
+
+        assertEquals(3, result.rows());
+        assertEquals(0, result.skippedRows());
+        assertEquals(Set.of("Brazil-Real", "Japan-Yen"), result.currencies());
+        assertEquals(LocalDate.of(2024, 6, 30), result.latestRecordDate());
+        assertTrue(result.rowsPerSecond() > 0);
+        assertEquals(new BigDecimal("4.987"), rateStore.findApplicable("Brazil-Real", LocalDate.of(2024, 5, 1)).orElseThrow().rate());
+        assertEquals(new BigDecimal("160.2"), rateStore.findApplicable("Japan-Yen", LocalDate.of(2024, 7, 1)).orElseThrow().rate());
+    }
+
+    @Test
+    void givenQuotedFieldsAndCrlf_whenImportFile_thenParseThem() throws IOException {
+        var file = write("\uFEFF\"Record Date\",\"Country - Currency Description\",\"Exchange Rate\"\r\n"
+                + "\"2024-06-30\",\"Korea, South-Won\",\"1376.0\"\r\n"
+                + "2024-06-30,Euro Zone-Euro,0.933");
+
+        var result = rateCsvImporter.importFile(file);
+
+        assertEquals(2, result.rows());
+        assertEquals(new BigDecimal("1376.0"), rateStore.findApplicable("Korea, South-Won", LocalDate.of(2024, 7, 1)).orElseThrow().rate());
+        assertEquals(new BigDecimal("0.933"), rateStore.findApplicable("Euro Zone-Euro", LocalDate.of(2024, 7, 1)).orElseThrow().rate());
+    }
+
+    @Test
+    void givenMalformedRows_whenImportFile_thenSkipThem() throws IOException {
+        var file = write(HEADER
+                + "2024-06-30,Brazil,Real,Brazil-Real,,2024-06-30\n"
+                + "06/30/2024,Brazil,Real,Brazil-Real,5.5,2024-06-30\n"
+                + "2024-02-30,Brazil,Real,Brazil-Real,5.5,2024-02-30\n"
+                + "2024-06-30,Japan,Yen,Japan-Yen,160.2,2024-06-30\n"
+                + "\n");
+
+        var result = rateCsvImporter.importFile(file);
+
+        assertEquals(1, result.rows());
+        assertEquals(3, result.skippedRows());
+        assertEquals(Set.of("Japan-Yen"), rateStore.currencies());
+    }
+
+    @Test
+    void givenMissingColumns_whenImportFile_thenThrowIllegalArgumentException() throws IOException {
+        var file = write("Record Date,Currency\n2024-06-30,Real\n");
+
+        assertThrows(IllegalArgumentException.class, () -> rateCsvImporter.importFile(file));
+    }
+
+    private Path write(final String content) throws IOException {
+        return Files.writeString(directory.resolve("rates.csv"), content, StandardCharsets.UTF_8);
+    }
+}
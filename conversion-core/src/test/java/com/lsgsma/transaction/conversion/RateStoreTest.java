@@ -0,0 +1,84 @@
+package com.lsgsma.transaction.conversion;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateStoreTest {
+
+    private final RateStore rateStore = new RateStore();
+
+    @BeforeEach
+    void setup() {
+        rateStore.putAll("Brazil-Real", List.of(
+                new ExchangeRate(LocalDate.of(2023, 12, 31), BigDecimal.valueOf(4.9)),
+                new ExchangeRate(LocalDate.of(2024, 3, 31), BigDecimal.valueOf(5.0)),
+                new ExchangeRate(LocalDate.of(2024, 6, 30), BigDecimal.valueOf(5.5))));
+    }
+
+    @Test
+    void givenRatesBeforeDate_whenFindApplicable_thenReturnLatestOnOrBeforeDate() {
+        assertEquals(new ExchangeRate(LocalDate.of(2024, 6, 30), BigDecimal.valueOf(5.5)),
+                rateStore.findApplicable("Brazil-Real", LocalDate.of(2024, 8, 20)).orElseThrow());
+        assertEquals(new ExchangeRate(LocalDate.of(2024, 6, 30), BigDecimal.valueOf(5.5)),
+                rateStore.findApplicable("Brazil-Real", LocalDate.of(2024, 6, 30)).orElseThrow());
+    }
+
+    @Test
+    void givenLatestRateOlderThanSixMonths_whenFindApplicable_thenReturnEmpty() {
+        assertTrue(rateStore.findApplicable("Brazil-Real", LocalDate.of(2025, 1, 1)).isEmpty());
+    }
+
+    @Test
+    void givenRateExactlySixMonthsBefore_whenFindApplicable_thenReturnIt() {
+        assertEquals(LocalDate.of(2024, 6, 30), rateStore.findApplicable("Brazil-Real", LocalDate.of(2024, 12, 30)).orElseThrow().recordDate());
+    }
+
+    @Test
+    void givenUnknownCurrency_whenFindApplicable_thenReturnEmpty() {
+        assertTrue(rateStore.findApplicable("Japan-Yen", LocalDate.of(2024, 8, 20)).isEmpty());
+        assertFalse(rateStore.contains("Japan-Yen"));
+    }
+
+    @Test
+    void givenRates_whenGetCoverage_thenReturnRangeAndCount() {
+        assertEquals(new RateStore.Coverage("Brazil-Real", LocalDate.of(2023, 12, 31), LocalDate.of(2024, 6, 30), 3),
+                rateStore.coverage("Brazil-Real").orElseThrow());
+    }
+
+    @Test
+    void givenDateRange_whenFindAll_thenReturnRatesInsideItOldestFirst() {
+        assertEquals(List.of(
+                        new ExchangeRate(LocalDate.of(2024, 3, 31), BigDecimal.valueOf(5.0)),
+                        new ExchangeRate(LocalDate.of(2024, 6, 30), BigDecimal.valueOf(5.5))),
+                rateStore.findAll("Brazil-Real", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 30)));
+        assertTrue(rateStore.findAll("Japan-Yen", LocalDate.MIN, LocalDate.MAX).isEmpty());
+    }
+
+    @Test
+    void givenDateBetweenRecords_whenFindPeriod_thenReturnRateAndNextRecordDate() {
+        var period = rateStore.findPeriod("Brazil-Real", LocalDate.of(2024, 4, 15)).orElseThrow();
+
+        assertEquals(new ExchangeRate(LocalDate.of(2024, 3, 31), BigDecimal.valueOf(5.0)), period.exchangeRate());
+        assertEquals(LocalDate.of(2024, 6, 30), period.nextRecordDate());
+        assertTrue(period.applies(LocalDate.of(2024, 6, 29)));
+        assertFalse(period.applies(LocalDate.of(2024, 6, 30)));
+    }
+
+    @Test
+    void givenLatestRecord_whenFindPeriod_thenApplyUntilLookbackWindowEnds() {
+        var period = rateStore.findPeriod("Brazil-Real", LocalDate.of(2024, 8, 20)).orElseThrow();
+
+        assertNull(period.nextRecordDate());
+        assertTrue(period.applies(LocalDate.of(2024, 12, 31)));
+        assertFalse(period.applies(LocalDate.of(2025, 1, 1)));
+        assertTrue(rateStore.findPeriod("Brazil-Real", LocalDate.of(2025, 1, 1)).isEmpty());
+    }
+}
@@ -0,0 +1,15 @@
+#!/usr/bin/env sh
+# Starts the extracted application (./gradlew extractBootJar), using the JDK AOT cache
+# produced by ./gradlew aotCacheTraining when it is available.
+set -e
+
+APP_DIR="${APP_DIR:-build/aot/application}"
+AOT_CACHE="${AOT_CACHE:-build/aot/transaction.aot}"
+
+if [ -f "$AOT_CACHE" ]; then
+  JAVA_OPTS="$JAVA_OPTS -XX:AOTCache=$AOT_CACHE"
+else
+  echo "No AOT cache found at $AOT_CACHE, starting without it" >&2
+fi
+
+exec java $JAVA_OPTS -jar "$APP_DIR/transaction.jar" "$@"
@@ -0,0 +1,89 @@
+package com.lsgsma.transaction.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+// Serialization CPU per format; serialize also reports the payload size of each format as the payloadBytes
+// secondary result.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConvertedTransactionResponseFormatBenchmark {
+
+    private static final TypeReference<List<ConvertedTransactionResponse>> RESPONSE_LIST = new TypeReference<>() {};
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"1", "100", "1000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private List<ConvertedTransactionResponse> responses;
+    private byte[] serialized;
+
+    @Setup
+    public void setup() {
+        objectMapper = switch (format) {
+            case "cbor" -> CBORMapper.builder().build();
+            case "smile" -> SmileMapper.builder().build();
+            default -> JsonMapper.builder().build();
+        };
+
+        responses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            responses.add(new ConvertedTransactionResponse(
+                    UUID.randomUUID(),
+                    "New keyboard for home office " + i,
+                    LocalDate.of(2024, 8, 20).minusDays(i % 365),
+                    new BigDecimal("150.75").add(BigDecimal.valueOf(i)),
+                    new BigDecimal("5.5"),
+                    new BigDecimal("829.13").add(BigDecimal.valueOf(i))));
+        }
+        serialized = objectMapper.writeValueAsBytes(responses);
+    }
+
+    // Reported as is: the size of the last payload, not a rate
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+
+        public long payloadBytes;
+    }
+
+    @Benchmark
+    public byte[] serialize(final PayloadSize payloadSize) {
+        var bytes = objectMapper.writeValueAsBytes(responses);
+        payloadSize.payloadBytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public List<ConvertedTransactionResponse> deserialize() {
+        return objectMapper.readValue(serialized, RESPONSE_LIST);
+    }
+}
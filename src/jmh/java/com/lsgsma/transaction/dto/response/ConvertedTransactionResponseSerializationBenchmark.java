@@ -0,0 +1,54 @@
+package com.lsgsma.transaction.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConvertedTransactionResponseSerializationBenchmark {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    private final ConvertedTransactionResponse response = new ConvertedTransactionResponse(
+            UUID.randomUUID(),
+            "New keyboard for home office",
+            LocalDate.of(2024, 8, 20),
+            new BigDecimal("150.75"),
+            new BigDecimal("5.5"),
+            new BigDecimal("829.13"));
+
+    private byte[] serialized;
+
+    @Setup
+    public void setup() {
+        serialized = objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public ConvertedTransactionResponse deserialize() {
+        return objectMapper.readValue(serialized, ConvertedTransactionResponse.class);
+    }
+}
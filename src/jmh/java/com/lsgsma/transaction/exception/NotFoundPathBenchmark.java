@@ -0,0 +1,61 @@
+package com.lsgsma.transaction.exception;
+
+import com.lsgsma.transaction.conversion.ConversionRules;
+import com.lsgsma.transaction.dto.response.ConvertedTransactionResponse;
+import com.lsgsma.transaction.dto.response.ErrorResponse;
+import com.lsgsma.transaction.mapper.TransactionMapper;
+import com.lsgsma.transaction.model.Transaction;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Cost of answering a missing transaction compared with building a cache-hit conversion response.
+// withStackTrace reproduces the previous behaviour for reference.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NotFoundPathBenchmark {
+
+    private static final String PATH = "/transaction/a1b2c3d4-e5f6-7890-1234-567890abcdef";
+
+    private final GlobalExceptionHandler globalExceptionHandler = new GlobalExceptionHandler();
+    private final TransactionMapper transactionMapper = new TransactionMapper();
+    private final UUID id = UUID.randomUUID();
+    private final Transaction transaction = new Transaction(id, "New keyboard for home office", LocalDate.of(2024, 8, 20), new BigDecimal("150.75"));
+    private final BigDecimal exchangeRate = new BigDecimal("5.5");
+
+    @Benchmark
+    public ErrorResponse notFound() {
+        var exception = new TransactionNotFoundException(id);
+        return globalExceptionHandler.notFound(exception.getMessage(), PATH);
+    }
+
+    @Benchmark
+    public ErrorResponse notFoundWithStackTrace() {
+        var exception = new RuntimeException("Transaction not found with id: " + id);
+        var errors = new HashMap<String, String>();
+        errors.put("resourceNotFound", exception.getMessage());
+        return new ErrorResponse(LocalDateTime.now(), 404, "Resource Not Found", errors, PATH);
+    }
+
+    @Benchmark
+    public ConvertedTransactionResponse cacheHitConversion() {
+        var convertedAmount = ConversionRules.convert(transaction.getPurchaseAmount(), exchangeRate);
+        return transactionMapper.toConvertedDto(transaction, exchangeRate, convertedAmount);
+    }
+}
@@ -0,0 +1,48 @@
+package com.lsgsma.transaction.mapper;
+
+import com.lsgsma.transaction.dto.request.CreateTransactionRequest;
+import com.lsgsma.transaction.dto.response.ConvertedTransactionResponse;
+import com.lsgsma.transaction.model.Transaction;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransactionMapperBenchmark {
+
+    private final TransactionMapper transactionMapper = new TransactionMapper();
+
+    private final CreateTransactionRequest request = new CreateTransactionRequest(
+            "New keyboard for home office", LocalDate.of(2024, 8, 20), new BigDecimal("150.745"));
+
+    private final Transaction transaction = new Transaction(
+            UUID.randomUUID(), "New keyboard for home office", LocalDate.of(2024, 8, 20), new BigDecimal("150.75"));
+
+    private final BigDecimal exchangeRate = new BigDecimal("5.5");
+    private final BigDecimal convertedAmount = new BigDecimal("829.13");
+
+    @Benchmark
+    public Transaction toEntity() {
+        return transactionMapper.toEntity(request);
+    }
+
+    @Benchmark
+    public ConvertedTransactionResponse toConvertedDto() {
+        return transactionMapper.toConvertedDto(transaction, exchangeRate, convertedAmount);
+    }
+}
@@ -0,0 +1,162 @@
+package com.lsgsma.transaction.repository;
+
+import com.lsgsma.transaction.config.DbAccessGovernorProperties;
+import com.lsgsma.transaction.util.UuidV7;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Repository operations per second for the service's read/write mix (`readShare` id lookups, the rest auto-committed
+// inserts) issued by 512 virtual threads at once through the database governor, on a file-backed H2 database
+// preloaded with `rows` transactions. The pool size with the highest throughput before it flattens out is the
+// one to configure as spring.datasource.hikari.maximum-pool-size.
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class DbPoolSizeBenchmark {
+
+    private static final int CONCURRENCY = 512;
+    private static final int PRELOAD_BATCH_SIZE = 1_000;
+    private static final LocalDate FIRST_DATE = LocalDate.of(2015, 1, 1);
+    private static final int DAYS = 3_650;
+    private static final String INSERT = "INSERT INTO transaction (id, description, transaction_date, purchase_amount) VALUES (?, ?, ?, ?)";
+    private static final String FIND_BY_ID = "SELECT id, description, transaction_date, purchase_amount FROM transaction WHERE id = ?";
+
+    @Param({"2", "4", "8", "16", "32", "64"})
+    private int poolSize;
+
+    @Param({"0.8"})
+    private double readShare;
+
+    @Param({"1000000"})
+    private int rows;
+
+    private Path directory;
+    private HikariDataSource dataSource;
+    private DbAccessGovernor governor;
+    private UUID[] ids;
+
+    @Setup
+    public void setup() throws IOException, SQLException {
+        directory = Files.createTempDirectory("db-pool-size-benchmark");
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:file:" + directory.resolve("transaction") + ";CACHE_SIZE=262144");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setMinimumIdle(poolSize);
+        governor = new DbAccessGovernor(
+                new DbAccessGovernorProperties(true, poolSize, Duration.ofMinutes(1), Map.of(), Duration.ofSeconds(1)),
+                poolSize,
+                new SimpleMeterRegistry());
+        ids = new UUID[rows];
+        try (var connection = dataSource.getConnection()) {
+            try (var statement = connection.createStatement()) {
+                statement.execute(migration("V1__create_transaction_table.sql"));
+                statement.execute(migration("V2__index_transaction_date.sql"));
+            }
+            connection.setAutoCommit(false);
+            try (var statement = connection.prepareStatement(INSERT)) {
+                for (var i = 0; i < rows; i++) {
+                    ids[i] = UuidV7.randomUuid();
+                    bind(statement, ids[i]);
+                    statement.addBatch();
+                    if ((i + 1) % PRELOAD_BATCH_SIZE == 0) {
+                        statement.executeBatch();
+                        connection.commit();
+                    }
+                }
+                statement.executeBatch();
+                connection.commit();
+            }
+            connection.setAutoCommit(true);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        dataSource.close();
+        try (var files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    // One burst of CONCURRENCY operations, each on its own virtual thread as under the web server
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENCY)
+    public void mixedWorkload() {
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (var i = 0; i < CONCURRENCY; i++) {
+                executor.submit(() -> ThreadLocalRandom.current().nextDouble() < readShare
+                        ? governor.execute("TransactionRepository.findById", this::findById)
+                        : governor.execute("TransactionRepository.save", this::insert));
+            }
+        }
+    }
+
+    private boolean findById() {
+        try (var connection = dataSource.getConnection();
+             var statement = connection.prepareStatement(FIND_BY_ID)) {
+            statement.setObject(1, ids[ThreadLocalRandom.current().nextInt(rows)]);
+            try (var resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private boolean insert() {
+        try (var connection = dataSource.getConnection();
+             var statement = connection.prepareStatement(INSERT)) {
+            bind(statement, UuidV7.randomUuid());
+            return statement.executeUpdate() == 1;
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void bind(final PreparedStatement statement, final UUID id) throws SQLException {
+        var random = ThreadLocalRandom.current();
+        statement.setObject(1, id);
+        statement.setString(2, "Purchase " + random.nextInt(1_000_000));
+        statement.setDate(3, Date.valueOf(FIRST_DATE.plusDays(random.nextInt(DAYS))));
+        statement.setBigDecimal(4, BigDecimal.valueOf(random.nextInt(1, 1_000_000), 2));
+    }
+
+    private static String migration(final String name) throws IOException {
+        try (var inputStream = DbPoolSizeBenchmark.class.getResourceAsStream("/db/migration/" + name)) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.lsgsma.transaction.repository;
+
+import com.lsgsma.transaction.util.UuidV7;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Insert throughput and one-month date-range scans on a file-backed H2 database preloaded with `rows`
+// transactions and created with the application's Flyway migrations, for random (v4) and time-ordered (v7) ids.
+// Loading 10M rows takes a few minutes per trial.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class TransactionStorageBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final LocalDate FIRST_DATE = LocalDate.of(2015, 1, 1);
+    private static final int DAYS = 3_650;
+    private static final String INSERT = "INSERT INTO transaction (id, description, transaction_date, purchase_amount) VALUES (?, ?, ?, ?)";
+    private static final String RANGE_SCAN = "SELECT id, purchase_amount FROM transaction WHERE transaction_date BETWEEN ? AND ?";
+
+    @Param({"random", "v7"})
+    private String idGenerator;
+
+    @Param({"10000000"})
+    private int rows;
+
+    private Path directory;
+    private Connection connection;
+    private Supplier<UUID> ids;
+
+    @Setup
+    public void setup() throws IOException, SQLException {
+        ids = "v7".equals(idGenerator) ? UuidV7::randomUuid : UUID::randomUUID;
+        directory = Files.createTempDirectory("transaction-storage-benchmark");
+        connection = DriverManager.getConnection("jdbc:h2:file:" + directory.resolve("transaction") + ";CACHE_SIZE=262144", "sa", "");
+        try (var statement = connection.createStatement()) {
+            statement.execute(migration("V1__create_transaction_table.sql"));
+            statement.execute(migration("V2__index_transaction_date.sql"));
+        }
+        connection.setAutoCommit(false);
+        for (var inserted = 0; inserted < rows; inserted += BATCH_SIZE) {
+            insertBatch();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException, SQLException {
+        connection.close();
+        try (var files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    // Rows inserted per second, in committed batches of 1000
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insert() throws SQLException {
+        insertBatch();
+    }
+
+    // Scans per second of a random one-month window (~1/120 of the table)
+    @Benchmark
+    public long monthRangeScan() throws SQLException {
+        var from = FIRST_DATE.plusDays(ThreadLocalRandom.current().nextInt(DAYS - 31));
+        try (var statement = connection.prepareStatement(RANGE_SCAN)) {
+            statement.setDate(1, Date.valueOf(from));
+            statement.setDate(2, Date.valueOf(from.plusMonths(1)));
+            var count = 0L;
+            try (var resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    private void insertBatch() throws SQLException {
+        var random = ThreadLocalRandom.current();
+        try (var statement = connection.prepareStatement(INSERT)) {
+            for (var i = 0; i < BATCH_SIZE; i++) {
+                statement.setObject(1, ids.get());
+                statement.setString(2, "Purchase " + random.nextInt(1_000_000));
+                statement.setDate(3, Date.valueOf(FIRST_DATE.plusDays(random.nextInt(DAYS))));
+                statement.setBigDecimal(4, BigDecimal.valueOf(random.nextInt(1, 1_000_000), 2));
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private static String migration(final String name) throws IOException {
+        try (var inputStream = TransactionStorageBenchmark.class.getResourceAsStream("/db/migration/" + name)) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.lsgsma.transaction.search;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Description search latency over an index of one million generated transactions.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class TrigramIndexBenchmark {
+
+    private static final String[] WORDS = {"new", "keyboard", "office", "monitor", "mouse", "desk", "chair", "laptop",
+            "coffee", "lunch", "team", "travel", "hotel", "flight", "taxi", "software", "license", "cable", "headset", "books"};
+
+    @Param({"1000000"})
+    private int documents;
+
+    @Param({"keyboard", "hotel flight", "rd 4242"})
+    private String query;
+
+    private TrigramIndex trigramIndex;
+
+    @Setup
+    public void setup() {
+        var random = new Random(42);
+        trigramIndex = new TrigramIndex();
+        for (var i = 0; i < documents; i++) {
+            var description = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            trigramIndex.add(new UUID(random.nextLong(), random.nextLong()), description);
+        }
+    }
+
+    @Benchmark
+    public List<TrigramIndex.Match> search() {
+        return trigramIndex.search(query, 20);
+    }
+}
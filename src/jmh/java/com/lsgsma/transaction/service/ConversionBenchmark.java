@@ -0,0 +1,45 @@
+package com.lsgsma.transaction.service;
+
+import com.lsgsma.transaction.conversion.ConversionRules;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConversionBenchmark {
+
+    @Param({"150.75", "2500.00", "98765432.10"})
+    public String purchaseAmount;
+
+    @Param({"5.5", "146.913", "0.000731"})
+    public String exchangeRate;
+
+    private BigDecimal amount;
+    private BigDecimal rate;
+
+    @Setup
+    public void setup() {
+        amount = new BigDecimal(purchaseAmount);
+        rate = new BigDecimal(exchangeRate);
+    }
+
+    @Benchmark
+    public BigDecimal convert() {
+        return ConversionRules.convert(amount, rate);
+    }
+}
@@ -0,0 +1,92 @@
+package com.lsgsma.transaction.service;
+
+import com.lsgsma.transaction.client.TreasuryApiClient;
+import com.lsgsma.transaction.dto.client.response.TreasuryExchangeRateDataResponse;
+import com.lsgsma.transaction.dto.client.response.TreasuryExchangeRateResponse;
+import com.lsgsma.transaction.infra.CacheWarmingService;
+import com.lsgsma.transaction.infra.ExchangeRateStore;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+
+import static com.lsgsma.transaction.config.AppConfig.EXCHANGE_RATE_CACHE;
+import static com.lsgsma.transaction.util.CacheUtil.buildCacheKey;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExchangeRateServiceBenchmark {
+
+    private static final String CURRENCY = "Brazil-Real";
+    private static final LocalDate TRANSACTION_DATE = LocalDate.of(2024, 8, 20);
+
+    private ExchangeRateService cacheHitService;
+    private ExchangeRateService cacheMissService;
+
+    @Setup
+    public void setup() {
+        var treasuryApiClient = new StubTreasuryApiClient();
+
+        var cacheManager = new CaffeineCacheManager(EXCHANGE_RATE_CACHE);
+        cacheManager.getCache(EXCHANGE_RATE_CACHE).put(buildCacheKey(CURRENCY, TRANSACTION_DATE), new BigDecimal("5.5"));
+        cacheHitService = new ExchangeRateService(treasuryApiClient, cacheManager, new NoOpCacheWarmingService(cacheManager), new ExchangeRateStore());
+
+        var noOpCacheManager = new NoOpCacheManager();
+        cacheMissService = new ExchangeRateService(treasuryApiClient, noOpCacheManager, new NoOpCacheWarmingService(noOpCacheManager), new ExchangeRateStore());
+    }
+
+    @Benchmark
+    public BigDecimal cacheHit() {
+        return cacheHitService.getExchangeRate(CURRENCY, TRANSACTION_DATE);
+    }
+
+    @Benchmark
+    public BigDecimal cacheMiss() {
+        return cacheMissService.getExchangeRate(CURRENCY, TRANSACTION_DATE);
+    }
+
+    static class StubTreasuryApiClient extends TreasuryApiClient {
+
+        private final Optional<TreasuryExchangeRateResponse> response = Optional.of(new TreasuryExchangeRateResponse(
+                List.of(new TreasuryExchangeRateDataResponse(new BigDecimal("5.5"), LocalDate.of(2024, 6, 30)))));
+
+        StubTreasuryApiClient() {
+            super(null, null, null, null);
+        }
+
+        @Override
+        public Optional<TreasuryExchangeRateResponse> getTopExchangeRateByCurrencyInRecordDateRangeSortedByRecordDateDesc(final String currency, final LocalDate startDate, final LocalDate endDate) {
+            return response;
+        }
+    }
+
+    // Warming runs @Async in the application, so it is kept off the measured caller path.
+    static class NoOpCacheWarmingService extends CacheWarmingService {
+
+        NoOpCacheWarmingService(final CacheManager cacheManager) {
+            super(cacheManager);
+        }
+
+        @Override
+        public void warmExchangeRateCache(final String currency, final LocalDate transactionDate, final LocalDate recordDate, final BigDecimal value) {
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.lsgsma.transaction.store;
+
+import com.lsgsma.transaction.model.Transaction;
+import com.lsgsma.transaction.util.UuidV7;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Durable single-transaction inserts and lookups by id from 16 threads, comparing a file-backed H2 database
+// (one auto-committed INSERT per save, as the JPA repository issues it) with the append-only transaction log.
+// Both are preloaded with `rows` transactions.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Threads(16)
+@State(Scope.Benchmark)
+public class TransactionStoreBenchmark {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2015, 1, 1);
+    private static final int DAYS = 3_650;
+    private static final int PRELOAD_BATCH_SIZE = 1_000;
+    private static final String INSERT = "INSERT INTO transaction (id, description, transaction_date, purchase_amount) VALUES (?, ?, ?, ?)";
+    private static final String FIND_BY_ID = "SELECT id, description, transaction_date, purchase_amount FROM transaction WHERE id = ?";
+
+    @Param({"h2", "log"})
+    private String engine;
+
+    @Param({"1000000"})
+    private int rows;
+
+    private Path directory;
+    private UUID[] ids;
+    private LogTransactionStore logStore;
+    private final List<Connection> connections = new CopyOnWriteArrayList<>();
+    private ThreadLocal<Connection> connection;
+
+    @Setup
+    public void setup() throws IOException, SQLException {
+        directory = Files.createTempDirectory("transaction-store-benchmark");
+        ids = new UUID[rows];
+        if ("log".equals(engine)) {
+            logStore = new LogTransactionStore(directory, 64L * 1024 * 1024, 256);
+            // Concurrent saves, so the preload goes out in full group commits
+            try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (var i = 0; i < rows; i++) {
+                    var row = i;
+                    executor.submit(() -> ids[row] = logStore.save(randomTransaction()).getId());
+                }
+            }
+            return;
+        }
+        connection = ThreadLocal.withInitial(this::openConnection);
+        var preload = connection.get();
+        try (var statement = preload.createStatement()) {
+            statement.execute(migration("V1__create_transaction_table.sql"));
+            statement.execute(migration("V2__index_transaction_date.sql"));
+        }
+        preload.setAutoCommit(false);
+        try (var statement = preload.prepareStatement(INSERT)) {
+            for (var i = 0; i < rows; i++) {
+                var transaction = randomTransaction();
+                ids[i] = transaction.getId();
+                bind(statement, transaction);
+                statement.addBatch();
+                if ((i + 1) % PRELOAD_BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                    preload.commit();
+                }
+            }
+            statement.executeBatch();
+            preload.commit();
+        }
+        preload.setAutoCommit(true);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException, SQLException {
+        if (logStore != null) {
+            logStore.close();
+        }
+        for (var open : connections) {
+            open.close();
+        }
+        try (var files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    // Transactions durably stored per second
+    @Benchmark
+    public Transaction insert() throws SQLException {
+        var transaction = randomTransaction();
+        if (logStore != null) {
+            return logStore.save(transaction);
+        }
+        try (var statement = connection.get().prepareStatement(INSERT)) {
+            bind(statement, transaction);
+            statement.executeUpdate();
+        }
+        return transaction;
+    }
+
+    // Lookups per second of a random preloaded id
+    @Benchmark
+    public Optional<Transaction> findById() throws SQLException {
+        var id = ids[ThreadLocalRandom.current().nextInt(rows)];
+        if (logStore != null) {
+            return logStore.findById(id);
+        }
+        try (var statement = connection.get().prepareStatement(FIND_BY_ID)) {
+            statement.setObject(1, id);
+            try (var resultSet = statement.executeQuery()) {
+                return resultSet.next()
+                        ? Optional.of(new Transaction(resultSet.getObject(1, UUID.class), resultSet.getString(2),
+                                resultSet.getDate(3).toLocalDate(), resultSet.getBigDecimal(4)))
+                        : Optional.empty();
+            }
+        }
+    }
+
+    private Connection openConnection() {
+        try {
+            var opened = DriverManager.getConnection("jdbc:h2:file:" + directory.resolve("transaction") + ";CACHE_SIZE=262144", "sa", "");
+            connections.add(opened);
+            return opened;
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void bind(final PreparedStatement statement, final Transaction transaction) throws SQLException {
+        statement.setObject(1, transaction.getId());
+        statement.setString(2, transaction.getDescription());
+        statement.setDate(3, Date.valueOf(transaction.getTransactionDate()));
+        statement.setBigDecimal(4, transaction.getPurchaseAmount());
+    }
+
+    private static Transaction randomTransaction() {
+        var random = ThreadLocalRandom.current();
+        return new Transaction(UuidV7.randomUuid(), "Purchase " + random.nextInt(1_000_000),
+                FIRST_DATE.plusDays(random.nextInt(DAYS)), BigDecimal.valueOf(random.nextInt(1, 1_000_000), 2));
+    }
+
+    private static String migration(final String name) throws IOException {
+        try (var inputStream = TransactionStoreBenchmark.class.getResourceAsStream("/db/migration/" + name)) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.lsgsma.transaction.loadtest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+
+@Slf4j
+public class AotTrainingRun {
+
+    public static void main(String[] args) throws Exception {
+        var java = Path.of(System.getProperty("aot.java"));
+        var applicationJar = Path.of(System.getProperty("aot.application"));
+        var aotCache = Path.of(System.getProperty("aot.cache"));
+        var iterations = Integer.parseInt(System.getProperty("aot.training-iterations", "200"));
+
+        Files.deleteIfExists(aotCache);
+        var trainingLog = aotCache.resolveSibling("training.log");
+
+        try (var treasuryStub = new TreasuryStub(5, 5, 0.0)) {
+            treasuryStub.start();
+            try (var application = ApplicationProcess.start(java, applicationJar, List.of("-XX:AOTCacheOutput=" + aotCache),
+                    treasuryStub.baseUrl(), List.of(), trainingLog)) {
+                application.awaitReadiness(Duration.ofMinutes(2));
+                log.info("Application ready, running {} training iterations", iterations);
+
+                new TrainingWorkload(application.baseUrl(), JsonMapper.builder().build()).run(iterations);
+
+                log.info("Training workload finished, stopping the application to write the AOT cache");
+                application.stop(Duration.ofMinutes(5));
+            }
+        }
+
+        if (!Files.exists(aotCache)) {
+            throw new IllegalStateException("AOT cache was not created, see " + trainingLog);
+        }
+        log.info("AOT cache written to {} ({} MB)", aotCache, Files.size(aotCache) / (1024 * 1024));
+    }
+}
@@ -0,0 +1,108 @@
+package com.lsgsma.transaction.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// The application launched from the extracted boot jar in its own JVM, as done in production.
+public class ApplicationProcess implements AutoCloseable {
+
+    private static final Duration READINESS_POLL_INTERVAL = Duration.ofMillis(10);
+
+    private final Process process;
+    private final int serverPort;
+    private final int managementPort;
+    private final long startedAtNanos;
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    private ApplicationProcess(final Process process, final int serverPort, final int managementPort, final long startedAtNanos) {
+        this.process = process;
+        this.serverPort = serverPort;
+        this.managementPort = managementPort;
+        this.startedAtNanos = startedAtNanos;
+    }
+
+    public static ApplicationProcess start(final Path java, final Path applicationJar, final List<String> jvmArgs,
+                                          final String treasuryBaseUrl, final List<String> applicationArgs, final Path log) throws IOException {
+        var serverPort = freePort();
+        var managementPort = freePort();
+
+        var command = new ArrayList<String>();
+        command.add(java.toString());
+        command.addAll(jvmArgs);
+        command.add("-jar");
+        command.add(applicationJar.toString());
+        command.add("--server.port=" + serverPort);
+        command.add("--management.server.port=" + managementPort);
+        command.add("--api.treasury.base-url=" + treasuryBaseUrl);
+        command.addAll(applicationArgs);
+
+        var startedAtNanos = System.nanoTime();
+        var process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        return new ApplicationProcess(process, serverPort, managementPort, startedAtNanos);
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + serverPort;
+    }
+
+    public long startedAtNanos() {
+        return startedAtNanos;
+    }
+
+    public long awaitReadiness(final Duration timeout) throws InterruptedException {
+        var readinessRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + managementPort + "/actuator/health/readiness"))
+                .timeout(Duration.ofSeconds(1))
+                .GET()
+                .build();
+        var deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with code " + process.exitValue() + " before becoming ready");
+            }
+            try {
+                if (httpClient.send(readinessRequest, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return System.nanoTime();
+                }
+            } catch (IOException _) {
+                // Not listening yet
+            }
+            Thread.sleep(READINESS_POLL_INTERVAL);
+        }
+        throw new IllegalStateException("Application did not become ready within " + timeout);
+    }
+
+    // SIGTERM lets the JVM run its shutdown sequence, which is when an AOT cache output is written.
+    public int stop(final Duration timeout) throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            process.destroyForcibly();
+            throw new IllegalStateException("Application did not stop within " + timeout);
+        }
+        return process.exitValue();
+    }
+
+    @Override
+    public void close() {
+        if (process.isAlive()) {
+            process.destroyForcibly();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (var socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.lsgsma.transaction.loadtest;
+
+import com.lsgsma.transaction.TransactionApplication;
+import com.lsgsma.transaction.infra.ExchangeRateStore;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+@Slf4j
+public class LoadBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        var settings = LoadBenchmarkSettings.fromSystemProperties();
+        var objectMapper = JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build();
+
+        LoadBenchmarkReport report;
+        try (var treasuryStub = new TreasuryStub(settings.treasuryLatencyMillis(), settings.treasuryLatencyJitterMillis(), settings.treasuryErrorRate())) {
+            treasuryStub.start();
+            try (var application = startApplication(treasuryStub.baseUrl())) {
+                var port = application.getEnvironment().getRequiredProperty("local.server.port");
+                var loadGenerator = new LoadGenerator("http://localhost:" + port, objectMapper);
+                loadGenerator.seed(settings.seedTransactions());
+
+                var results = new LinkedHashMap<String, ScenarioResult>();
+                for (var scenarioName : settings.scenarios()) {
+                    var scenario = Scenario.of(scenarioName, settings);
+                    if (scenario.coldCache()) {
+                        resetCaches(application);
+                    }
+                    log.info("Running scenario '{}'", scenarioName);
+                    var result = loadGenerator.run(scenario, treasuryStub);
+                    log.info("{}", result);
+                    results.put(scenarioName, result);
+                }
+                report = new LoadBenchmarkReport(Instant.now().toString(), gitCommit(), settings, results);
+            }
+        }
+
+        Files.createDirectories(settings.report().toAbsolutePath().getParent());
+        objectMapper.writeValue(settings.report().toFile(), report);
+        log.info("Load benchmark report written to {}", settings.report());
+
+        if (settings.updateBaseline()) {
+            objectMapper.writeValue(settings.baseline().toFile(), report);
+            log.info("Baseline updated at {}", settings.baseline());
+            return;
+        }
+        if (!Files.exists(settings.baseline())) {
+            log.warn("No baseline found at {}, run with -Pbenchmark.update-baseline=true to store one", settings.baseline());
+            return;
+        }
+
+        var regressions = report.regressionsAgainst(readBaseline(objectMapper, settings), settings.tolerance());
+        if (!regressions.isEmpty()) {
+            regressions.forEach(regression -> log.error("Regression: {}", regression));
+            System.exit(1);
+        }
+        log.info("No regression against baseline {} (tolerance {})", settings.baseline(), settings.tolerance());
+    }
+
+    private static ConfigurableApplicationContext startApplication(final String treasuryBaseUrl) {
+        return SpringApplication.run(TransactionApplication.class,
+                "--server.port=0",
+                "--management.server.port=0",
+                "--api.treasury.base-url=" + treasuryBaseUrl,
+                "--logging.level.root=WARN",
+                "--logging.level.com.lsgsma=WARN",
+                "--logging.level.com.lsgsma.transaction.loadtest=INFO");
+    }
+
+    private static void resetCaches(final ConfigurableApplicationContext application) {
+        var cacheManager = application.getBean(CacheManager.class);
+        cacheManager.getCacheNames()
+                .forEach(cacheName -> Objects.requireNonNull(cacheManager.getCache(cacheName)).clear());
+        application.getBean(ExchangeRateStore.class).clear();
+        application.getBean(CircuitBreaker.class).reset();
+    }
+
+    private static LoadBenchmarkReport readBaseline(final ObjectMapper objectMapper, final LoadBenchmarkSettings settings) {
+        return objectMapper.readValue(settings.baseline().toFile(), LoadBenchmarkReport.class);
+    }
+
+    private static String gitCommit() {
+        try {
+            var process = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").start();
+            var commit = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            return process.waitFor() == 0 ? commit : "unknown";
+        } catch (IOException _) {
+            return "unknown";
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.lsgsma.transaction.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public record LoadBenchmarkReport(
+        String createdAt,
+        String gitCommit,
+        LoadBenchmarkSettings settings,
+        Map<String, ScenarioResult> scenarios
+) {
+
+    public List<String> regressionsAgainst(final LoadBenchmarkReport baseline, final double tolerance) {
+        var regressions = new ArrayList<String>();
+        scenarios.forEach((name, current) -> {
+            var previous = baseline.scenarios().get(name);
+            if (previous == null) {
+                return;
+            }
+            if (current.throughput() < previous.throughput() * (1 - tolerance)) {
+                regressions.add("%s: throughput dropped from %.1f to %.1f req/s".formatted(name, previous.throughput(), current.throughput()));
+            }
+            if (current.p99Millis() > previous.p99Millis() * (1 + tolerance)) {
+                regressions.add("%s: p99 latency grew from %.2f to %.2f ms".formatted(name, previous.p99Millis(), current.p99Millis()));
+            }
+            if (current.errorRate() > previous.errorRate() + tolerance / 10) {
+                regressions.add("%s: error rate grew from %.4f to %.4f".formatted(name, previous.errorRate(), current.errorRate()));
+            }
+        });
+        return regressions;
+    }
+}
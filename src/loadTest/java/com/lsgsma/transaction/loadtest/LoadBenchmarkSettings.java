@@ -0,0 +1,46 @@
+package com.lsgsma.transaction.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+public record LoadBenchmarkSettings(
+        List<String> scenarios,
+        int concurrency,
+        Duration duration,
+        Duration soakDuration,
+        int seedTransactions,
+        int treasuryLatencyMillis,
+        int treasuryLatencyJitterMillis,
+        double treasuryErrorRate,
+        Path baseline,
+        Path report,
+        boolean updateBaseline,
+        double tolerance
+) {
+
+    public static LoadBenchmarkSettings fromSystemProperties() {
+        return new LoadBenchmarkSettings(
+                Arrays.stream(property("benchmark.scenarios", "cold-cache,warm-cache,spike,soak").split(","))
+                        .map(String::trim)
+                        .filter(scenario -> !scenario.isEmpty())
+                        .toList(),
+                Integer.parseInt(property("benchmark.concurrency", "100")),
+                Duration.ofSeconds(Long.parseLong(property("benchmark.duration-seconds", "30"))),
+                Duration.ofSeconds(Long.parseLong(property("benchmark.soak-duration-seconds", "300"))),
+                Integer.parseInt(property("benchmark.seed-transactions", "500")),
+                Integer.parseInt(property("benchmark.treasury.latency-ms", "500")),
+                Integer.parseInt(property("benchmark.treasury.latency-jitter-ms", "100")),
+                Double.parseDouble(property("benchmark.treasury.error-rate", "0.0")),
+                Path.of(property("benchmark.baseline", "performance-tests/load-benchmark-baseline.json")),
+                Path.of(property("benchmark.report", "build/reports/load-benchmark/results.json")),
+                Boolean.parseBoolean(property("benchmark.update-baseline", "false")),
+                Double.parseDouble(property("benchmark.tolerance", "0.15"))
+        );
+    }
+
+    private static String property(final String name, final String defaultValue) {
+        return System.getProperty(name, defaultValue);
+    }
+}
@@ -0,0 +1,146 @@
+package com.lsgsma.transaction.loadtest;
+
+import com.lsgsma.transaction.dto.response.CreateTransactionResponse;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Recorder;
+import tools.jackson.databind.ObjectMapper;
+
+// Closed-model load generator: every virtual user runs on its own virtual thread and issues requests back to back.
+public class LoadGenerator {
+
+    private static final List<String> CURRENCIES = List.of("Brazil-Real", "Japan-Yen", "Canada-Dollar", "United Kingdom-Pound", "Mexico-Peso");
+    private static final double READ_RATIO = 0.8;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final List<UUID> transactionIds = new ArrayList<>();
+
+    public LoadGenerator(final String baseUrl, final ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public void seed(final int transactions) throws InterruptedException {
+        var ids = new ConcurrentLinkedQueue<UUID>();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (var i = 0; i < transactions; i++) {
+                var index = i;
+                executor.submit(() -> {
+                    var response = httpClient.send(createTransactionRequest("Seed Transaction " + index, LocalDate.now().minusDays(index % 730)),
+                            HttpResponse.BodyHandlers.ofString());
+                    ids.add(objectMapper.readValue(response.body(), CreateTransactionResponse.class).id());
+                    return null;
+                });
+            }
+        }
+        transactionIds.addAll(ids);
+        if (transactionIds.isEmpty()) {
+            throw new IllegalStateException("Could not seed any transaction");
+        }
+    }
+
+    public ScenarioResult run(final Scenario scenario, final TreasuryStub treasuryStub) throws InterruptedException {
+        var recorder = new Recorder(3);
+        var requests = new LongAdder();
+        var errors = new LongAdder();
+        var measuredNanos = 0L;
+        var upstreamCalls = 0L;
+        var upstreamErrors = 0L;
+
+        for (var phase : scenario.phases()) {
+            var upstreamBefore = treasuryStub.requestCount();
+            var upstreamErrorsBefore = treasuryStub.injectedErrorCount();
+            var start = System.nanoTime();
+            var deadline = start + phase.duration().toNanos();
+            try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (var user = 0; user < phase.concurrency(); user++) {
+                    executor.submit(() -> {
+                        while (System.nanoTime() < deadline) {
+                            var requestStart = System.nanoTime();
+                            var success = execute();
+                            if (phase.measured()) {
+                                recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - requestStart));
+                                requests.increment();
+                                if (!success) {
+                                    errors.increment();
+                                }
+                            }
+                        }
+                    });
+                }
+            }
+            if (phase.measured()) {
+                measuredNanos += System.nanoTime() - start;
+                upstreamCalls += treasuryStub.requestCount() - upstreamBefore;
+                upstreamErrors += treasuryStub.injectedErrorCount() - upstreamErrorsBefore;
+            }
+        }
+
+        var histogram = recorder.getIntervalHistogram();
+        return new ScenarioResult(
+                scenario.name(),
+                requests.sum(),
+                errors.sum(),
+                requests.sum() / (measuredNanos / 1_000_000_000.0),
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(90) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0,
+                upstreamCalls,
+                upstreamErrors);
+    }
+
+    private boolean execute() {
+        var random = ThreadLocalRandom.current();
+        var request = random.nextDouble() < READ_RATIO
+                ? convertTransactionRequest(transactionIds.get(random.nextInt(transactionIds.size())), CURRENCIES.get(random.nextInt(CURRENCIES.size())))
+                : createTransactionRequest("Load Benchmark Write", LocalDate.now().minusDays(random.nextInt(365)));
+        try {
+            var status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            return status < 400;
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception _) {
+            return false;
+        }
+    }
+
+    private HttpRequest createTransactionRequest(final String description, final LocalDate transactionDate) {
+        var body = "{\"description\":\"" + description + "\",\"transactionDate\":\"" + transactionDate + "\",\"purchaseAmount\":123.45}";
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/transaction"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest convertTransactionRequest(final UUID id, final String currency) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/transaction/" + id + "?currency=" + URLEncoder.encode(currency, StandardCharsets.UTF_8)))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+    }
+}
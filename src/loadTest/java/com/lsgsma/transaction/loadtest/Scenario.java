@@ -0,0 +1,28 @@
+package com.lsgsma.transaction.loadtest;
+
+import java.time.Duration;
+import java.util.List;
+
+public record Scenario(String name, boolean coldCache, List<Phase> phases) {
+
+    public record Phase(Duration duration, int concurrency, boolean measured) {}
+
+    public static Scenario of(final String name, final LoadBenchmarkSettings settings) {
+        var duration = settings.duration();
+        var concurrency = settings.concurrency();
+        return switch (name) {
+            case "cold-cache" -> new Scenario(name, true, List.of(
+                    new Phase(duration, concurrency, true)));
+            case "warm-cache" -> new Scenario(name, false, List.of(
+                    new Phase(duration.dividedBy(2), concurrency, false),
+                    new Phase(duration, concurrency, true)));
+            case "spike" -> new Scenario(name, false, List.of(
+                    new Phase(duration.dividedBy(3), Math.max(1, concurrency / 10), true),
+                    new Phase(duration.dividedBy(3), concurrency * 3, true),
+                    new Phase(duration.dividedBy(3), Math.max(1, concurrency / 10), true)));
+            case "soak" -> new Scenario(name, false, List.of(
+                    new Phase(settings.soakDuration(), concurrency, true)));
+            default -> throw new IllegalArgumentException("Unknown scenario: " + name);
+        };
+    }
+}
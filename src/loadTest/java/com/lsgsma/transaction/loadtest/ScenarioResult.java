@@ -0,0 +1,20 @@
+package com.lsgsma.transaction.loadtest;
+
+public record ScenarioResult(
+        String name,
+        long requests,
+        long errors,
+        double throughput,
+        double p50Millis,
+        double p90Millis,
+        double p99Millis,
+        double p999Millis,
+        double maxMillis,
+        long upstreamCalls,
+        long upstreamErrors
+) {
+
+    public double errorRate() {
+        return requests == 0 ? 0 : (double) errors / requests;
+    }
+}
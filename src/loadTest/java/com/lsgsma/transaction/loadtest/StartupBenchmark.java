@@ -0,0 +1,78 @@
+package com.lsgsma.transaction.loadtest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+// Compares time-to-ready and time-to-first-request of the extracted application with and without the AOT cache.
+@Slf4j
+public class StartupBenchmark {
+
+    public record StartupResult(String mode, int runs, double medianReadyMillis, double medianFirstRequestMillis,
+                                double minReadyMillis, double minFirstRequestMillis) {}
+
+    public static void main(String[] args) throws Exception {
+        var java = Path.of(System.getProperty("aot.java"));
+        var applicationJar = Path.of(System.getProperty("aot.application"));
+        var aotCache = Path.of(System.getProperty("aot.cache"));
+        var runs = Integer.parseInt(System.getProperty("startup.runs", "5"));
+        var report = Path.of(System.getProperty("startup.report", "build/reports/startup-benchmark/results.json"));
+        var objectMapper = JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build();
+
+        var modes = new LinkedHashMap<String, List<String>>();
+        modes.put("default", List.of());
+        if (Files.exists(aotCache)) {
+            modes.put("aot-cache", List.of("-XX:AOTCache=" + aotCache));
+        } else {
+            log.warn("No AOT cache found at {}, run ./gradlew aotCacheTraining first", aotCache);
+        }
+
+        var results = new LinkedHashMap<String, StartupResult>();
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        try (var treasuryStub = new TreasuryStub(0, 0, 0.0)) {
+            treasuryStub.start();
+            for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+                var readyMillis = new double[runs];
+                var firstRequestMillis = new double[runs];
+                for (var run = 0; run < runs; run++) {
+                    var runLog = report.resolveSibling("startup-" + mode.getKey() + "-" + run + ".log");
+                    try (var application = ApplicationProcess.start(java, applicationJar, mode.getValue(), treasuryStub.baseUrl(),
+                            List.of("--exchange-rate.preload.enabled=false"), runLog)) {
+                        var readyAt = application.awaitReadiness(Duration.ofMinutes(2));
+                        new TrainingWorkload(application.baseUrl(), objectMapper).storeAndConvert(run);
+                        var firstRequestAt = System.nanoTime();
+
+                        readyMillis[run] = (readyAt - application.startedAtNanos()) / 1_000_000.0;
+                        firstRequestMillis[run] = (firstRequestAt - application.startedAtNanos()) / 1_000_000.0;
+                        application.stop(Duration.ofSeconds(30));
+                    }
+                    log.info("[{}] run {}: ready after {} ms, first conversion served after {} ms",
+                            mode.getKey(), run, readyMillis[run], firstRequestMillis[run]);
+                }
+                results.put(mode.getKey(), new StartupResult(mode.getKey(), runs,
+                        median(readyMillis), median(firstRequestMillis),
+                        Arrays.stream(readyMillis).min().orElse(0), Arrays.stream(firstRequestMillis).min().orElse(0)));
+            }
+        }
+
+        objectMapper.writeValue(report.toFile(), new ArrayList<>(results.values()));
+        results.values().forEach(result -> log.info("{}", result));
+        log.info("Startup benchmark report written to {}", report);
+    }
+
+    private static double median(final double[] values) {
+        var sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted.length % 2 == 1
+                ? sorted[sorted.length / 2]
+                : (sorted[sorted.length / 2 - 1] + sorted[sorted.length / 2]) / 2;
+    }
+}
@@ -0,0 +1,67 @@
+package com.lsgsma.transaction.loadtest;
+
+import com.lsgsma.transaction.dto.response.CreateTransactionResponse;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import tools.jackson.databind.ObjectMapper;
+
+// Exercises the POST/GET paths (success, conversion, not found and validation errors) the way real clients do.
+public class TrainingWorkload {
+
+    private static final List<String> CURRENCIES = List.of("Brazil-Real", "Japan-Yen", "Canada-Dollar", "United Kingdom-Pound", "Mexico-Peso");
+
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    public TrainingWorkload(final String baseUrl, final ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+    }
+
+    public UUID storeAndConvert(final int iteration) throws IOException, InterruptedException {
+        var created = send(post("/transaction", "{\"description\":\"Training " + iteration + "\",\"transactionDate\":\""
+                + LocalDate.now().minusDays(iteration % 365) + "\",\"purchaseAmount\":" + (10 + iteration) + ".45}"), 201);
+        var id = objectMapper.readValue(created, CreateTransactionResponse.class).id();
+        send(get("/transaction/" + id + "?currency=" + URLEncoder.encode(CURRENCIES.get(iteration % CURRENCIES.size()), StandardCharsets.UTF_8)), 200);
+        return id;
+    }
+
+    public void run(final int iterations) throws IOException, InterruptedException {
+        for (var i = 0; i < iterations; i++) {
+            var id = storeAndConvert(i);
+            send(get("/transaction/" + id), 200);
+            send(get("/transaction/" + UUID.randomUUID() + "?currency=Brazil-Real"), 404);
+            send(get("/transaction/invalid"), 400);
+            send(post("/transaction", "{\"description\":\"\",\"transactionDate\":\"2999-01-01\",\"purchaseAmount\":0}"), 400);
+        }
+    }
+
+    private HttpRequest post(final String path, final String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest get(final String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+    }
+
+    private String send(final HttpRequest request, final int expectedStatus) throws IOException, InterruptedException {
+        var response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException("Expected HTTP " + expectedStatus + " from " + request.uri() + " but got " + response.statusCode() + ": " + response.body());
+        }
+        return response.body();
+    }
+}
@@ -0,0 +1,154 @@
+package com.lsgsma.transaction.loadtest;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformerV2;
+import com.github.tomakehurst.wiremock.http.QueryParameter;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+
+// Local stand-in for the Treasury Rates of Exchange API: one record per quarter end for every currency.
+public class TreasuryStub implements AutoCloseable {
+
+    private static final String RATES_OF_EXCHANGE_PATH = "/v1/accounting/od/rates_of_exchange";
+
+    private final WireMockServer server;
+    private final RatesTransformer transformer;
+
+    public TreasuryStub(final int latencyMillis, final int latencyJitterMillis, final double errorRate) {
+        this.transformer = new RatesTransformer(latencyMillis, latencyJitterMillis, errorRate);
+        this.server = new WireMockServer(wireMockConfig()
+                .dynamicPort()
+                .containerThreads(200)
+                .extensions(transformer));
+    }
+
+    public void start() {
+        server.start();
+        server.stubFor(get(urlPathEqualTo(RATES_OF_EXCHANGE_PATH)).willReturn(aResponse().withStatus(200)));
+    }
+
+    public String baseUrl() {
+        return server.baseUrl();
+    }
+
+    public long requestCount() {
+        return transformer.requests.get();
+    }
+
+    public long injectedErrorCount() {
+        return transformer.injectedErrors.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop();
+    }
+
+    static class RatesTransformer implements ResponseDefinitionTransformerV2 {
+
+        private final int latencyMillis;
+        private final int latencyJitterMillis;
+        private final double errorRate;
+
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong injectedErrors = new AtomicLong();
+
+        RatesTransformer(final int latencyMillis, final int latencyJitterMillis, final double errorRate) {
+            this.latencyMillis = latencyMillis;
+            this.latencyJitterMillis = latencyJitterMillis;
+            this.errorRate = errorRate;
+        }
+
+        @Override
+        public String getName() {
+            return "treasury-rates";
+        }
+
+        @Override
+        public ResponseDefinition transform(final ServeEvent serveEvent) {
+            requests.incrementAndGet();
+            var response = ResponseDefinitionBuilder.responseDefinition()
+                    .withUniformRandomDelay(Math.max(0, latencyMillis - latencyJitterMillis), latencyMillis + latencyJitterMillis)
+                    .withHeader("Content-Type", "application/json");
+
+            if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+                injectedErrors.incrementAndGet();
+                return response.withStatus(500).withBody("{\"error\":\"Injected failure\"}").build();
+            }
+
+            var request = serveEvent.getRequest();
+            return response.withStatus(200)
+                    .withBody(buildBody(request.queryParameter("filter"), request.queryParameter("sort"), request.queryParameter("page[size]")))
+                    .build();
+        }
+
+        private String buildBody(final QueryParameter filter, final QueryParameter sort, final QueryParameter pageSize) {
+            if (!filter.isPresent()) {
+                return "{\"data\":[]}";
+            }
+
+            var currency = "";
+            var startDate = LocalDate.MIN;
+            var endDate = LocalDate.now();
+            for (var condition : filter.firstValue().split(",")) {
+                if (condition.startsWith("country_currency_desc:eq:")) {
+                    currency = condition.substring("country_currency_desc:eq:".length());
+                } else if (condition.startsWith("record_date:gte:")) {
+                    startDate = LocalDate.parse(condition.substring("record_date:gte:".length()));
+                } else if (condition.startsWith("record_date:lte:")) {
+                    endDate = LocalDate.parse(condition.substring("record_date:lte:".length()));
+                }
+            }
+
+            var recordDates = new ArrayList<LocalDate>();
+            for (var quarterEnd = firstQuarterEndOnOrAfter(startDate); !quarterEnd.isAfter(endDate); quarterEnd = nextQuarterEnd(quarterEnd)) {
+                recordDates.add(quarterEnd);
+            }
+            if (sort.isPresent() && sort.firstValue().startsWith("-")) {
+                Collections.reverse(recordDates);
+            }
+            var limit = pageSize.isPresent() ? Integer.parseInt(pageSize.firstValue()) : recordDates.size();
+
+            var body = new StringBuilder("{\"data\":[");
+            for (var i = 0; i < Math.min(limit, recordDates.size()); i++) {
+                if (i > 0) {
+                    body.append(',');
+                }
+                var recordDate = recordDates.get(i);
+                body.append("{\"exchange_rate\":\"").append(rateFor(currency, recordDate).toPlainString())
+                        .append("\",\"record_date\":\"").append(recordDate).append("\"}");
+            }
+            return body.append("]}").toString();
+        }
+
+        private static BigDecimal rateFor(final String currency, final LocalDate recordDate) {
+            var base = 1 + Math.floorMod(currency.hashCode(), 500);
+            var drift = Math.floorMod(recordDate.hashCode(), 100);
+            return BigDecimal.valueOf(base * 100L + drift, 2).setScale(3, RoundingMode.HALF_UP);
+        }
+
+        private static LocalDate firstQuarterEndOnOrAfter(final LocalDate date) {
+            var clamped = date.isBefore(LocalDate.of(2000, 1, 1)) ? LocalDate.of(2000, 1, 1) : date;
+            var quarterEnd = clamped.withMonth(((clamped.getMonthValue() - 1) / 3) * 3 + 3);
+            return quarterEnd.withDayOfMonth(quarterEnd.lengthOfMonth());
+        }
+
+        private static LocalDate nextQuarterEnd(final LocalDate quarterEnd) {
+            var next = quarterEnd.plusMonths(3);
+            return next.withDayOfMonth(next.lengthOfMonth());
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.lsgsma.transaction.client;
+
+import com.lsgsma.transaction.config.TreasuryConcurrencyLimitProperties;
+import com.lsgsma.transaction.exception.TreasuryApiUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+// AIMD limit on concurrent Treasury requests. The limit grows by one while round trips stay close to the
+// lowest observed RTT and shrinks by backoffRatio when they inflate (queueing upstream) or a request fails.
+// Callers over the limit wait up to queueTimeout for a permit instead of all going to the wire.
+@Component
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    private final TreasuryConcurrencyLimitProperties properties;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+    private final Counter rejections;
+
+    private double limit;
+    private int inFlight;
+    private int queued;
+    private long minRttNanos = Long.MAX_VALUE;
+    private int samplesSinceMinRttReset;
+
+    public AdaptiveConcurrencyLimiter(final TreasuryConcurrencyLimitProperties properties, final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.limit = properties.initialLimit();
+        this.rejections = Counter.builder("treasury.client.limit.rejections")
+                .description("Treasury API calls rejected after waiting for a concurrency permit")
+                .register(meterRegistry);
+        Gauge.builder("treasury.client.limit", this, AdaptiveConcurrencyLimiter::limit)
+                .description("Current adaptive concurrency limit for Treasury API calls")
+                .register(meterRegistry);
+        Gauge.builder("treasury.client.inflight", this, AdaptiveConcurrencyLimiter::inFlight)
+                .description("Treasury API calls currently on the wire")
+                .register(meterRegistry);
+        Gauge.builder("treasury.client.queue", this, AdaptiveConcurrencyLimiter::queued)
+                .description("Treasury API calls waiting for a concurrency permit")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(final Supplier<T> request) {
+        if (!properties.enabled()) {
+            return request.get();
+        }
+
+        acquire();
+        var start = System.nanoTime();
+        var dropped = true;
+        try {
+            var response = request.get();
+            dropped = false;
+            return response;
+        } catch (HttpClientErrorException e) {
+            // The Treasury API answered, the request itself was rejected
+            dropped = false;
+            throw e;
+        } finally {
+            if (Thread.currentThread().isInterrupted()) {
+                // Cancelled by the caller (e.g. a hedge won), says nothing about the upstream
+                release();
+            } else {
+                release(System.nanoTime() - start, dropped);
+            }
+        }
+    }
+
+    int limit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int queued() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void acquire() {
+        lock.lock();
+        try {
+            var remainingNanos = properties.queueTimeout().toNanos();
+            queued++;
+            try {
+                while (inFlight >= (int) limit) {
+                    if (remainingNanos <= 0) {
+                        rejections.increment();
+                        log.warn("Treasury API concurrency limit {} reached, rejecting call after {} ms in queue",
+                                (int) limit, properties.queueTimeout().toMillis());
+                        throw new TreasuryApiUnavailableException("Treasury API concurrency limit reached", properties.queueTimeout());
+                    }
+                    remainingNanos = permitReleased.awaitNanos(remainingNanos);
+                }
+            } finally {
+                queued--;
+            }
+            inFlight++;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Interrupted while waiting for a Treasury API permit");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void release() {
+        lock.lock();
+        try {
+            inFlight--;
+            permitReleased.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void release(final long rttNanos, final boolean dropped) {
+        lock.lock();
+        try {
+            var wasSaturated = inFlight * 2 >= limit;
+            inFlight--;
+            var previousLimit = (int) limit;
+            adjustLimit(rttNanos, dropped, wasSaturated);
+            if ((int) limit > previousLimit) {
+                permitReleased.signalAll();
+            } else {
+                permitReleased.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void adjustLimit(final long rttNanos, final boolean dropped, final boolean wasSaturated) {
+        if (dropped) {
+            decreaseLimit();
+            return;
+        }
+
+        // The baseline is re-learnt periodically so a permanently slower upstream does not pin the limit to the minimum
+        if (++samplesSinceMinRttReset >= properties.minRttResetSamples()) {
+            samplesSinceMinRttReset = 0;
+            minRttNanos = rttNanos;
+        } else {
+            minRttNanos = Math.min(minRttNanos, rttNanos);
+        }
+
+        if (rttNanos > minRttNanos * properties.rttTolerance()) {
+            decreaseLimit();
+        } else if (wasSaturated) {
+            // Only grow while the limit is actually being used
+            limit = Math.min(properties.maxLimit(), limit + 1);
+        }
+    }
+
+    private void decreaseLimit() {
+        limit = Math.max(properties.minLimit(), limit * properties.backoffRatio());
+    }
+}
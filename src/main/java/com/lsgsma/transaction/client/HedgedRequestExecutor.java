@@ -0,0 +1,160 @@
+package com.lsgsma.transaction.client;
+
+import com.lsgsma.transaction.config.TreasuryHedgingProperties;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+
+// Fires a second identical request when the first one is slower than the observed latency percentile,
+// keeps whichever succeeds first and interrupts the other one. Hedges are paid from a token bucket: every call
+// adds maxHedgeRatio tokens, a hedge spends one, and the bucket holds at most MAX_HEDGE_TOKENS, so a long healthy
+// period cannot save up hedges for the next incident.
+@Component
+@Slf4j
+public class HedgedRequestExecutor {
+
+    private static final double MAX_HEDGE_TOKENS = 1.0;
+
+    private final TreasuryHedgingProperties properties;
+    private final LatencyTracker latencyTracker;
+    private final ContextSnapshotFactory contextSnapshotFactory = ContextSnapshotFactory.builder().build();
+
+    private final Counter calls;
+    private final Counter hedgesIssued;
+    private final Counter hedgesWon;
+    private final ReentrantLock hedgeBudgetLock = new ReentrantLock();
+
+    private double hedgeTokens;
+
+    public HedgedRequestExecutor(final TreasuryHedgingProperties properties, final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.latencyTracker = new LatencyTracker(properties.latencyWindowSize(), properties.delayPercentile());
+        this.calls = Counter.builder("treasury.client.calls")
+                .description("Logical calls made to the Treasury API")
+                .register(meterRegistry);
+        this.hedgesIssued = Counter.builder("treasury.client.hedges")
+                .tag("result", "issued")
+                .description("Hedged requests sent to the Treasury API")
+                .register(meterRegistry);
+        this.hedgesWon = Counter.builder("treasury.client.hedges")
+                .tag("result", "won")
+                .description("Hedged requests that returned before the original request")
+                .register(meterRegistry);
+        Gauge.builder("treasury.client.hedge.delay", this, executor -> executor.hedgeDelayNanos() / 1_000_000.0)
+                .baseUnit("milliseconds")
+                .description("Current delay before a hedged request is sent")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(final Supplier<T> request) {
+        calls.increment();
+        if (!properties.enabled()) {
+            var start = System.nanoTime();
+            try {
+                return request.get();
+            } finally {
+                latencyTracker.record(System.nanoTime() - start);
+            }
+        }
+
+        earnHedgeToken();
+        var outcome = new CompletableFuture<T>();
+        var attempts = new AtomicInteger(1);
+        var failures = new AtomicInteger();
+        var primaryStart = System.nanoTime();
+        var primary = startAttempt(request, outcome, attempts, failures, false);
+        Thread hedge = null;
+        try {
+            try {
+                var value = outcome.get(hedgeDelayNanos(), TimeUnit.NANOSECONDS);
+                latencyTracker.record(System.nanoTime() - primaryStart);
+                return value;
+            } catch (TimeoutException _) {
+                // The primary request is slower than usual
+            }
+
+            if (!outcome.isDone() && spendHedgeToken()) {
+                attempts.incrementAndGet();
+                hedgesIssued.increment();
+                log.debug("Treasury API call slower than {} ms, sending hedged request", hedgeDelayNanos() / 1_000_000);
+                hedge = startAttempt(request, outcome, attempts, failures, true);
+            }
+            var value = outcome.get();
+            latencyTracker.record(System.nanoTime() - primaryStart);
+            return value;
+        } catch (ExecutionException e) {
+            latencyTracker.record(System.nanoTime() - primaryStart);
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Interrupted while waiting for the Treasury API");
+        } finally {
+            primary.interrupt();
+            if (hedge != null) {
+                hedge.interrupt();
+            }
+        }
+    }
+
+    long hedgeDelayNanos() {
+        var percentileNanos = latencyTracker.percentileNanos();
+        if (percentileNanos < 0) {
+            return properties.maxDelay().toNanos();
+        }
+        return Math.clamp(percentileNanos, properties.minDelay().toNanos(), properties.maxDelay().toNanos());
+    }
+
+    private void earnHedgeToken() {
+        hedgeBudgetLock.lock();
+        try {
+            hedgeTokens = Math.min(MAX_HEDGE_TOKENS, hedgeTokens + properties.maxHedgeRatio());
+        } finally {
+            hedgeBudgetLock.unlock();
+        }
+    }
+
+    private boolean spendHedgeToken() {
+        hedgeBudgetLock.lock();
+        try {
+            if (hedgeTokens < 1) {
+                return false;
+            }
+            hedgeTokens--;
+            return true;
+        } finally {
+            hedgeBudgetLock.unlock();
+        }
+    }
+
+    private <T> Thread startAttempt(final Supplier<T> request, final CompletableFuture<T> outcome,
+                                    final AtomicInteger attempts, final AtomicInteger failures, final boolean hedged) {
+        Runnable attempt = () -> {
+            try {
+                if (outcome.complete(request.get()) && hedged) {
+                    hedgesWon.increment();
+                }
+            } catch (RuntimeException e) {
+                if (failures.incrementAndGet() >= attempts.get()) {
+                    outcome.completeExceptionally(e);
+                }
+            }
+        };
+        return Thread.ofVirtual()
+                .name(hedged ? "treasury-hedge" : "treasury-primary")
+                .start(contextSnapshotFactory.captureAll().wrap(attempt));
+    }
+}
@@ -0,0 +1,47 @@
+package com.lsgsma.transaction.client;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Sliding window of the most recent latencies; the percentile is recomputed every few samples only.
+public class LatencyTracker {
+
+    private static final int RECOMPUTE_EVERY = 32;
+
+    private final long[] samples;
+    private final double percentile;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private int count;
+    private int next;
+    private int sinceLastComputation;
+    private volatile long percentileNanos = -1;
+
+    public LatencyTracker(final int windowSize, final double percentile) {
+        this.samples = new long[windowSize];
+        this.percentile = percentile;
+    }
+
+    public void record(final long latencyNanos) {
+        lock.lock();
+        try {
+            samples[next] = latencyNanos;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+            if (++sinceLastComputation >= RECOMPUTE_EVERY || percentileNanos < 0) {
+                sinceLastComputation = 0;
+                var window = Arrays.copyOf(samples, count);
+                Arrays.sort(window);
+                var index = (int) Math.ceil(percentile / 100 * count) - 1;
+                percentileNanos = window[Math.clamp(index, 0, count - 1)];
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Negative until the first sample is recorded.
+    public long percentileNanos() {
+        return percentileNanos;
+    }
+}
@@ -1,11 +1,14 @@
 package com.lsgsma.transaction.client;
 
 import com.lsgsma.transaction.dto.client.response.TreasuryExchangeRateResponse;
+import com.lsgsma.transaction.exception.TreasuryApiUnavailableException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
@@ -15,13 +18,17 @@ import org.springframework.web.client.RestClientException;
 @Slf4j
 public class TreasuryApiClient {
 
+    private static final int MAX_PAGE_SIZE = 10000;
+
     private final RestClient treasuryRestClient;
+    private final HedgedRequestExecutor hedgedRequestExecutor;
+    private final CircuitBreaker treasuryCircuitBreaker;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
 
-    @Cacheable("getTopExchangeRateByCurrencyInRecordDateRangeSortedByRecordDateDesc")
     public Optional<TreasuryExchangeRateResponse> getTopExchangeRateByCurrencyInRecordDateRangeSortedByRecordDateDesc(final String currency, final LocalDate startDate, final LocalDate endDate) {
         log.info("Calling TreasuryAPI for currency: '{}' on interval from {} to {}", currency, startDate, endDate);
         try {
-            var response = treasuryRestClient.get()
+            var response = treasuryCircuitBreaker.executeSupplier(() -> hedgedRequestExecutor.execute(() -> concurrencyLimiter.execute(() -> treasuryRestClient.get()
                     .uri("/v1/accounting/od/rates_of_exchange", uriBuilder -> uriBuilder
                             .queryParam("fields", "exchange_rate,record_date")
                             .queryParam("filter", "country_currency_desc:eq:" + currency + ",record_date:gte:" + startDate + ",record_date:lte:" + endDate)
@@ -29,12 +36,42 @@ public class TreasuryApiClient {
                             .queryParam("page[size]", 1)
                             .build())
                     .retrieve()
-                    .body(TreasuryExchangeRateResponse.class);
+                    .body(TreasuryExchangeRateResponse.class))));
             log.info("Successfully received the response from the TreasuryAPI for currency '{}'", currency);
             return Optional.ofNullable(response);
+        } catch (CallNotPermittedException _) {
+            throw unavailable(currency);
         } catch (RestClientException e) {
             log.error("Error calling Treasury API for currency {}: {}", currency, e.getMessage());
             return Optional.empty();
         }
     }
+
+    public Optional<TreasuryExchangeRateResponse> getExchangeRatesByCurrencyInRecordDateRangeSortedByRecordDateDesc(final String currency, final LocalDate startDate, final LocalDate endDate) {
+        log.info("Calling TreasuryAPI for all rates of currency: '{}' on interval from {} to {}", currency, startDate, endDate);
+        try {
+            var response = treasuryCircuitBreaker.executeSupplier(() -> concurrencyLimiter.execute(() -> treasuryRestClient.get()
+                    .uri("/v1/accounting/od/rates_of_exchange", uriBuilder -> uriBuilder
+                            .queryParam("fields", "exchange_rate,record_date")
+                            .queryParam("filter", "country_currency_desc:eq:" + currency + ",record_date:gte:" + startDate + ",record_date:lte:" + endDate)
+                            .queryParam("sort", "-record_date")
+                            .queryParam("page[size]", MAX_PAGE_SIZE)
+                            .build())
+                    .retrieve()
+                    .body(TreasuryExchangeRateResponse.class)));
+            log.info("Successfully received the rates from the TreasuryAPI for currency '{}'", currency);
+            return Optional.ofNullable(response);
+        } catch (CallNotPermittedException _) {
+            throw unavailable(currency);
+        } catch (RestClientException e) {
+            log.error("Error calling Treasury API for currency {}: {}", currency, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private TreasuryApiUnavailableException unavailable(final String currency) {
+        log.warn("Treasury API circuit breaker is {}, not calling it for currency {}", treasuryCircuitBreaker.getState(), currency);
+        var retryAfter = Duration.ofMillis(treasuryCircuitBreaker.getCircuitBreakerConfig().getWaitIntervalFunctionInOpenState().apply(1));
+        return new TreasuryApiUnavailableException("Treasury API is unavailable", retryAfter);
+    }
 }
@@ -0,0 +1,33 @@
+package com.lsgsma.transaction.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("admission-control")
+public record AdmissionControlProperties(
+
+        @DefaultValue("true")
+        boolean enabled,
+
+        @DefaultValue("250ms")
+        Duration targetLatency,
+
+        @DefaultValue("200")
+        int initialLimit,
+
+        @DefaultValue("20")
+        int minLimit,
+
+        @DefaultValue("2000")
+        int maxLimit,
+
+        @DefaultValue("0.95")
+        double backoffRatio,
+
+        @DefaultValue("0.7")
+        double lowPriorityShare,
+
+        @DefaultValue("1s")
+        Duration retryAfter
+) {}
@@ -0,0 +1,47 @@
+package com.lsgsma.transaction.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lsgsma.transaction.client.TreasuryApiClient;
+import com.lsgsma.transaction.infra.ExchangeRateCacheLoader;
+import com.lsgsma.transaction.infra.ExchangeRateExpiry;
+import com.lsgsma.transaction.infra.ExchangeRateStore;
+import java.time.Clock;
+import java.util.concurrent.Executors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static com.lsgsma.transaction.config.AppConfig.EXCHANGE_RATE_CACHE;
+
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public ExchangeRateExpiry exchangeRateExpiry(final ExchangeRateCacheProperties exchangeRateCacheProperties) {
+        return new ExchangeRateExpiry(Clock.systemDefaultZone(),
+                exchangeRateCacheProperties.publicationLag(),
+                exchangeRateCacheProperties.recentExpireAfterAccess());
+    }
+
+    @Bean
+    public CacheManager cacheManager(@Value("${spring.cache.caffeine.spec}")
+                                     final String cacheSpecification,
+                                     final ExchangeRateCacheProperties exchangeRateCacheProperties,
+                                     final ExchangeRateExpiry exchangeRateExpiry,
+                                     final TreasuryApiClient treasuryApiClient,
+                                     final ExchangeRateStore exchangeRateStore) {
+        var cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheSpecification(cacheSpecification);
+        cacheManager.registerCustomCache(EXCHANGE_RATE_CACHE, Caffeine.newBuilder()
+                .recordStats()
+                .maximumSize(exchangeRateCacheProperties.maximumSize())
+                .expireAfter(exchangeRateExpiry)
+                .refreshAfterWrite(exchangeRateCacheProperties.recentRefreshAfterWrite())
+                .executor(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("exchange-rate-refresh-", 0).factory()))
+                .build(new ExchangeRateCacheLoader(treasuryApiClient, exchangeRateExpiry, exchangeRateStore,
+                        exchangeRateCacheProperties.recentRefreshAfterWrite())));
+        return cacheManager;
+    }
+}
@@ -0,0 +1,18 @@
+package com.lsgsma.transaction.config;
+
+import java.nio.file.Path;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("conversion-jobs")
+public record ConversionJobProperties(
+
+        @DefaultValue("conversion-jobs")
+        Path directory,
+
+        @DefaultValue("2")
+        int concurrency,
+
+        @DefaultValue("1000")
+        int chunkSize
+) {}
@@ -0,0 +1,55 @@
+package com.lsgsma.transaction.config;
+
+import com.lsgsma.transaction.repository.DbAccessGovernor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+@Configuration
+public class DbAccessGovernorConfig {
+
+    // Hikari's own default when maximum-pool-size is not set
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    public DbAccessGovernor dbAccessGovernor(final DbAccessGovernorProperties properties,
+                                             final DataSource dataSource,
+                                             final MeterRegistry meterRegistry) {
+        var maxConcurrency = properties.maxConcurrency() != null ? properties.maxConcurrency() : poolSize(dataSource);
+        return new DbAccessGovernor(properties, maxConcurrency, meterRegistry);
+    }
+
+    // Puts the governor in front of every Spring Data repository method, outside the repository's own
+    // transaction interceptor so a call only takes a connection once it holds a permit. The governor is
+    // looked up on first use because post processors are created before the data source.
+    @Bean
+    public static BeanPostProcessor dbAccessGovernorPostProcessor(final ObjectProvider<DbAccessGovernor> governor) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(final Object bean, final String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> {
+                                var repository = repositoryInformation.getRepositoryInterface().getSimpleName();
+                                proxyFactory.addAdvice(0, (MethodInterceptor) invocation -> governor.getObject().execute(
+                                        repository + "." + invocation.getMethod().getName(), invocation::proceed));
+                            }));
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static int poolSize(final DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikariDataSource && hikariDataSource.getMaximumPoolSize() > 0) {
+            return hikariDataSource.getMaximumPoolSize();
+        }
+        return DEFAULT_POOL_SIZE;
+    }
+}
@@ -0,0 +1,26 @@
+package com.lsgsma.transaction.config;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("db-governor")
+public record DbAccessGovernorProperties(
+
+        @DefaultValue("true")
+        boolean enabled,
+
+        // Concurrent repository calls; defaults to the Hikari maximum pool size
+        Integer maxConcurrency,
+
+        @DefaultValue("2s")
+        Duration defaultDeadline,
+
+        // Longest wait for a permit per operation, keyed by Repository.method
+        @DefaultValue
+        Map<String, Duration> deadlines,
+
+        @DefaultValue("1s")
+        Duration retryAfter
+) {}
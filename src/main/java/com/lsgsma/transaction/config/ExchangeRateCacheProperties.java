@@ -0,0 +1,21 @@
+package com.lsgsma.transaction.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("exchange-rate.cache")
+public record ExchangeRateCacheProperties(
+
+        @DefaultValue("5000")
+        long maximumSize,
+
+        @DefaultValue("60m")
+        Duration recentExpireAfterAccess,
+
+        @DefaultValue("15m")
+        Duration recentRefreshAfterWrite,
+
+        @DefaultValue("15d")
+        Duration publicationLag
+) {}
@@ -0,0 +1,14 @@
+package com.lsgsma.transaction.config;
+
+import java.nio.file.Path;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("exchange-rate.import")
+public record ExchangeRateImportProperties(
+
+        Path file,
+
+        @DefaultValue("true")
+        boolean authoritative
+) {}
@@ -0,0 +1,21 @@
+package com.lsgsma.transaction.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("exchange-rate.peers")
+public record ExchangeRatePeerProperties(
+
+        // Management base URLs of the other replicas, e.g. http://transaction-1:4444
+        @DefaultValue
+        List<URI> urls,
+
+        @DefaultValue("1m")
+        Duration syncInterval,
+
+        @DefaultValue("2s")
+        Duration timeout
+) {}
@@ -0,0 +1,25 @@
+package com.lsgsma.transaction.config;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("exchange-rate.preload")
+public record ExchangeRatePreloadProperties(
+
+        @DefaultValue("true")
+        boolean enabled,
+
+        @DefaultValue
+        List<String> currencies,
+
+        @DefaultValue("180d")
+        Duration lookback,
+
+        @DefaultValue("4")
+        int concurrency,
+
+        @DefaultValue("30s")
+        Duration timeout
+) {}
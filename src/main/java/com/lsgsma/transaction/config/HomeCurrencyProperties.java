@@ -0,0 +1,19 @@
+package com.lsgsma.transaction.config;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("home-currencies")
+public record HomeCurrencyProperties(
+
+        @DefaultValue
+        List<String> currencies,
+
+        @DefaultValue("5m")
+        Duration backfillInterval,
+
+        @DefaultValue("500")
+        int backfillBatchSize
+) {}
@@ -0,0 +1,28 @@
+package com.lsgsma.transaction.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties("jfr")
+public record JfrProperties(
+
+        @DefaultValue("true")
+        boolean enabled,
+
+        @DefaultValue("20ms")
+        Duration pinnedThreshold,
+
+        @DefaultValue("150/s")
+        String allocationThrottle,
+
+        @DefaultValue("50")
+        int maxTrackedFrames,
+
+        @DefaultValue("5m")
+        Duration maxAge,
+
+        @DefaultValue("64MB")
+        DataSize maxSize
+) {}
@@ -0,0 +1,20 @@
+package com.lsgsma.transaction.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("transaction.id-filter")
+public record TransactionIdFilterProperties(
+
+        // Opt-in: only safe while this instance is the only one writing to its transaction store, since ids
+        // stored by another replica would be answered with a 404
+        @DefaultValue("false")
+        boolean enabled,
+
+        @DefaultValue("0.01")
+        double falsePositiveRate,
+
+        // The filter is sized for twice the stored transactions, but never for fewer than this
+        @DefaultValue("1000000")
+        long minCapacity
+) {}
@@ -0,0 +1,48 @@
+package com.lsgsma.transaction.config;
+
+import com.lsgsma.transaction.repository.TransactionRepository;
+import com.lsgsma.transaction.store.JpaTransactionStore;
+import com.lsgsma.transaction.store.LogTransactionStore;
+import com.lsgsma.transaction.store.TransactionStore;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class TransactionStoreConfig {
+
+    public static final String MODE_PROPERTY = "transaction.store.mode";
+
+    @Bean
+    @ConditionalOnProperty(name = MODE_PROPERTY, havingValue = "jpa", matchIfMissing = true)
+    public TransactionStore jpaTransactionStore(final TransactionRepository transactionRepository) {
+        return new JpaTransactionStore(transactionRepository);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = MODE_PROPERTY, havingValue = "log")
+    public LogTransactionStore logTransactionStore(final TransactionStoreProperties properties,
+                                                   final HomeCurrencyProperties homeCurrencyProperties,
+                                                   final MeterRegistry meterRegistry) throws IOException {
+        // Precomputed conversions reference rows of the transaction table, which stays empty in this mode
+        if (!homeCurrencyProperties.currencies().isEmpty()) {
+            throw new IllegalStateException("home-currencies.currencies requires " + MODE_PROPERTY + "=jpa");
+        }
+        var log = properties.log();
+        var store = new LogTransactionStore(log.directory(), log.segmentSize().toBytes(), log.maxBatchSize());
+        Gauge.builder("transaction.store.log.transactions", store, logStore -> logStore.stats().transactions())
+                .description("Transactions in the append-only transaction log")
+                .register(meterRegistry);
+        Gauge.builder("transaction.store.log.segments", store, logStore -> logStore.stats().segments())
+                .description("Segment files of the append-only transaction log")
+                .register(meterRegistry);
+        Gauge.builder("transaction.store.log.index.memory", store, logStore -> logStore.stats().indexBytes())
+                .baseUnit("bytes")
+                .description("Off-heap memory of the transaction log id index")
+                .register(meterRegistry);
+        return store;
+    }
+}
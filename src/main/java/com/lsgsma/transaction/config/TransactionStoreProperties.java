@@ -0,0 +1,31 @@
+package com.lsgsma.transaction.config;
+
+import java.nio.file.Path;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties("transaction.store")
+public record TransactionStoreProperties(
+
+        @DefaultValue("jpa")
+        Mode mode,
+
+        @DefaultValue
+        Log log
+) {
+
+    public enum Mode { JPA, LOG }
+
+    public record Log(
+
+            @DefaultValue("transaction-log")
+            Path directory,
+
+            @DefaultValue("64MB")
+            DataSize segmentSize,
+
+            @DefaultValue("256")
+            int maxBatchSize
+    ) {}
+}
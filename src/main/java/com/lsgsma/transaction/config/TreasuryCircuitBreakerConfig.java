@@ -0,0 +1,58 @@
+package com.lsgsma.transaction.config;
+
+import com.lsgsma.transaction.exception.TreasuryApiUnavailableException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+
+@Configuration
+@Slf4j
+public class TreasuryCircuitBreakerConfig {
+
+    public static final String TREASURY_CIRCUIT_BREAKER = "treasuryApi";
+
+    @Bean
+    public CircuitBreakerRegistry circuitBreakerRegistry(final MeterRegistry meterRegistry) {
+        var circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        return circuitBreakerRegistry;
+    }
+
+    @Bean
+    public CircuitBreaker treasuryCircuitBreaker(final CircuitBreakerRegistry circuitBreakerRegistry,
+                                                 final TreasuryCircuitBreakerProperties properties,
+                                                 final MeterRegistry meterRegistry) {
+        // 4xx answers mean the request was wrong, not that the Treasury API is unhealthy, and
+        // calls shed by the concurrency limiter never reached it
+        var config = CircuitBreakerConfig.custom()
+                .failureRateThreshold(properties.failureRateThreshold())
+                .slowCallRateThreshold(properties.slowCallRateThreshold())
+                .slowCallDurationThreshold(properties.slowCallDuration())
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(properties.slidingWindowSize())
+                .minimumNumberOfCalls(properties.minimumNumberOfCalls())
+                .waitDurationInOpenState(properties.waitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(properties.permittedCallsInHalfOpenState())
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .recordExceptions(RestClientException.class)
+                .ignoreExceptions(HttpClientErrorException.class, TreasuryApiUnavailableException.class)
+                .build();
+
+        var circuitBreaker = circuitBreakerRegistry.circuitBreaker(TREASURY_CIRCUIT_BREAKER, config);
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            var transition = event.getStateTransition();
+            log.warn("Treasury API circuit breaker moved from {} to {}", transition.getFromState(), transition.getToState());
+            meterRegistry.counter("treasury.client.circuit.transitions",
+                    "from", transition.getFromState().name(),
+                    "to", transition.getToState().name()).increment();
+        });
+        return circuitBreaker;
+    }
+}
@@ -0,0 +1,30 @@
+package com.lsgsma.transaction.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("api.treasury.circuit-breaker")
+public record TreasuryCircuitBreakerProperties(
+
+        @DefaultValue("50")
+        float failureRateThreshold,
+
+        @DefaultValue("80")
+        float slowCallRateThreshold,
+
+        @DefaultValue("3s")
+        Duration slowCallDuration,
+
+        @DefaultValue("20")
+        int slidingWindowSize,
+
+        @DefaultValue("10")
+        int minimumNumberOfCalls,
+
+        @DefaultValue("30s")
+        Duration waitDurationInOpenState,
+
+        @DefaultValue("3")
+        int permittedCallsInHalfOpenState
+) {}
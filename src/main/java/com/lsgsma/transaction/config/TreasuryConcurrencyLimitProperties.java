@@ -0,0 +1,33 @@
+package com.lsgsma.transaction.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("api.treasury.concurrency-limit")
+public record TreasuryConcurrencyLimitProperties(
+
+        @DefaultValue("true")
+        boolean enabled,
+
+        @DefaultValue("10")
+        int initialLimit,
+
+        @DefaultValue("2")
+        int minLimit,
+
+        @DefaultValue("64")
+        int maxLimit,
+
+        @DefaultValue("0.9")
+        double backoffRatio,
+
+        @DefaultValue("2.0")
+        double rttTolerance,
+
+        @DefaultValue("500")
+        int minRttResetSamples,
+
+        @DefaultValue("2s")
+        Duration queueTimeout
+) {}
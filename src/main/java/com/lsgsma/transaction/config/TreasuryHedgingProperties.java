@@ -0,0 +1,27 @@
+package com.lsgsma.transaction.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("api.treasury.hedging")
+public record TreasuryHedgingProperties(
+
+        @DefaultValue("true")
+        boolean enabled,
+
+        @DefaultValue("95")
+        double delayPercentile,
+
+        @DefaultValue("50ms")
+        Duration minDelay,
+
+        @DefaultValue("2s")
+        Duration maxDelay,
+
+        @DefaultValue("0.1")
+        double maxHedgeRatio,
+
+        @DefaultValue("1000")
+        int latencyWindowSize
+) {}
@@ -0,0 +1,22 @@
+package com.lsgsma.transaction.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+
+// Binary alternatives to JSON for internal callers, picked through the Accept / Content-Type headers.
+// JSON stays the default because its converter is registered first.
+@Configuration
+public class WebConfig {
+
+    @Bean
+    public JacksonCborHttpMessageConverter cborHttpMessageConverter() {
+        return new JacksonCborHttpMessageConverter();
+    }
+
+    @Bean
+    public JacksonSmileHttpMessageConverter smileHttpMessageConverter() {
+        return new JacksonSmileHttpMessageConverter();
+    }
+}
@@ -0,0 +1,55 @@
+package com.lsgsma.transaction.controller;
+
+import com.lsgsma.transaction.dto.request.ConversionRequestItem;
+import com.lsgsma.transaction.dto.response.ConversionResultItem;
+import com.lsgsma.transaction.dto.response.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Tag(name = "Currency Conversion", description = "APIs for converting amounts that are not stored transactions")
+public interface ConversionController {
+
+    @Operation(summary = "Convert many amounts to a currency",
+            description = "Converts a JSON array (or newline-delimited JSON) of amount/date pairs without storing them. "
+                    + "The request is read and the response written as a stream, in the same order; items that cannot be "
+                    + "converted carry an error instead of a converted amount.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true,
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = ConversionRequestItem.class)))))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "One result per input item",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = ConversionResultItem.class)))),
+            @ApiResponse(responseCode = "400", description = "Invalid currency",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server error",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    ResponseEntity<StreamingResponseBody> convert(
+            @Parameter(description = "Target currency for conversion", example = "Brazil-Real")
+            @NotBlank
+            @Pattern(
+                    regexp = "^[^<>\"]+-[^<>\"]+$",
+                    message = "Currency format is invalid or contains prohibited characters."
+            )
+            @RequestParam
+            final String currency,
+
+            @Parameter(hidden = true)
+            final HttpServletRequest request
+    );
+}
@@ -0,0 +1,75 @@
+package com.lsgsma.transaction.controller;
+
+import com.lsgsma.transaction.dto.request.ConversionJobRequest;
+import com.lsgsma.transaction.dto.response.ConversionJobResponse;
+import com.lsgsma.transaction.dto.response.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.UUID;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+
+@Tag(name = "Conversion Jobs", description = "APIs for converting every transaction of a date range in the background")
+public interface ConversionJobController {
+
+    @Operation(summary = "Submit a conversion job",
+            description = "Queues the conversion of every transaction between fromDate and toDate into the currency. "
+                    + "Poll the job until it is COMPLETED, then download its gzip compressed NDJSON or CSV result.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Job queued, its URL is in the Location header",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ConversionJobResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server error",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    ResponseEntity<ConversionJobResponse> submit(@Valid @RequestBody final ConversionJobRequest request);
+
+    @Operation(summary = "Get the progress of a conversion job")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job found",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ConversionJobResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Job not found",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    ConversionJobResponse get(@Parameter(description = "ID of the job") @PathVariable final UUID id);
+
+    @Operation(summary = "Download the result of a completed conversion job",
+            description = "Returns the gzip compressed result file, one converted transaction per line.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Result file",
+                    content = @Content(mediaType = "application/gzip")),
+            @ApiResponse(responseCode = "404", description = "Job not found",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "Job not completed",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    ResponseEntity<Resource> result(@Parameter(description = "ID of the job") @PathVariable final UUID id);
+
+    @Operation(summary = "Cancel a conversion job",
+            description = "Stops a queued or running job, or deletes the result of a finished one.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job cancelled",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ConversionJobResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Job not found",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    ConversionJobResponse cancel(@Parameter(description = "ID of the job") @PathVariable final UUID id);
+}
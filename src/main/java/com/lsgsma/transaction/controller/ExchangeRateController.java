@@ -0,0 +1,91 @@
+package com.lsgsma.transaction.controller;
+
+import com.lsgsma.transaction.dto.response.ErrorResponse;
+import com.lsgsma.transaction.dto.response.ExchangeRateSeriesResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+@Tag(name = "Exchange Rates", description = "Exchange rate series for clients that convert on their own")
+public interface ExchangeRateController {
+
+    @Operation(summary = "Exchange rates of a currency",
+            description = "Returns the rates recorded in the range from the rates this service holds, without calling the "
+                    + "Treasury API. Responses carry an ETag, so clients can revalidate with If-None-Match and get a 304. "
+                    + "application/cbor and application/x-jackson-smile are available through the Accept header.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rate series of the currency",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ExchangeRateSeriesResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Series unchanged since the ETag in If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Invalid currency or date range",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "No exchange rates known for the currency",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server error",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    ResponseEntity<ExchangeRateSeriesResponse> getExchangeRates(
+            @Parameter(description = "Currency of the series", example = "Brazil-Real")
+            @Pattern(
+                    regexp = "^[^<>\"]+-[^<>\"]+$",
+                    message = "Currency format is invalid or contains prohibited characters."
+            )
+            @PathVariable
+            final String currency,
+
+            @Parameter(description = "First record date, defaults to six months before `to`", example = "2024-01-01")
+            @RequestParam(required = false)
+            final LocalDate from,
+
+            @Parameter(description = "Last record date, defaults to today", example = "2024-06-30")
+            @RequestParam(required = false)
+            final LocalDate to
+    );
+
+    @Operation(summary = "Exchange rates of several currencies",
+            description = "Same as the single currency variant for every given currency in one response; currencies "
+                    + "without known rates are left out.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "One rate series per known currency",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = ExchangeRateSeriesResponse.class)))),
+            @ApiResponse(responseCode = "304", description = "Series unchanged since the ETag in If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Invalid currencies or date range",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server error",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    ResponseEntity<List<ExchangeRateSeriesResponse>> getExchangeRatesOfCurrencies(
+            @Parameter(description = "Currencies, repeated or comma separated", example = "Brazil-Real,Japan-Yen")
+            @NotEmpty @Size(max = 50)
+            @RequestParam
+            final List<@Pattern(regexp = "^[^<>\"]+-[^<>\"]+$", message = "Currency format is invalid or contains prohibited characters.") String> currency,
+
+            @Parameter(description = "First record date, defaults to six months before `to`", example = "2024-01-01")
+            @RequestParam(required = false)
+            final LocalDate from,
+
+            @Parameter(description = "Last record date, defaults to today", example = "2024-06-30")
+            @RequestParam(required = false)
+            final LocalDate to
+    );
+}
@@ -4,15 +4,22 @@ import com.lsgsma.transaction.dto.request.CreateTransactionRequest;
 import com.lsgsma.transaction.dto.response.ConvertedTransactionResponse;
 import com.lsgsma.transaction.dto.response.CreateTransactionResponse;
 import com.lsgsma.transaction.dto.response.ErrorResponse;
+import com.lsgsma.transaction.dto.response.TransactionSearchResponse;
+import com.lsgsma.transaction.search.TrigramIndex;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -32,6 +39,9 @@ public interface TransactionController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Internal Server error",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "503", description = "Service overloaded, retry after the Retry-After header",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = ErrorResponse.class)))
     })
@@ -50,6 +60,9 @@ public interface TransactionController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Internal Server error",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "503", description = "Service overloaded or Treasury API unavailable with no known exchange rate, retry after the Retry-After header",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = ErrorResponse.class)))
     })
@@ -66,4 +79,29 @@ public interface TransactionController {
             @RequestParam(required = false)
             final String currency
     );
+
+    @Operation(summary = "Search transactions by description",
+            description = "Case-insensitive search for transactions whose description contains the given fragment, newest first.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matching transactions, possibly empty",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = TransactionSearchResponse.class)))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server error",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    List<TransactionSearchResponse> searchTransactions(
+            @Parameter(description = "Description fragment, at least 3 characters", example = "keyboard")
+            @Size(min = TrigramIndex.MIN_QUERY_LENGTH, max = 50)
+            @RequestParam
+            final String q,
+
+            @Parameter(description = "Maximum number of results", example = "20")
+            @Min(1) @Max(100)
+            @RequestParam(defaultValue = "20")
+            final int limit
+    );
 }
@@ -0,0 +1,35 @@
+package com.lsgsma.transaction.controller.impl;
+
+import com.lsgsma.transaction.controller.ConversionController;
+import com.lsgsma.transaction.service.BulkConversionService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class ConversionControllerImpl implements ConversionController {
+
+    private final BulkConversionService bulkConversionService;
+
+    @Override
+    @PostMapping(path = "/convert",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<StreamingResponseBody> convert(final String currency, final HttpServletRequest request) {
+        log.info("Received request to convert amounts to currency {}", currency);
+        var newlineDelimited = MediaType.parseMediaTypes(request.getHeader(HttpHeaders.ACCEPT)).stream()
+                .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+        StreamingResponseBody body = output -> bulkConversionService.convert(currency, request.getInputStream(), output, newlineDelimited);
+        return ResponseEntity.ok()
+                .contentType(newlineDelimited ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+}
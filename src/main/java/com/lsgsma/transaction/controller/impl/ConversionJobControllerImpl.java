@@ -0,0 +1,72 @@
+package com.lsgsma.transaction.controller.impl;
+
+import com.lsgsma.transaction.config.TransactionStoreConfig;
+import com.lsgsma.transaction.controller.ConversionJobController;
+import com.lsgsma.transaction.dto.request.ConversionJobRequest;
+import com.lsgsma.transaction.dto.response.ConversionJobResponse;
+import com.lsgsma.transaction.service.ConversionJobService;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+@RestController
+@ConditionalOnProperty(name = TransactionStoreConfig.MODE_PROPERTY, havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+@RequestMapping("/conversion-jobs")
+public class ConversionJobControllerImpl implements ConversionJobController {
+
+    private static final MediaType APPLICATION_GZIP = MediaType.parseMediaType("application/gzip");
+
+    private final ConversionJobService conversionJobService;
+
+    @Override
+    @PostMapping
+    public ResponseEntity<ConversionJobResponse> submit(final ConversionJobRequest request) {
+        log.info("Received request to convert transactions from {} to {} to currency {}", request.fromDate(), request.toDate(), request.currency());
+        var job = conversionJobService.submit(request);
+        var location = ServletUriComponentsBuilder.fromCurrentRequestUri().path("/{id}").buildAndExpand(job.id()).toUri();
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+
+    @Override
+    @GetMapping("/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    public ConversionJobResponse get(@PathVariable final UUID id) {
+        return conversionJobService.get(id);
+    }
+
+    @Override
+    @GetMapping("/{id}/result")
+    public ResponseEntity<Resource> result(@PathVariable final UUID id) {
+        var result = conversionJobService.result(id);
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_GZIP)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(result.fileName()).build().toString())
+                .body(new FileSystemResource(result.file()));
+    }
+
+    @Override
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    public ConversionJobResponse cancel(@PathVariable final UUID id) {
+        log.info("Received request to cancel conversion job {}", id);
+        return conversionJobService.cancel(id);
+    }
+}
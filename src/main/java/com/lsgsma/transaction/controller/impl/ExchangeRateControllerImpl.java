@@ -0,0 +1,77 @@
+package com.lsgsma.transaction.controller.impl;
+
+import com.lsgsma.transaction.controller.ExchangeRateController;
+import com.lsgsma.transaction.conversion.ConversionRules;
+import com.lsgsma.transaction.dto.response.ExchangeRateSeriesResponse;
+import com.lsgsma.transaction.infra.ExchangeRateExpiry;
+import com.lsgsma.transaction.service.ExchangeRateService;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static java.util.Objects.nonNull;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@RequestMapping("/exchange-rates")
+public class ExchangeRateControllerImpl implements ExchangeRateController {
+
+    // Complete series of closed quarters never change again
+    private static final CacheControl HISTORIC_CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(1)).cachePublic();
+    // Anything else may still change: caches revalidate every time, which the ETag turns into a 304
+    private static final CacheControl RECENT_CACHE_CONTROL = CacheControl.noCache().cachePublic();
+
+    private final ExchangeRateService exchangeRateService;
+    private final ExchangeRateExpiry exchangeRateExpiry;
+
+    @Override
+    @GetMapping("/{currency}")
+    public ResponseEntity<ExchangeRateSeriesResponse> getExchangeRates(final String currency, final LocalDate from, final LocalDate to) {
+        log.debug("Received request for exchange rates of currency {} from {} to {}", currency, from, to);
+        var toDate = nonNull(to) ? to : LocalDate.now();
+        var series = exchangeRateService.getExchangeRateSeries(currency, nonNull(from) ? from : ConversionRules.windowStart(toDate), toDate);
+        return cacheable(List.of(series), series);
+    }
+
+    @Override
+    @GetMapping
+    public ResponseEntity<List<ExchangeRateSeriesResponse>> getExchangeRatesOfCurrencies(final List<String> currency, final LocalDate from, final LocalDate to) {
+        log.debug("Received request for exchange rates of currencies {} from {} to {}", currency, from, to);
+        var toDate = nonNull(to) ? to : LocalDate.now();
+        var series = exchangeRateService.getExchangeRateSeries(currency, nonNull(from) ? from : ConversionRules.windowStart(toDate), toDate);
+        return cacheable(series, series);
+    }
+
+    // With an ETag on the entity, Spring answers a matching If-None-Match with a 304 before writing the body.
+    // Weak, because JSON, CBOR and Smile of the same series share it.
+    private <T> ResponseEntity<T> cacheable(final List<ExchangeRateSeriesResponse> series, final T body) {
+        var historicBefore = exchangeRateExpiry.historicBefore();
+        var historic = series.stream().allMatch(item -> item.complete() && item.to().isBefore(historicBefore));
+        return ResponseEntity.ok()
+                .eTag("W/\"" + eTagOf(series) + "\"")
+                .cacheControl(historic ? HISTORIC_CACHE_CONTROL : RECENT_CACHE_CONTROL)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(body);
+    }
+
+    static String eTagOf(final List<ExchangeRateSeriesResponse> series) {
+        var content = new StringBuilder();
+        for (var item : series) {
+            content.append(item.currency()).append('|').append(item.from()).append('|').append(item.to()).append('|').append(item.complete());
+            item.data().forEach(rate -> content.append('|').append(rate.recordDate()).append('=').append(rate.exchangeRate()));
+            content.append('\n');
+        }
+        return DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -4,7 +4,10 @@ import com.lsgsma.transaction.controller.TransactionController;
 import com.lsgsma.transaction.dto.request.CreateTransactionRequest;
 import com.lsgsma.transaction.dto.response.ConvertedTransactionResponse;
 import com.lsgsma.transaction.dto.response.CreateTransactionResponse;
+import com.lsgsma.transaction.dto.response.TransactionSearchResponse;
+import com.lsgsma.transaction.service.TransactionSearchService;
 import com.lsgsma.transaction.service.TransactionService;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +27,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class TransactionControllerImpl implements TransactionController {
 
     private final TransactionService transactionService;
+    private final TransactionSearchService transactionSearchService;
 
     @Override
     @PostMapping
@@ -40,4 +44,12 @@ public class TransactionControllerImpl implements TransactionController {
         log.info("Received request to convert transaction ID {} to currency {}", id, StringUtils.isNotBlank(currency) ? currency : "United States-Dollar" );
         return transactionService.getConvertedTransaction(id, currency);
     }
+
+    @Override
+    @GetMapping("/search")
+    @ResponseStatus(HttpStatus.OK)
+    public List<TransactionSearchResponse> searchTransactions(final String q, final int limit) {
+        log.info("Received request to search transactions by description '{}'", q);
+        return transactionSearchService.search(q, limit);
+    }
 }
@@ -0,0 +1,42 @@
+package com.lsgsma.transaction.dto.request;
+
+import com.lsgsma.transaction.model.ConversionJobFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
+
+import static java.util.Objects.isNull;
+
+public record ConversionJobRequest(
+
+        @Schema(description = "Target currency for conversion", example = "Brazil-Real")
+        @NotBlank @Size(max = 100)
+        @Pattern(regexp = "^[^<>\"]+-[^<>\"]+$", message = "Currency format is invalid or contains prohibited characters.")
+        String currency,
+
+        @Schema(description = "First transaction date to convert, inclusive.", example = "2025-07-01")
+        @NotNull
+        LocalDate fromDate,
+
+        @Schema(description = "Last transaction date to convert, inclusive.", example = "2025-07-31")
+        @NotNull
+        LocalDate toDate,
+
+        @Schema(description = "Format of the gzip compressed result file, NDJSON when absent.", example = "CSV")
+        ConversionJobFormat format
+) {
+
+    @Schema(hidden = true)
+    @AssertTrue(message = "fromDate must not be after toDate")
+    public boolean isDateRangeValid() {
+        return isNull(fromDate) || isNull(toDate) || !fromDate.isAfter(toDate);
+    }
+
+    public ConversionJobFormat formatOrDefault() {
+        return isNull(format) ? ConversionJobFormat.NDJSON : format;
+    }
+}
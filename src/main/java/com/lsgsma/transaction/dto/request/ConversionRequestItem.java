@@ -0,0 +1,14 @@
+package com.lsgsma.transaction.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record ConversionRequestItem(
+
+        @Schema(description = "Amount in USD, must be a positive value.", example = "150.75")
+        BigDecimal amount,
+
+        @Schema(description = "Date whose exchange rate applies, in YYYY-MM-DD format.", example = "2025-08-20")
+        LocalDate date
+) {}
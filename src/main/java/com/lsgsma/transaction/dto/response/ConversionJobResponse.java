@@ -0,0 +1,48 @@
+package com.lsgsma.transaction.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.lsgsma.transaction.model.ConversionJobFormat;
+import com.lsgsma.transaction.model.ConversionJobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ConversionJobResponse(
+
+        @Schema(description = "Identifier of the job, used to poll it and download its result.",
+                example = "0199f2c4-7a1e-7c3a-9b1d-2f4e6a8c0b1d")
+        UUID id,
+
+        @Schema(description = "QUEUED, RUNNING, COMPLETED, FAILED or CANCELLED.", example = "RUNNING")
+        ConversionJobStatus status,
+
+        @Schema(description = "Target currency for conversion", example = "Brazil-Real")
+        String currency,
+
+        @Schema(description = "First transaction date converted, inclusive.", example = "2025-07-01")
+        LocalDate fromDate,
+
+        @Schema(description = "Last transaction date converted, inclusive.", example = "2025-07-31")
+        LocalDate toDate,
+
+        @Schema(description = "Format of the result file.", example = "NDJSON")
+        ConversionJobFormat format,
+
+        @Schema(description = "Transactions in the date range when the job started.", example = "250000")
+        long totalRows,
+
+        @Schema(description = "Transactions written to the result file so far.", example = "120000")
+        long processedRows,
+
+        @Schema(description = "Written transactions that could not be converted.", example = "12")
+        long failedRows,
+
+        @Schema(description = "Why the job failed, absent otherwise.")
+        String error,
+
+        Instant createdAt,
+
+        Instant updatedAt
+) {}
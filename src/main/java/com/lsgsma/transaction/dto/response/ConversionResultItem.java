@@ -0,0 +1,40 @@
+package com.lsgsma.transaction.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ConversionResultItem(
+
+        @Schema(description = "Date of the input item.", example = "2025-08-20")
+        LocalDate date,
+
+        @Schema(description = "Amount of the input item in USD.", example = "150.75")
+        BigDecimal amount,
+
+        @Schema(description = "The exchange rate used for the conversion, absent on error.", example = "5.123")
+        BigDecimal exchangeRate,
+
+        @Schema(description = "The converted amount in the target currency, absent on error.", example = "772.35")
+        BigDecimal convertedAmount,
+
+        @Schema(description = "Why this item could not be converted.", example = "No exchange rate within 6 months before 2025-08-20")
+        String error,
+
+        @Schema(description = "Present and true when the Treasury API was unavailable and the last known exchange rate was used.",
+                example = "true")
+        @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+        boolean staleExchangeRate
+) {
+
+    public static ConversionResultItem converted(final LocalDate date, final BigDecimal amount, final BigDecimal exchangeRate,
+                                                 final BigDecimal convertedAmount, final boolean staleExchangeRate) {
+        return new ConversionResultItem(date, amount, exchangeRate, convertedAmount, null, staleExchangeRate);
+    }
+
+    public static ConversionResultItem failed(final LocalDate date, final BigDecimal amount, final String error) {
+        return new ConversionResultItem(date, amount, null, null, error, false);
+    }
+}
@@ -1,5 +1,6 @@
 package com.lsgsma.transaction.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -30,5 +31,17 @@ public record ConvertedTransactionResponse(
 
         @Schema(description = "The converted transaction purchase amount in the target currency.",
                 example = "772.35")
-        BigDecimal convertedAmount
-) {}
+        BigDecimal convertedAmount,
+
+        @Schema(description = "Present and true when the Treasury API was unavailable and the last known exchange rate was used.",
+                example = "true")
+        @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+        boolean staleExchangeRate
+) {
+
+    public ConvertedTransactionResponse(final UUID id, final String description, final LocalDate transactionDate,
+                                        final BigDecimal originalPurchaseAmount, final BigDecimal exchangeRate,
+                                        final BigDecimal convertedAmount) {
+        this(id, description, transactionDate, originalPurchaseAmount, exchangeRate, convertedAmount, false);
+    }
+}
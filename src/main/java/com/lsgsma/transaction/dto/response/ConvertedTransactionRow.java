@@ -0,0 +1,28 @@
+package com.lsgsma.transaction.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.lsgsma.transaction.model.Transaction;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+// One line of a conversion job result file
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ConvertedTransactionRow(
+        UUID id,
+        String description,
+        LocalDate transactionDate,
+        BigDecimal purchaseAmount,
+        BigDecimal exchangeRate,
+        BigDecimal convertedAmount,
+        String error,
+        @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+        boolean staleExchangeRate
+) {
+
+    public static ConvertedTransactionRow of(final Transaction transaction, final ConversionResultItem result) {
+        return new ConvertedTransactionRow(transaction.getId(), transaction.getDescription(), transaction.getTransactionDate(),
+                transaction.getPurchaseAmount(), result.exchangeRate(), result.convertedAmount(), result.error(),
+                result.staleExchangeRate());
+    }
+}
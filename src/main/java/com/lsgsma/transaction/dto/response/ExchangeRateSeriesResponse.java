@@ -0,0 +1,24 @@
+package com.lsgsma.transaction.dto.response;
+
+import com.lsgsma.transaction.dto.client.response.TreasuryExchangeRateDataResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.util.List;
+
+public record ExchangeRateSeriesResponse(
+        @Schema(description = "Currency of the series", example = "Brazil-Real")
+        String currency,
+
+        @Schema(description = "First record date of the requested range", example = "2024-01-01")
+        LocalDate from,
+
+        @Schema(description = "Last record date of the requested range", example = "2024-06-30")
+        LocalDate to,
+
+        @Schema(description = "Whether every rate published in the range is in the series; otherwise only the rates "
+                + "this service has seen so far")
+        boolean complete,
+
+        @Schema(description = "Rates recorded in the range, newest first, in the Treasury API format")
+        List<TreasuryExchangeRateDataResponse> data
+) {}
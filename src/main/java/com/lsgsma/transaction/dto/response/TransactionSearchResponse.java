@@ -0,0 +1,13 @@
+package com.lsgsma.transaction.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.UUID;
+
+public record TransactionSearchResponse(
+        @Schema(description = "Unique identifier of the transaction (UUID)",
+                example = "a1b2c3d4-e5f6-7890-1234-567890abcdef")
+        UUID id,
+
+        @Schema(description = "Description of the transaction", example = "New keyboard for home office")
+        String description
+) {}
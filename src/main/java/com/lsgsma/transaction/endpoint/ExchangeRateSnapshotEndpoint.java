@@ -0,0 +1,24 @@
+package com.lsgsma.transaction.endpoint;
+
+import com.lsgsma.transaction.infra.ExchangeRateSnapshot;
+import com.lsgsma.transaction.infra.ExchangeRateStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.OptionalParameter;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+// /actuator/ratesnapshot on the management port: the rate store for the other replicas (see ExchangeRatePeerSync).
+// ?epoch=...&since=... returns only what changed after that version, anything else the full store.
+@Component
+@Endpoint(id = "ratesnapshot")
+@RequiredArgsConstructor
+public class ExchangeRateSnapshotEndpoint {
+
+    private final ExchangeRateStore exchangeRateStore;
+
+    @ReadOperation
+    public ExchangeRateSnapshot snapshot(@OptionalParameter final String epoch, @OptionalParameter final Long since) {
+        return exchangeRateStore.snapshot(epoch, since != null ? since : 0);
+    }
+}
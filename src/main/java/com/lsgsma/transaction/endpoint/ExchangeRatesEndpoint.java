@@ -0,0 +1,156 @@
+package com.lsgsma.transaction.endpoint;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.lsgsma.transaction.conversion.RateStore;
+import com.lsgsma.transaction.infra.ExchangeRateExpiry;
+import com.lsgsma.transaction.infra.ExchangeRatePreloader;
+import com.lsgsma.transaction.infra.ExchangeRateStore;
+import com.lsgsma.transaction.service.ExchangeRateService;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.OptionalParameter;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import static com.lsgsma.transaction.config.AppConfig.EXCHANGE_RATE_CACHE;
+
+// /actuator/exchangerates on the management port: what the exchange rate cache holds, and warm/evict by currency.
+@Component
+@Endpoint(id = "exchangerates")
+@Slf4j
+public class ExchangeRatesEndpoint {
+
+    // Rough heap cost of one cache entry: Caffeine node, "currency::date" key string and BigDecimal value
+    static final int ESTIMATED_ENTRY_BYTES = 200;
+
+    private final Cache<Object, Object> exchangeRateCache;
+    private final ExchangeRateStore exchangeRateStore;
+    private final ExchangeRateService exchangeRateService;
+    private final ExchangeRatePreloader exchangeRatePreloader;
+
+    public ExchangeRatesEndpoint(final CacheManager cacheManager, final ExchangeRateStore exchangeRateStore,
+                                 final ExchangeRateService exchangeRateService, final ExchangeRatePreloader exchangeRatePreloader) {
+        this.exchangeRateCache = ((CaffeineCache) cacheManager.getCache(EXCHANGE_RATE_CACHE)).getNativeCache();
+        this.exchangeRateStore = exchangeRateStore;
+        this.exchangeRateService = exchangeRateService;
+        this.exchangeRatePreloader = exchangeRatePreloader;
+    }
+
+    public record TierStats(long hits, long misses, double hitRatio) {
+
+        static TierStats of(final long hits, final long misses) {
+            var total = hits + misses;
+            return new TierStats(hits, misses, total == 0 ? 0.0 : (double) hits / total);
+        }
+    }
+
+    public record CurrencyReport(String currency, long cacheEntries, long estimatedCacheBytes,
+                                 LocalDate earliestCachedDate, LocalDate latestCachedDate,
+                                 LocalDate earliestRecordDate, LocalDate latestRecordDate, int storedRecords) {}
+
+    public record ExchangeRatesReport(long cacheEntries, long estimatedCacheBytes, Map<String, TierStats> tiers,
+                                      Instant lastSync, ExchangeRatePreloader.PreloadResult preload,
+                                      List<CurrencyReport> currencies) {}
+
+    public record WarmResult(String currency, LocalDate from, LocalDate to, int cachedEntries) {}
+
+    public record EvictResult(String currency, int evictedEntries) {}
+
+    @ReadOperation
+    public ExchangeRatesReport report() {
+        var currencies = currencyReports();
+        var cacheStats = exchangeRateCache.stats();
+        var cacheEntries = currencies.stream().mapToLong(CurrencyReport::cacheEntries).sum();
+        return new ExchangeRatesReport(
+                cacheEntries,
+                cacheEntries * ESTIMATED_ENTRY_BYTES,
+                Map.of("cache", TierStats.of(cacheStats.hitCount(), cacheStats.missCount()),
+                        "lastKnownRate", TierStats.of(exchangeRateStore.fallbackHits(), exchangeRateStore.fallbackMisses())),
+                exchangeRateStore.lastUpdated().orElse(null),
+                exchangeRatePreloader.getResult(),
+                currencies.values().stream().sorted(Comparator.comparing(CurrencyReport::currency)).toList());
+    }
+
+    @ReadOperation
+    public CurrencyReport currency(@Selector final String currency) {
+        return currencyReports().get(currency);
+    }
+
+    @WriteOperation
+    public WarmResult warm(@Selector final String currency, final String from, @OptionalParameter final String to) {
+        var fromDate = parseDate("from", from);
+        var toDate = to != null ? parseDate("to", to) : LocalDate.now();
+        var cachedEntries = exchangeRateService.warm(currency, fromDate, toDate);
+        return new WarmResult(currency, fromDate, toDate, cachedEntries);
+    }
+
+    @DeleteOperation
+    public EvictResult evict(@Selector final String currency, @OptionalParameter final String from, @OptionalParameter final String to) {
+        var wholeCurrency = from == null && to == null;
+        var fromDate = from != null ? parseDate("from", from) : LocalDate.MIN;
+        var toDate = to != null ? parseDate("to", to) : wholeCurrency ? LocalDate.MAX : LocalDate.now();
+        // Filter the keys actually cached rather than probing every day of a range that may start at LocalDate.MIN
+        var keys = exchangeRateCache.asMap().keySet().stream()
+                .filter(key -> {
+                    var date = ExchangeRateExpiry.transactionDateOf(key);
+                    return date != null && currency.equals(ExchangeRateExpiry.currencyOf(key))
+                            && !date.isBefore(fromDate) && !date.isAfter(toDate);
+                })
+                .toList();
+        exchangeRateCache.invalidateAll(keys);
+        log.info("Evicted {} cache entries for currency '{}' (from: {}, to: {})", keys.size(), currency, from, to);
+        return new EvictResult(currency, keys.size());
+    }
+
+    // Actuator answers InvalidEndpointRequestException with 400, a DateTimeParseException would be a 500
+    private static LocalDate parseDate(final String name, final String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new InvalidEndpointRequestException("Invalid '%s' date: %s".formatted(name, value),
+                    "'%s' must be an ISO date (yyyy-MM-dd)".formatted(name));
+        }
+    }
+
+    private Map<String, CurrencyReport> currencyReports() {
+        var cachedDates = new HashMap<String, TreeSet<LocalDate>>();
+        for (var key : exchangeRateCache.asMap().keySet()) {
+            var date = ExchangeRateExpiry.transactionDateOf(key);
+            if (date != null) {
+                cachedDates.computeIfAbsent(ExchangeRateExpiry.currencyOf(key), _ -> new TreeSet<>()).add(date);
+            }
+        }
+
+        var reports = new HashMap<String, CurrencyReport>();
+        var currencies = new TreeSet<>(cachedDates.keySet());
+        currencies.addAll(exchangeRateStore.currencies());
+        for (var currency : currencies) {
+            var dates = cachedDates.getOrDefault(currency, new TreeSet<>());
+            var coverage = exchangeRateStore.coverage(currency);
+            reports.put(currency, new CurrencyReport(
+                    currency,
+                    dates.size(),
+                    (long) dates.size() * ESTIMATED_ENTRY_BYTES,
+                    dates.isEmpty() ? null : dates.first(),
+                    dates.isEmpty() ? null : dates.last(),
+                    coverage.map(RateStore.Coverage::earliestRecordDate).orElse(null),
+                    coverage.map(RateStore.Coverage::latestRecordDate).orElse(null),
+                    coverage.map(RateStore.Coverage::records).orElse(0)));
+        }
+        return reports;
+    }
+}
@@ -0,0 +1,87 @@
+package com.lsgsma.transaction.endpoint;
+
+import com.lsgsma.transaction.jfr.BoundedCounter;
+import com.lsgsma.transaction.jfr.JfrMonitor;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+// /actuator/jfr on the management port: pinning, allocation and conversion stage summaries from the in-process
+// JFR stream, and POST to download the buffered recording for JDK Mission Control.
+@Component
+@WebEndpoint(id = "jfr")
+@RequiredArgsConstructor
+@Slf4j
+public class JfrEndpoint {
+
+    static final int TOP_FRAMES = 10;
+
+    private final JfrMonitor jfrMonitor;
+
+    public record StageStats(long count, double meanMillis, double maxMillis) {}
+
+    public record JfrReport(boolean running, long pinnedEvents, List<BoundedCounter.Count> topPinnedFrames,
+                            List<BoundedCounter.Count> allocatedBytesByEndpoint, List<BoundedCounter.Count> topAllocationSites,
+                            Map<String, StageStats> conversionStages) {}
+
+    @ReadOperation
+    public JfrReport report() {
+        var stages = new TreeMap<String, StageStats>();
+        jfrMonitor.stageTimers().forEach((stage, timer) -> stages.put(stage,
+                new StageStats(timer.count(), timer.mean(TimeUnit.MILLISECONDS), timer.max(TimeUnit.MILLISECONDS))));
+        return new JfrReport(
+                jfrMonitor.isRunning(),
+                jfrMonitor.pinnedEvents(),
+                jfrMonitor.topPinnedFrames(TOP_FRAMES),
+                jfrMonitor.allocationByEndpoint(TOP_FRAMES),
+                jfrMonitor.topAllocationSites(TOP_FRAMES),
+                stages);
+    }
+
+    @WriteOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> dump() throws IOException {
+        if (!jfrMonitor.isRunning()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        }
+        var file = jfrMonitor.dump();
+        log.info("JFR recording dumped, {} bytes", Files.size(file));
+        return new WebEndpointResponse<>(new TemporaryFileResource(file));
+    }
+
+    // Deletes the dump once it has been streamed to the client
+    static final class TemporaryFileResource extends FileSystemResource {
+
+        TemporaryFileResource(final Path file) {
+            super(file);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(getFile().toPath());
+                    }
+                }
+            };
+        }
+    }
+}
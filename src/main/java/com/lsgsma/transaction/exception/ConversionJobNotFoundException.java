@@ -0,0 +1,13 @@
+package com.lsgsma.transaction.exception;
+
+import java.util.UUID;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class ConversionJobNotFoundException extends RuntimeException {
+
+    public ConversionJobNotFoundException(final UUID id) {
+        super("Conversion job not found with id: " + id, null, false, false);
+    }
+}
@@ -0,0 +1,12 @@
+package com.lsgsma.transaction.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ConversionJobNotReadyException extends RuntimeException {
+
+    public ConversionJobNotReadyException(final String message) {
+        super(message, null, false, false);
+    }
+}
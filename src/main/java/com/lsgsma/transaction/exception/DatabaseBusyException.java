@@ -0,0 +1,10 @@
+package com.lsgsma.transaction.exception;
+
+import java.time.Duration;
+
+public class DatabaseBusyException extends ServiceUnavailableException {
+
+    public DatabaseBusyException(final String message, final Duration retryAfter) {
+        super(message, retryAfter, false);
+    }
+}
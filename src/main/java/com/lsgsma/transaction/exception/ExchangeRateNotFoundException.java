@@ -3,10 +3,15 @@ package com.lsgsma.transaction.exception;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+// Expected business miss: no stack trace. The message is always read for the 404 body.
 @ResponseStatus(HttpStatus.NOT_FOUND)
 public class ExchangeRateNotFoundException extends RuntimeException {
 
     public ExchangeRateNotFoundException(final String message) {
-        super(message);
+        super(message, null, false, false);
+    }
+
+    public static ExchangeRateNotFoundException forCurrency(final String currency) {
+        return new ExchangeRateNotFoundException("Could not retrieve exchange rates for " + currency);
     }
 }
@@ -0,0 +1,13 @@
+package com.lsgsma.transaction.exception;
+
+import java.time.Duration;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ExchangeRateUnavailableException extends ServiceUnavailableException {
+
+    public ExchangeRateUnavailableException(final String message, final Duration retryAfter) {
+        super(message, retryAfter, true);
+    }
+}
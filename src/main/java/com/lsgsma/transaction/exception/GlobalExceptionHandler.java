@@ -1,12 +1,16 @@
 package com.lsgsma.transaction.exception;
 
 import com.lsgsma.transaction.dto.response.ErrorResponse;
+import com.lsgsma.transaction.util.RateLimitedLogger;
 import io.swagger.v3.oas.annotations.Hidden;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingRequestValueException;
@@ -22,22 +26,59 @@ import org.springframework.web.servlet.resource.NoResourceFoundException;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
-    @ExceptionHandler({TransactionNotFoundException.class, ExchangeRateNotFoundException.class, NoResourceFoundException.class})
+    private final RateLimitedLogger notFoundLog = new RateLimitedLogger(log, 10, Duration.ofSeconds(1));
+    private final RateLimitedLogger unavailableLog = new RateLimitedLogger(log, 10, Duration.ofSeconds(1));
+
+    @ExceptionHandler({TransactionNotFoundException.class, ExchangeRateNotFoundException.class, ConversionJobNotFoundException.class,
+            NoResourceFoundException.class})
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public ErrorResponse handleResourceNotFoundException(Exception ex, HttpServletRequest request) {
-        var errors = new HashMap<String, String>();
-        errors.put("resourceNotFound", ex.getMessage());
-        log.warn("Fail to find the resource: {}. Reason: {}", request.getRequestURI(), ex.getMessage());
+        return notFound(ex.getMessage(), request.getRequestURI());
+    }
+
+    // 404s are part of the normal traffic, so this path avoids mutable maps and logs at a bounded rate.
+    ErrorResponse notFound(final String message, final String path) {
+        notFoundLog.warn("Fail to find the resource: {}. Reason: {}", path, message);
 
         return new ErrorResponse(
                 LocalDateTime.now(),
                 HttpStatus.NOT_FOUND.value(),
                 "Resource Not Found",
+                Map.of("resourceNotFound", message),
+                path);
+    }
+
+    @ExceptionHandler(ConversionJobNotReadyException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponse handleConversionJobNotReadyException(ConversionJobNotReadyException ex, HttpServletRequest request) {
+        log.debug("Conversion job result requested before completion: {}", ex.getMessage());
+
+        return new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.CONFLICT.value(),
+                "Conflict",
+                Map.of("conflict", ex.getMessage()),
+                request.getRequestURI());
+    }
+
+    // Exchange rate outages and database overload: both hit many requests at once, so the log is rate limited
+    @ExceptionHandler(ServiceUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ErrorResponse handleServiceUnavailableException(ServiceUnavailableException ex, HttpServletRequest request, HttpServletResponse response) {
+        var errors = new HashMap<String, String>();
+        errors.put("serviceUnavailable", ex.getMessage());
+        unavailableLog.warn("Service unavailable for request: {}. Reason: {}", request.getRequestURI(), ex.getMessage());
+
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())));
+        return new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
                 errors,
                 request.getRequestURI());
     }
 
-    @ExceptionHandler({MissingRequestValueException.class, MethodArgumentTypeMismatchException.class})
+    @ExceptionHandler({MissingRequestValueException.class, MethodArgumentTypeMismatchException.class, InvalidDateRangeException.class})
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse handleRequestValueException(Exception ex, HttpServletRequest request) {
         var errors = new HashMap<String, String>();
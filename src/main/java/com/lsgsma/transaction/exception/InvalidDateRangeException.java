@@ -0,0 +1,12 @@
+package com.lsgsma.transaction.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidDateRangeException extends RuntimeException {
+
+    public InvalidDateRangeException(final String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,16 @@
+package com.lsgsma.transaction.exception;
+
+import java.time.Duration;
+import lombok.Getter;
+
+// Temporary unavailability the client should retry, answered with a 503 and a Retry-After header
+@Getter
+public abstract class ServiceUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    protected ServiceUnavailableException(final String message, final Duration retryAfter, final boolean writableStackTrace) {
+        super(message, null, true, writableStackTrace);
+        this.retryAfter = retryAfter;
+    }
+}
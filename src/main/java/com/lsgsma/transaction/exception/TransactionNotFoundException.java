@@ -1,12 +1,18 @@
 package com.lsgsma.transaction.exception;
 
+import java.util.UUID;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+// Expected business miss: no stack trace. The message is always read for the 404 body.
 @ResponseStatus(HttpStatus.NOT_FOUND)
 public class TransactionNotFoundException extends RuntimeException {
 
     public TransactionNotFoundException(final String message) {
-        super(message);
+        super(message, null, false, false);
+    }
+
+    public TransactionNotFoundException(final UUID id) {
+        this("Transaction not found with id: " + id);
     }
 }
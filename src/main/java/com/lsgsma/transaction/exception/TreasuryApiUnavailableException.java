@@ -0,0 +1,15 @@
+package com.lsgsma.transaction.exception;
+
+import java.time.Duration;
+import lombok.Getter;
+
+@Getter
+public class TreasuryApiUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public TreasuryApiUnavailableException(final String message, final Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+}
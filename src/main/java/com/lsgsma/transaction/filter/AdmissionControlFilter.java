@@ -0,0 +1,84 @@
+package com.lsgsma.transaction.filter;
+
+import com.lsgsma.transaction.config.AdmissionControlProperties;
+import com.lsgsma.transaction.dto.response.ErrorResponse;
+import com.lsgsma.transaction.filter.AdmissionLimiter.Priority;
+import com.lsgsma.transaction.infra.ExchangeRateStore;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.ObjectMapper;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final String TRANSACTION_PATH = "/transaction";
+
+    private final AdmissionControlProperties properties;
+    private final AdmissionLimiter admissionLimiter;
+    private final ExchangeRateStore exchangeRateStore;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        var path = request.getRequestURI().substring(request.getContextPath().length());
+        return !properties.enabled() || !(path.equals(TRANSACTION_PATH) || path.startsWith(TRANSACTION_PATH + "/"));
+    }
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response,
+                                    final FilterChain filterChain) throws ServletException, IOException {
+        var priority = priorityOf(request);
+        if (!admissionLimiter.tryAcquire(priority)) {
+            reject(request, response);
+            return;
+        }
+
+        var start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            admissionLimiter.release(priority, System.nanoTime() - start);
+        }
+    }
+
+    // Reads in a currency we already hold rates for are almost always served from cache; writes hit the
+    // database and conversions to an unseen currency go to the Treasury API, so those are shed first.
+    Priority priorityOf(final HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return Priority.LOW;
+        }
+        var currency = request.getParameter("currency");
+        return StringUtils.isBlank(currency) || exchangeRateStore.contains(currency) ? Priority.HIGH : Priority.LOW;
+    }
+
+    private void reject(final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+        log.debug("Shedding {} {}: admission limit reached", request.getMethod(), request.getRequestURI());
+        var errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                Map.of("serviceUnavailable", "The service is overloaded. Please try again later."),
+                request.getRequestURI());
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, properties.retryAfter().toSeconds())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
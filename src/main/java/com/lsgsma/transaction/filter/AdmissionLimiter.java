@@ -0,0 +1,106 @@
+package com.lsgsma.transaction.filter;
+
+import com.lsgsma.transaction.config.AdmissionControlProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.stereotype.Component;
+
+// In-flight request limit that adapts to the latency target: while the limit is in use it grows by one as long
+// as the smoothed latency of high priority requests stays within the target, and is cut by backoffRatio while it
+// overshoots. Low priority requests (writes, uncached currencies) are slow by nature and do not move the limit,
+// and neither does latency while the limit is not in use, since fewer permits would not make it any faster.
+// Smoothing keeps the odd slow cold conversion from shrinking the limit on its own.
+// Low priority requests may only use lowPriorityShare of the limit so cheap reads keep going under overload.
+@Component
+public class AdmissionLimiter {
+
+    public enum Priority { HIGH, LOW }
+
+    private static final double LATENCY_SMOOTHING = 0.1;
+
+    private final AdmissionControlProperties properties;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Counter highPriorityRejections;
+    private final Counter lowPriorityRejections;
+
+    private double limit;
+    private int inFlight;
+    private double smoothedLatencyNanos;
+
+    public AdmissionLimiter(final AdmissionControlProperties properties, final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.limit = properties.initialLimit();
+        this.highPriorityRejections = rejectionCounter(meterRegistry, Priority.HIGH);
+        this.lowPriorityRejections = rejectionCounter(meterRegistry, Priority.LOW);
+        Gauge.builder("http.server.admission.limit", this, AdmissionLimiter::limit)
+                .description("Current adaptive limit of in-flight transaction requests")
+                .register(meterRegistry);
+        Gauge.builder("http.server.admission.inflight", this, AdmissionLimiter::inFlight)
+                .description("Transaction requests currently being processed")
+                .register(meterRegistry);
+    }
+
+    public boolean tryAcquire(final Priority priority) {
+        lock.lock();
+        try {
+            var allowed = priority == Priority.HIGH ? limit : limit * properties.lowPriorityShare();
+            if (inFlight >= (int) allowed) {
+                (priority == Priority.HIGH ? highPriorityRejections : lowPriorityRejections).increment();
+                return false;
+            }
+            inFlight++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release(final Priority priority, final long latencyNanos) {
+        lock.lock();
+        try {
+            var wasSaturated = inFlight * 2 >= limit;
+            inFlight--;
+            if (priority == Priority.LOW) {
+                return;
+            }
+            smoothedLatencyNanos += LATENCY_SMOOTHING * (latencyNanos - smoothedLatencyNanos);
+            if (!wasSaturated) {
+                return;
+            }
+            if (smoothedLatencyNanos > properties.targetLatency().toNanos()) {
+                limit = Math.max(properties.minLimit(), limit * properties.backoffRatio());
+            } else {
+                limit = Math.min(properties.maxLimit(), limit + 1);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int limit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static Counter rejectionCounter(final MeterRegistry meterRegistry, final Priority priority) {
+        return Counter.builder("http.server.admission.rejections")
+                .tag("priority", priority.name().toLowerCase())
+                .description("Transaction requests rejected by admission control")
+                .register(meterRegistry);
+    }
+}
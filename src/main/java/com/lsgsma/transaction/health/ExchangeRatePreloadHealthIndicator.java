@@ -0,0 +1,33 @@
+package com.lsgsma.transaction.health;
+
+import com.lsgsma.transaction.infra.ExchangeRatePreloader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.health.contributor.Health;
+import org.springframework.boot.health.contributor.HealthIndicator;
+import org.springframework.boot.health.contributor.Status;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ExchangeRatePreloadHealthIndicator implements HealthIndicator {
+
+    public static final Status DEGRADED = new Status("DEGRADED", "Serving traffic without a fully preloaded exchange rate cache");
+
+    private final ExchangeRatePreloader exchangeRatePreloader;
+
+    @Override
+    public Health health() {
+        var result = exchangeRatePreloader.getResult();
+        var health = switch (result.state()) {
+            case PENDING, LOADING -> Health.outOfService();
+            case COMPLETED, DISABLED -> Health.up();
+            case DEGRADED -> Health.status(DEGRADED);
+        };
+        return health
+                .withDetail("state", result.state())
+                .withDetail("loadedCurrencies", result.loadedCurrencies())
+                .withDetail("failedCurrencies", result.failedCurrencies())
+                .withDetail("elapsedMillis", result.elapsed().toMillis())
+                .build();
+    }
+}
@@ -1,7 +1,11 @@
 package com.lsgsma.transaction.infra;
 
+import com.lsgsma.transaction.conversion.ConversionRules;
+import com.lsgsma.transaction.dto.client.response.TreasuryExchangeRateDataResponse;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
@@ -31,4 +35,26 @@ public class CacheWarmingService {
         }
         log.debug("Finished async cache warming for currency '{}'", currency);
     }
+
+    public int preloadExchangeRateCache(final String currency, final LocalDate fromDate, final LocalDate toDate, final List<TreasuryExchangeRateDataResponse> records) {
+        log.debug("Starting cache preload for currency '{}' from {} to {}", currency, fromDate, toDate);
+        var sortedRecords = records.stream()
+                .sorted(Comparator.comparing(TreasuryExchangeRateDataResponse::recordDate))
+                .toList();
+
+        var cachedEntries = 0;
+        var recordIndex = -1;
+        for (var dateToCache = fromDate; !dateToCache.isAfter(toDate); dateToCache = dateToCache.plusDays(1)) {
+            while (recordIndex + 1 < sortedRecords.size() && !sortedRecords.get(recordIndex + 1).recordDate().isAfter(dateToCache)) {
+                recordIndex++;
+            }
+            if (recordIndex < 0 || !ConversionRules.isWithinWindow(sortedRecords.get(recordIndex).recordDate(), dateToCache)) {
+                continue;
+            }
+            exchangeRateCache.put(buildCacheKey(currency, dateToCache), sortedRecords.get(recordIndex).exchangeRate());
+            cachedEntries++;
+        }
+        log.debug("Finished cache preload for currency '{}' with {} entries", currency, cachedEntries);
+        return cachedEntries;
+    }
 }
@@ -0,0 +1,27 @@
+package com.lsgsma.transaction.infra;
+
+import com.lsgsma.transaction.config.TransactionStoreConfig;
+import com.lsgsma.transaction.service.ConversionJobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = TransactionStoreConfig.MODE_PROPERTY, havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class ConversionJobResumer implements ApplicationRunner {
+
+    private final ConversionJobService conversionJobService;
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        var resumed = conversionJobService.resumeUnfinished();
+        if (resumed > 0) {
+            log.info("Resumed {} unfinished conversion jobs", resumed);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.lsgsma.transaction.infra;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.lsgsma.transaction.client.TreasuryApiClient;
+import com.lsgsma.transaction.conversion.ConversionRules;
+import com.lsgsma.transaction.dto.client.response.TreasuryExchangeRateDataResponse;
+import com.lsgsma.transaction.exception.TreasuryApiUnavailableException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import static java.util.Objects.nonNull;
+
+// Only drives refresh-ahead: misses are resolved by ExchangeRateService, so load() never goes upstream.
+// Keys are per currency and day, but a refresh fetches the whole recent window of the currency into the rate
+// store once per refresh interval, and every recent day of that currency is then answered from the store.
+@RequiredArgsConstructor
+@Slf4j
+public class ExchangeRateCacheLoader implements CacheLoader<Object, Object> {
+
+    private final TreasuryApiClient treasuryApiClient;
+    private final ExchangeRateExpiry exchangeRateExpiry;
+    private final ExchangeRateStore exchangeRateStore;
+    private final Duration refreshInterval;
+    private final Map<String, Fetch> fetches = new ConcurrentHashMap<>();
+
+    // Latest range fetch of a currency, shared by the reloads of all its keys; done tells whether it succeeded
+    private record Fetch(long startedNanos, CompletableFuture<Boolean> done) {}
+
+    @Override
+    public Object load(final Object key) {
+        return null;
+    }
+
+    @Override
+    public Object reload(final Object key, final Object oldValue) {
+        var transactionDate = ExchangeRateExpiry.transactionDateOf(key);
+        if (transactionDate == null || exchangeRateExpiry.isHistoric(key)) {
+            return oldValue;
+        }
+
+        var currency = ExchangeRateExpiry.currencyOf(key);
+        if (!refreshRecentRates(currency)) {
+            return oldValue;
+        }
+        return exchangeRateStore.findApplicable(currency, transactionDate)
+                .<Object>map(TreasuryExchangeRateDataResponse::exchangeRate)
+                .orElse(oldValue);
+    }
+
+    private boolean refreshRecentRates(final String currency) {
+        var now = System.nanoTime();
+        var candidate = new Fetch(now, new CompletableFuture<>());
+        var fetch = fetches.compute(currency, (_, previous) ->
+                nonNull(previous) && now - previous.startedNanos() < refreshInterval.toNanos() ? previous : candidate);
+        if (fetch == candidate) {
+            try {
+                candidate.done().complete(fetchRecentRates(currency));
+            } catch (RuntimeException e) {
+                candidate.done().completeExceptionally(e);
+                throw e;
+            }
+        }
+        return fetch.done().join();
+    }
+
+    private boolean fetchRecentRates(final String currency) {
+        var from = ConversionRules.windowStart(exchangeRateExpiry.historicBefore());
+        log.debug("Refreshing exchange rates for {} since {}", currency, from);
+        try {
+            treasuryApiClient.getExchangeRatesByCurrencyInRecordDateRangeSortedByRecordDateDesc(currency, from, LocalDate.now())
+                    .filter(response -> nonNull(response.data()))
+                    .ifPresent(response -> exchangeRateStore.recordAll(currency, response.data()));
+            return true;
+        } catch (TreasuryApiUnavailableException _) {
+            return false;
+        }
+    }
+}
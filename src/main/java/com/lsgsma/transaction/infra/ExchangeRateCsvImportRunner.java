@@ -0,0 +1,45 @@
+package com.lsgsma.transaction.infra;
+
+import com.lsgsma.transaction.config.ExchangeRateImportProperties;
+import com.lsgsma.transaction.conversion.RateCsvImporter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import static java.util.Objects.isNull;
+
+// Seeds the rate store from a Treasury "Rates of Exchange" CSV download, e.g.
+// --exchange-rate.import.file=/data/RprtRateXchg.csv. Runs before the preloader so the imported rates are in
+// place before the first Treasury API call.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class ExchangeRateCsvImportRunner implements ApplicationRunner {
+
+    private final ExchangeRateImportProperties properties;
+    private final ExchangeRateStore exchangeRateStore;
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        if (isNull(properties.file())) {
+            return;
+        }
+        log.info("Importing exchange rates from {}", properties.file());
+        try {
+            var result = new RateCsvImporter(exchangeRateStore.rateStore()).importFile(properties.file());
+            exchangeRateStore.imported(result.currencies(), result.latestRecordDate(), properties.authoritative());
+            log.info("Imported {} exchange rates ({} skipped) for {} currencies up to {} in {} ms ({} rows/s)",
+                    result.rows(), result.skippedRows(), result.currencies().size(), result.latestRecordDate(),
+                    result.elapsed().toMillis(), Math.round(result.rowsPerSecond()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not import exchange rates from " + properties.file(), e);
+        }
+    }
+}
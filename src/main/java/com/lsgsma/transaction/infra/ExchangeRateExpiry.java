@@ -0,0 +1,71 @@
+package com.lsgsma.transaction.infra;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+// Treasury only publishes new records for the current quarter (plus amendments shortly after a quarter
+// closes), so rates for older dates can never change and are only evicted by size.
+public class ExchangeRateExpiry implements Expiry<Object, Object> {
+
+    private static final String KEY_SEPARATOR = "::";
+
+    private final Clock clock;
+    private final Duration publicationLag;
+    private final long recentExpireAfterAccessNanos;
+
+    public ExchangeRateExpiry(final Clock clock, final Duration publicationLag, final Duration recentExpireAfterAccess) {
+        this.clock = clock;
+        this.publicationLag = publicationLag;
+        this.recentExpireAfterAccessNanos = recentExpireAfterAccess.toNanos();
+    }
+
+    @Override
+    public long expireAfterCreate(final Object key, final Object value, final long currentTime) {
+        return isHistoric(key) ? Long.MAX_VALUE : recentExpireAfterAccessNanos;
+    }
+
+    @Override
+    public long expireAfterUpdate(final Object key, final Object value, final long currentTime, final long currentDuration) {
+        return isHistoric(key) ? Long.MAX_VALUE : recentExpireAfterAccessNanos;
+    }
+
+    @Override
+    public long expireAfterRead(final Object key, final Object value, final long currentTime, final long currentDuration) {
+        return isHistoric(key) ? Long.MAX_VALUE : recentExpireAfterAccessNanos;
+    }
+
+    public boolean isHistoric(final Object key) {
+        var date = transactionDateOf(key);
+        return date != null && date.isBefore(historicBefore());
+    }
+
+    // Rates for transaction dates before this day are final
+    public LocalDate historicBefore() {
+        return firstDayOfQuarter(LocalDate.now(clock).minusDays(publicationLag.toDays()));
+    }
+
+    public static LocalDate transactionDateOf(final Object key) {
+        var cacheKey = key.toString();
+        var separator = cacheKey.lastIndexOf(KEY_SEPARATOR);
+        if (separator < 0) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(cacheKey.substring(separator + KEY_SEPARATOR.length()));
+        } catch (DateTimeParseException _) {
+            return null;
+        }
+    }
+
+    public static String currencyOf(final Object key) {
+        var cacheKey = key.toString();
+        return cacheKey.substring(0, cacheKey.lastIndexOf(KEY_SEPARATOR));
+    }
+
+    private static LocalDate firstDayOfQuarter(final LocalDate date) {
+        return date.withDayOfMonth(1).withMonth(((date.getMonthValue() - 1) / 3) * 3 + 1);
+    }
+}
@@ -0,0 +1,109 @@
+package com.lsgsma.transaction.infra;
+
+import com.lsgsma.transaction.config.ExchangeRatePeerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+// Pulls the rate store of the other replicas from their management port, so only one of them has to fetch a rate
+// from the Treasury API. Runs after the CSV import and before the preloader, which then only fetches what no peer
+// had, and again every sync-interval. After the first full snapshot of a peer only its changes are transferred.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@Slf4j
+public class ExchangeRatePeerSync implements ApplicationRunner {
+
+    static final String SNAPSHOT_PATH = "/actuator/ratesnapshot";
+
+    private final ExchangeRatePeerProperties properties;
+    private final ExchangeRateStore exchangeRateStore;
+    private final RestClient peerRestClient;
+    private final Counter syncSuccesses;
+    private final Counter syncFailures;
+    private final Counter receivedRates;
+    private final Map<URI, PeerState> peerStates = new ConcurrentHashMap<>();
+
+    // Where the last pull from a peer ended; only valid while neither store started over
+    private record PeerState(String localEpoch, String epoch, long version) {}
+
+    public ExchangeRatePeerSync(final ExchangeRatePeerProperties properties, final ExchangeRateStore exchangeRateStore,
+                                final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.exchangeRateStore = exchangeRateStore;
+        var requestFactory = new JdkClientHttpRequestFactory(HttpClient.newBuilder().connectTimeout(properties.timeout()).build());
+        requestFactory.setReadTimeout(properties.timeout());
+        this.peerRestClient = RestClient.builder().requestFactory(requestFactory).build();
+        this.syncSuccesses = meterRegistry.counter("exchange.rate.peer.sync", "result", "success");
+        this.syncFailures = meterRegistry.counter("exchange.rate.peer.sync", "result", "failure");
+        this.receivedRates = meterRegistry.counter("exchange.rate.peer.rates");
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        if (!properties.urls().isEmpty()) {
+            var changed = syncAll();
+            log.info("Received {} exchange rates from {} peers", changed, properties.urls().size());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${exchange-rate.peers.sync-interval:1m}", fixedDelayString = "${exchange-rate.peers.sync-interval:1m}")
+    public void scheduledSync() {
+        if (!properties.urls().isEmpty()) {
+            syncAll();
+        }
+    }
+
+    // Returns how many rates were new or different
+    public int syncAll() {
+        var changed = 0;
+        for (var peer : properties.urls()) {
+            try {
+                changed += sync(peer);
+                syncSuccesses.increment();
+            } catch (RestClientException e) {
+                log.warn("Could not sync exchange rates from peer {}: {}", peer, e.getMessage());
+                syncFailures.increment();
+            }
+        }
+        receivedRates.increment(changed);
+        return changed;
+    }
+
+    private int sync(final URI peer) {
+        var localEpoch = exchangeRateStore.epoch();
+        var state = peerStates.get(peer);
+        var uri = UriComponentsBuilder.fromUri(peer).path(SNAPSHOT_PATH);
+        if (nonNull(state) && state.localEpoch().equals(localEpoch)) {
+            uri.queryParam("epoch", state.epoch()).queryParam("since", state.version());
+        }
+        var snapshot = peerRestClient.get()
+                .uri(uri.build().toUri())
+                .retrieve()
+                .body(ExchangeRateSnapshot.class);
+        if (isNull(snapshot)) {
+            return 0;
+        }
+        var changed = exchangeRateStore.apply(snapshot);
+        peerStates.put(peer, new PeerState(localEpoch, snapshot.epoch(), snapshot.version()));
+        log.debug("Synced {} snapshot version {} from peer {}, {} rates changed", snapshot.full() ? "full" : "delta",
+                snapshot.version(), peer, changed);
+        return changed;
+    }
+}
@@ -0,0 +1,130 @@
+package com.lsgsma.transaction.infra;
+
+import com.lsgsma.transaction.client.TreasuryApiClient;
+import com.lsgsma.transaction.config.ExchangeRatePreloadProperties;
+import com.lsgsma.transaction.conversion.ConversionRules;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import static java.util.Objects.nonNull;
+
+// Runners are called before the readiness state switches to ACCEPTING_TRAFFIC, so the pod only
+// reports ready once the hot currencies are in the cache (or the preload gave up).
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExchangeRatePreloader implements ApplicationRunner {
+
+    private final ExchangeRatePreloadProperties properties;
+    private final TreasuryApiClient treasuryApiClient;
+    private final CacheWarmingService cacheWarmingService;
+    private final ExchangeRateStore exchangeRateStore;
+    private final ExchangeRateExpiry exchangeRateExpiry;
+
+    private volatile PreloadResult result = PreloadResult.pending();
+
+    public enum State { PENDING, LOADING, COMPLETED, DEGRADED, DISABLED }
+
+    public record PreloadResult(State state, List<String> loadedCurrencies, List<String> failedCurrencies, Duration elapsed) {
+
+        static PreloadResult pending() {
+            return new PreloadResult(State.PENDING, List.of(), List.of(), Duration.ZERO);
+        }
+    }
+
+    public PreloadResult getResult() {
+        return result;
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        if (!properties.enabled() || properties.currencies().isEmpty()) {
+            log.info("Exchange rate preload disabled");
+            result = new PreloadResult(State.DISABLED, List.of(), List.of(), Duration.ZERO);
+            return;
+        }
+        result = new PreloadResult(State.LOADING, List.of(), List.of(), Duration.ZERO);
+        result = preload();
+        log.info("Exchange rate preload finished with state {} in {} ms, loaded: {}, failed: {}",
+                result.state(), result.elapsed().toMillis(), result.loadedCurrencies(), result.failedCurrencies());
+    }
+
+    private PreloadResult preload() {
+        var start = System.nanoTime();
+        var toDate = LocalDate.now();
+        var fromDate = toDate.minusDays(properties.lookback().toDays());
+        var currencies = properties.currencies();
+
+        var tasks = new ArrayList<Callable<Boolean>>();
+        for (var currency : currencies) {
+            tasks.add(() -> preload(currency, fromDate, toDate));
+        }
+
+        var loaded = new ArrayList<String>();
+        var failed = new ArrayList<String>();
+        var executor = Executors.newFixedThreadPool(Math.max(1, properties.concurrency()), Thread.ofVirtual().name("exchange-rate-preload-", 0).factory());
+        try {
+            var futures = executor.invokeAll(tasks, properties.timeout().toMillis(), TimeUnit.MILLISECONDS);
+            for (var i = 0; i < futures.size(); i++) {
+                var currency = currencies.get(i);
+                try {
+                    if (Boolean.TRUE.equals(futures.get(i).get())) {
+                        loaded.add(currency);
+                    } else {
+                        failed.add(currency);
+                    }
+                } catch (CancellationException _) {
+                    log.warn("Exchange rate preload for currency '{}' timed out", currency);
+                    failed.add(currency);
+                } catch (ExecutionException e) {
+                    log.warn("Exchange rate preload for currency '{}' failed: {}", currency, e.getCause().getMessage());
+                    failed.add(currency);
+                }
+            }
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+            failed.addAll(currencies.stream().filter(currency -> !loaded.contains(currency)).toList());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return new PreloadResult(failed.isEmpty() ? State.COMPLETED : State.DEGRADED,
+                List.copyOf(loaded), List.copyOf(failed), Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private boolean preload(final String currency, final LocalDate fromDate, final LocalDate toDate) {
+        var windowStart = ConversionRules.windowStart(fromDate);
+        // Only the part of the range that no peer or import already holds completely is fetched
+        var fetchFrom = exchangeRateStore.completeThrough(currency, windowStart)
+                .map(through -> through.plusDays(1))
+                .orElse(windowStart);
+        if (!fetchFrom.isAfter(toDate)) {
+            var fetched = treasuryApiClient
+                    .getExchangeRatesByCurrencyInRecordDateRangeSortedByRecordDateDesc(currency, fetchFrom, toDate)
+                    .filter(response -> nonNull(response.data()));
+            if (fetched.isEmpty()) {
+                return false;
+            }
+            exchangeRateStore.recordAll(currency, fetched.get().data());
+            // Rates of the open quarters can still be published or amended, so only older ones count as complete
+            var historicThrough = exchangeRateExpiry.historicBefore().minusDays(1);
+            exchangeRateStore.markComplete(currency, fetchFrom, historicThrough.isBefore(toDate) ? historicThrough : toDate);
+        } else {
+            log.info("Exchange rates for currency '{}' from {} to {} already received from peers", currency, windowStart, toDate);
+        }
+        cacheWarmingService.preloadExchangeRateCache(currency, fromDate, toDate, exchangeRateStore.findAll(currency, windowStart, toDate));
+        return true;
+    }
+}
@@ -0,0 +1,15 @@
+package com.lsgsma.transaction.infra;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+// Contents of an ExchangeRateStore as exchanged between replicas. A delta (full = false) only holds the rates changed
+// after the requested version; complete ranges are always included. The epoch changes whenever the store starts over
+// (restart or clear), which invalidates every version handed out before.
+public record ExchangeRateSnapshot(String epoch, long version, boolean full, List<CurrencyRates> currencies) {
+
+    // completeFrom/completeThrough: every rate published in that range is in the store (both null when unknown)
+    public record CurrencyRates(String currency, LocalDate completeFrom, LocalDate completeThrough, Map<LocalDate, BigDecimal> rates) {}
+}
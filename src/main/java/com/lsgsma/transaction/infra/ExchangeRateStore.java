@@ -0,0 +1,224 @@
+package com.lsgsma.transaction.infra;
+
+import com.lsgsma.transaction.conversion.ConversionRules;
+import com.lsgsma.transaction.conversion.ExchangeRate;
+import com.lsgsma.transaction.conversion.RateStore;
+import com.lsgsma.transaction.dto.client.response.TreasuryExchangeRateDataResponse;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+import static java.util.Objects.nonNull;
+
+// Every rate the Treasury API has returned, a CSV import loaded or a peer replica sent, by record date. Used as a
+// fallback when the API cannot be reached, and as the source of truth for date ranges it holds completely.
+// Every change gets a version, so replicas can pull only what changed since their last sync (see snapshot/apply).
+@Component
+public class ExchangeRateStore {
+
+    private final RateStore rateStore = new RateStore();
+    private final AtomicLong fallbackHits = new AtomicLong();
+    private final AtomicLong fallbackMisses = new AtomicLong();
+    private final Map<String, CompleteRange> completeRanges = new ConcurrentHashMap<>();
+    private volatile Instant lastUpdated;
+
+    // Version of the latest change of every rate; guarded by `this` together with `version`
+    private final Map<String, NavigableMap<LocalDate, Long>> changedAt = new HashMap<>();
+    private long version;
+    private volatile String epoch = UUID.randomUUID().toString();
+
+    // Record dates between `from` and `through` (inclusive) for which every published rate is in the store
+    record CompleteRange(LocalDate from, LocalDate through) {
+
+        boolean covers(final LocalDate fromDate, final LocalDate toDate) {
+            return !fromDate.isBefore(from) && !toDate.isAfter(through);
+        }
+
+        // Disjoint ranges cannot be merged, the most recent one is kept
+        CompleteRange union(final CompleteRange other) {
+            if (other.from.isAfter(through.plusDays(1)) || from.isAfter(other.through.plusDays(1))) {
+                return other.through.isAfter(through) ? other : this;
+            }
+            return new CompleteRange(from.isBefore(other.from) ? from : other.from, through.isAfter(other.through) ? through : other.through);
+        }
+    }
+
+    public void record(final String currency, final LocalDate recordDate, final BigDecimal exchangeRate) {
+        synchronized (this) {
+            put(currency, recordDate, exchangeRate);
+        }
+        lastUpdated = Instant.now();
+    }
+
+    public void recordAll(final String currency, final List<TreasuryExchangeRateDataResponse> records) {
+        synchronized (this) {
+            records.forEach(data -> put(currency, data.recordDate(), data.exchangeRate()));
+        }
+        lastUpdated = Instant.now();
+    }
+
+    // A full dataset import holds every rate published up to its latest record date, so lookups up to that
+    // date can be answered without the Treasury API.
+    public void imported(final Set<String> currencies, final LocalDate latestRecordDate, final boolean authoritative) {
+        synchronized (this) {
+            // The importer writes to the rate store directly, so its rates still need a version to reach peers
+            version++;
+            currencies.forEach(currency -> rateStore.findAll(currency, LocalDate.MIN, LocalDate.MAX)
+                    .forEach(rate -> changedAt.computeIfAbsent(currency, _ -> new TreeMap<>()).put(rate.recordDate(), version)));
+        }
+        lastUpdated = Instant.now();
+        if (authoritative && latestRecordDate != null) {
+            currencies.forEach(currency -> markComplete(currency, LocalDate.MIN, latestRecordDate));
+        }
+    }
+
+    public void markComplete(final String currency, final LocalDate fromDate, final LocalDate throughDate) {
+        if (!throughDate.isBefore(fromDate)) {
+            completeRanges.merge(currency, new CompleteRange(fromDate, throughDate), CompleteRange::union);
+        }
+    }
+
+    // Whether every rate that can apply to the date is in the store
+    public boolean isCompleteThrough(final String currency, final LocalDate date) {
+        var range = completeRanges.get(currency);
+        return range != null && range.covers(ConversionRules.windowStart(date), date);
+    }
+
+    // End of the complete range that contains the date, if any
+    public Optional<LocalDate> completeThrough(final String currency, final LocalDate date) {
+        return Optional.ofNullable(completeRanges.get(currency))
+                .filter(range -> range.covers(date, date))
+                .map(CompleteRange::through);
+    }
+
+    public Optional<TreasuryExchangeRateDataResponse> findApplicable(final String currency, final LocalDate transactionDate) {
+        return rateStore.findApplicable(currency, transactionDate)
+                .map(rate -> new TreasuryExchangeRateDataResponse(rate.rate(), rate.recordDate()));
+    }
+
+    public Optional<TreasuryExchangeRateDataResponse> findLatest(final String currency, final LocalDate fromDate, final LocalDate toDate) {
+        var latest = rateStore.findLatest(currency, fromDate, toDate)
+                .map(rate -> new TreasuryExchangeRateDataResponse(rate.rate(), rate.recordDate()));
+        (latest.isPresent() ? fallbackHits : fallbackMisses).incrementAndGet();
+        return latest;
+    }
+
+    public List<TreasuryExchangeRateDataResponse> findAll(final String currency, final LocalDate fromDate, final LocalDate toDate) {
+        return rateStore.findAll(currency, fromDate, toDate).stream()
+                .map(rate -> new TreasuryExchangeRateDataResponse(rate.rate(), rate.recordDate()))
+                .toList();
+    }
+
+    // Everything changed after `since`, or the whole store when the epoch is not the current one
+    public synchronized ExchangeRateSnapshot snapshot(final String epoch, final long since) {
+        var full = !this.epoch.equals(epoch);
+        var after = full ? 0 : since;
+        var currencies = new TreeSet<>(changedAt.keySet());
+        currencies.addAll(completeRanges.keySet());
+
+        var currencyRates = new ArrayList<ExchangeRateSnapshot.CurrencyRates>();
+        for (var currency : currencies) {
+            var rates = new TreeMap<LocalDate, BigDecimal>();
+            changedAt.getOrDefault(currency, new TreeMap<>()).forEach((recordDate, changeVersion) -> {
+                if (changeVersion > after) {
+                    rateStore.findLatest(currency, recordDate, recordDate).ifPresent(rate -> rates.put(recordDate, rate.rate()));
+                }
+            });
+            var range = completeRanges.get(currency);
+            if (!rates.isEmpty() || range != null) {
+                currencyRates.add(new ExchangeRateSnapshot.CurrencyRates(currency,
+                        range != null ? range.from() : null, range != null ? range.through() : null, rates));
+            }
+        }
+        return new ExchangeRateSnapshot(this.epoch, version, full, currencyRates);
+    }
+
+    // Merges a peer's snapshot; returns how many rates were new or different
+    public int apply(final ExchangeRateSnapshot snapshot) {
+        var changed = 0;
+        synchronized (this) {
+            for (var currencyRates : snapshot.currencies()) {
+                for (var rate : currencyRates.rates().entrySet()) {
+                    if (put(currencyRates.currency(), rate.getKey(), rate.getValue())) {
+                        changed++;
+                    }
+                }
+            }
+        }
+        // Only after the rates: a complete range must never be visible without them
+        for (var currencyRates : snapshot.currencies()) {
+            if (nonNull(currencyRates.completeFrom()) && nonNull(currencyRates.completeThrough())) {
+                markComplete(currencyRates.currency(), currencyRates.completeFrom(), currencyRates.completeThrough());
+            }
+        }
+        if (changed > 0) {
+            lastUpdated = Instant.now();
+        }
+        return changed;
+    }
+
+    public String epoch() {
+        return epoch;
+    }
+
+    public boolean contains(final String currency) {
+        return rateStore.contains(currency);
+    }
+
+    public Set<String> currencies() {
+        return rateStore.currencies();
+    }
+
+    public Optional<RateStore.Coverage> coverage(final String currency) {
+        return rateStore.coverage(currency);
+    }
+
+    // The underlying store, for in-process bulk conversion with the conversion-core engine.
+    public RateStore rateStore() {
+        return rateStore;
+    }
+
+    public long fallbackHits() {
+        return fallbackHits.get();
+    }
+
+    public long fallbackMisses() {
+        return fallbackMisses.get();
+    }
+
+    public Optional<Instant> lastUpdated() {
+        return Optional.ofNullable(lastUpdated);
+    }
+
+    public synchronized void clear() {
+        rateStore.clear();
+        completeRanges.clear();
+        changedAt.clear();
+        epoch = UUID.randomUUID().toString();
+        lastUpdated = null;
+    }
+
+    // Same rate again (e.g. sent back by the peer it came from) is not a change, so replicas do not ping-pong
+    private boolean put(final String currency, final LocalDate recordDate, final BigDecimal exchangeRate) {
+        var current = rateStore.findLatest(currency, recordDate, recordDate).map(ExchangeRate::rate);
+        if (current.isPresent() && current.get().compareTo(exchangeRate) == 0) {
+            return false;
+        }
+        rateStore.put(currency, recordDate, exchangeRate);
+        changedAt.computeIfAbsent(currency, _ -> new TreeMap<>()).put(recordDate, ++version);
+        return true;
+    }
+}
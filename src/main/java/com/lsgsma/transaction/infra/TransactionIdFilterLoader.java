@@ -0,0 +1,28 @@
+package com.lsgsma.transaction.infra;
+
+import com.lsgsma.transaction.service.TransactionIdFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+// Lookups pass straight through to the store until this has run, so an early request never gets a wrong 404.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionIdFilterLoader implements ApplicationRunner {
+
+    private final TransactionIdFilter transactionIdFilter;
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        if (!transactionIdFilter.enabled()) {
+            return;
+        }
+        var start = System.nanoTime();
+        var ids = transactionIdFilter.rebuild();
+        log.info("Transaction id filter built with {} ids in {} ms, {} KB",
+                ids, (System.nanoTime() - start) / 1_000_000, transactionIdFilter.memoryBytes() / 1024);
+    }
+}
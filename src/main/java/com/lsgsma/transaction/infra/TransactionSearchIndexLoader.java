@@ -0,0 +1,26 @@
+package com.lsgsma.transaction.infra;
+
+import com.lsgsma.transaction.service.TransactionSearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+// Runs before the readiness state switches to ACCEPTING_TRAFFIC, so searches never see a half-built index.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionSearchIndexLoader implements ApplicationRunner {
+
+    private final TransactionSearchService transactionSearchService;
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        var start = System.nanoTime();
+        var documents = transactionSearchService.rebuild();
+        var footprint = transactionSearchService.footprint();
+        log.info("Transaction search index built with {} transactions and {} trigrams in {} ms, ~{} KB",
+                documents, footprint.trigrams(), (System.nanoTime() - start) / 1_000_000, footprint.estimatedBytes() / 1024);
+    }
+}
@@ -0,0 +1,42 @@
+package com.lsgsma.transaction.jfr;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Totals per key for at most maxKeys keys; anything past that is added to "other" so stack frames cannot grow the map forever.
+public class BoundedCounter {
+
+    public static final String OTHER = "other";
+
+    private final int maxKeys;
+    private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+    public record Count(String key, long total) {}
+
+    public BoundedCounter(final int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    public void add(final String key, final long amount) {
+        var adder = counts.get(key);
+        if (adder == null) {
+            adder = counts.computeIfAbsent(counts.size() < maxKeys ? key : OTHER, _ -> new LongAdder());
+        }
+        adder.add(amount);
+    }
+
+    public List<Count> top(final int limit) {
+        return counts.entrySet().stream()
+                .map(entry -> new Count(entry.getKey(), entry.getValue().sum()))
+                .sorted(Comparator.comparingLong(Count::total).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public long total() {
+        return counts.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+}
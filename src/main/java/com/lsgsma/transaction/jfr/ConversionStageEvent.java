@@ -0,0 +1,44 @@
+package com.lsgsma.transaction.jfr;
+
+import java.util.function.Supplier;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(ConversionStageEvent.NAME)
+@Label("Conversion Stage")
+@Category({"Transaction", "Conversion"})
+@Description("One stage of converting a transaction to another currency")
+@StackTrace(false)
+public class ConversionStageEvent extends Event {
+
+    public static final String NAME = "com.lsgsma.transaction.ConversionStage";
+
+    public static final String LOAD = "load";
+    public static final String EXCHANGE_RATE = "exchangeRate";
+    public static final String CONVERT = "convert";
+
+    @Label("Stage")
+    String stage;
+
+    @Label("Currency")
+    String currency;
+
+    ConversionStageEvent(final String stage, final String currency) {
+        this.stage = stage;
+        this.currency = currency;
+    }
+
+    public static <T> T record(final String stage, final String currency, final Supplier<T> action) {
+        var event = new ConversionStageEvent(stage, currency);
+        event.begin();
+        try {
+            return action.get();
+        } finally {
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.lsgsma.transaction.jfr;
+
+import com.lsgsma.transaction.config.JfrProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import static java.util.Objects.isNull;
+
+// Streams JFR events inside the process and folds them into metrics: carrier pinning by virtual threads,
+// sampled allocations per endpoint and allocation site, and the ConversionStageEvents of TransactionService.
+// The stream keeps the last maxAge/maxSize of events so a recording can be dumped on demand.
+@Component
+@Slf4j
+public class JfrMonitor implements SmartLifecycle {
+
+    static final String VIRTUAL_THREAD_PINNED = "jdk.VirtualThreadPinned";
+    static final String OBJECT_ALLOCATION_SAMPLE = "jdk.ObjectAllocationSample";
+
+    private static final String APPLICATION_PACKAGE = "com.lsgsma.transaction.";
+    private static final String CONTROLLER_PACKAGE = "com.lsgsma.transaction.controller.";
+
+    private final JfrProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Timer pinned;
+    private final BoundedCounter pinnedFrames;
+    private final BoundedCounter allocationSites;
+    private final BoundedCounter allocationByEndpoint;
+    private final Map<String, Counter> allocationCounters = new ConcurrentHashMap<>();
+    private final Map<String, Timer> stageTimers = new ConcurrentHashMap<>();
+
+    private volatile RecordingStream recordingStream;
+
+    public JfrMonitor(final JfrProperties properties, final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.pinned = Timer.builder("jvm.threads.virtual.pinned")
+                .description("Virtual threads pinned to their carrier for longer than the JFR threshold")
+                .register(meterRegistry);
+        this.pinnedFrames = new BoundedCounter(properties.maxTrackedFrames());
+        this.allocationSites = new BoundedCounter(properties.maxTrackedFrames());
+        this.allocationByEndpoint = new BoundedCounter(properties.maxTrackedFrames());
+    }
+
+    @Override
+    public void start() {
+        if (!properties.enabled()) {
+            log.info("JFR monitoring disabled");
+            return;
+        }
+        var stream = new RecordingStream();
+        stream.enable(VIRTUAL_THREAD_PINNED).withThreshold(properties.pinnedThreshold()).withStackTrace();
+        stream.enable(OBJECT_ALLOCATION_SAMPLE).with("throttle", properties.allocationThrottle()).withStackTrace();
+        stream.enable(ConversionStageEvent.class).withoutThreshold();
+        stream.setMaxAge(properties.maxAge());
+        stream.setMaxSize(properties.maxSize().toBytes());
+        stream.onEvent(VIRTUAL_THREAD_PINNED, this::onPinned);
+        stream.onEvent(OBJECT_ALLOCATION_SAMPLE, this::onAllocation);
+        stream.onEvent(ConversionStageEvent.NAME, this::onConversionStage);
+        stream.onError(e -> log.warn("JFR event handling failed: {}", e.getMessage()));
+        stream.startAsync();
+        recordingStream = stream;
+        log.info("JFR monitoring started, pinned threshold {} ms, allocation throttle {}",
+                properties.pinnedThreshold().toMillis(), properties.allocationThrottle());
+    }
+
+    @Override
+    public void stop() {
+        var stream = recordingStream;
+        recordingStream = null;
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    // Writes the buffered events (bounded by maxAge/maxSize) to a temporary .jfr file owned by the caller.
+    public Path dump() throws IOException {
+        var stream = recordingStream;
+        if (stream == null) {
+            throw new IllegalStateException("JFR monitoring is not running");
+        }
+        var file = Files.createTempFile("transaction-", ".jfr");
+        try {
+            stream.dump(file);
+            return file;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    public long pinnedEvents() {
+        return pinned.count();
+    }
+
+    public List<BoundedCounter.Count> topPinnedFrames(final int limit) {
+        return pinnedFrames.top(limit);
+    }
+
+    public List<BoundedCounter.Count> topAllocationSites(final int limit) {
+        return allocationSites.top(limit);
+    }
+
+    public List<BoundedCounter.Count> allocationByEndpoint(final int limit) {
+        return allocationByEndpoint.top(limit);
+    }
+
+    public Map<String, Timer> stageTimers() {
+        return Map.copyOf(stageTimers);
+    }
+
+    void onPinned(final RecordedEvent event) {
+        pinned.record(event.getDuration());
+        pinnedFrames.add(applicationFrame(event), 1);
+    }
+
+    void onAllocation(final RecordedEvent event) {
+        var weight = event.getLong("weight");
+        allocationSites.add(applicationFrame(event), weight);
+
+        var endpoint = endpointOf(event);
+        allocationByEndpoint.add(endpoint, weight);
+        allocationCounters.computeIfAbsent(endpoint, key -> Counter.builder("jvm.allocation.sampled")
+                        .baseUnit("bytes")
+                        .tag("endpoint", key)
+                        .description("Bytes allocated per endpoint, estimated from JFR allocation samples")
+                        .register(meterRegistry))
+                .increment(weight);
+    }
+
+    void onConversionStage(final RecordedEvent event) {
+        stageTimers.computeIfAbsent(event.getString("stage"), stage -> Timer.builder("transaction.conversion.stage")
+                        .tag("stage", stage)
+                        .description("Duration of each stage of a transaction conversion")
+                        .register(meterRegistry))
+                .record(event.getDuration());
+    }
+
+    // The innermost application frame, or the innermost frame when the stack never enters application code
+    static String applicationFrame(final RecordedEvent event) {
+        var stackTrace = event.getStackTrace();
+        if (isNull(stackTrace) || stackTrace.getFrames().isEmpty()) {
+            return BoundedCounter.OTHER;
+        }
+        var frames = stackTrace.getFrames();
+        return frames.stream()
+                .filter(frame -> typeName(frame).startsWith(APPLICATION_PACKAGE))
+                .findFirst()
+                .map(JfrMonitor::describe)
+                .orElseGet(() -> describe(frames.getFirst()));
+    }
+
+    // The controller method on the stack; deep Hibernate stacks can be truncated by JFR before reaching it
+    static String endpointOf(final RecordedEvent event) {
+        var stackTrace = event.getStackTrace();
+        if (isNull(stackTrace)) {
+            return BoundedCounter.OTHER;
+        }
+        return stackTrace.getFrames().stream()
+                .filter(frame -> typeName(frame).startsWith(CONTROLLER_PACKAGE))
+                .findFirst()
+                .map(frame -> simpleName(typeName(frame)) + "." + frame.getMethod().getName())
+                .orElse(BoundedCounter.OTHER);
+    }
+
+    private static String describe(final RecordedFrame frame) {
+        return typeName(frame) + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private static String typeName(final RecordedFrame frame) {
+        return frame.getMethod().getType().getName();
+    }
+
+    private static String simpleName(final String typeName) {
+        return typeName.substring(typeName.lastIndexOf('.') + 1);
+    }
+}
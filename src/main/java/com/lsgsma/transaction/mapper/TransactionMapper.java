@@ -1,10 +1,10 @@
 package com.lsgsma.transaction.mapper;
 
+import com.lsgsma.transaction.conversion.ConversionRules;
 import com.lsgsma.transaction.dto.request.CreateTransactionRequest;
 import com.lsgsma.transaction.dto.response.ConvertedTransactionResponse;
 import com.lsgsma.transaction.model.Transaction;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -19,13 +19,18 @@ public class TransactionMapper {
         transaction.setDescription(request.description());
         transaction.setTransactionDate(request.transactionDate());
 
-        var roundedAmount = request.purchaseAmount().setScale(2, RoundingMode.HALF_UP);
+        var roundedAmount = ConversionRules.roundAmount(request.purchaseAmount());
         transaction.setPurchaseAmount(roundedAmount);
 
         return transaction;
     }
 
     public ConvertedTransactionResponse toConvertedDto(final Transaction transaction, final BigDecimal exchangeRate, final BigDecimal convertedAmount) {
+        return toConvertedDto(transaction, exchangeRate, convertedAmount, false);
+    }
+
+    public ConvertedTransactionResponse toConvertedDto(final Transaction transaction, final BigDecimal exchangeRate, final BigDecimal convertedAmount,
+                                                       final boolean staleExchangeRate) {
         if (transaction == null) {
             return null;
         }
@@ -36,7 +41,8 @@ public class TransactionMapper {
                 transaction.getTransactionDate(),
                 transaction.getPurchaseAmount(),
                 exchangeRate,
-                convertedAmount
+                convertedAmount,
+                staleExchangeRate
         );
     }
 }
@@ -0,0 +1,71 @@
+package com.lsgsma.transaction.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Version;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class ConversionJob {
+
+    @Id
+    private UUID id;
+
+    @NotBlank
+    @Size(max = 100)
+    private String currency;
+
+    @NotNull
+    private LocalDate fromDate;
+
+    @NotNull
+    private LocalDate toDate;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    private ConversionJobFormat format;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    private ConversionJobStatus status;
+
+    private long totalRows;
+
+    private long processedRows;
+
+    private long failedRows;
+
+    private LocalDate cursorDate;
+
+    private UUID cursorId;
+
+    private long outputBytes;
+
+    @Size(max = 255)
+    private String error;
+
+    @NotNull
+    private Instant createdAt;
+
+    @NotNull
+    private Instant updatedAt;
+
+    // Cancelling and the worker's checkpoints race on the same row
+    @Version
+    private long version;
+}
@@ -0,0 +1,16 @@
+package com.lsgsma.transaction.model;
+
+public enum ConversionJobFormat {
+
+    NDJSON("ndjson.gz"), CSV("csv.gz");
+
+    private final String extension;
+
+    ConversionJobFormat(final String extension) {
+        this.extension = extension;
+    }
+
+    public String extension() {
+        return extension;
+    }
+}
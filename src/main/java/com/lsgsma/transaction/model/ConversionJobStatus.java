@@ -0,0 +1,10 @@
+package com.lsgsma.transaction.model;
+
+public enum ConversionJobStatus {
+
+    QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED || this == CANCELLED;
+    }
+}
@@ -0,0 +1,20 @@
+package com.lsgsma.transaction.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.math.BigDecimal;
+
+// A NUMERIC column pads every value to its declared scale (5.5 comes back as 5.500000), this keeps it as given.
+@Converter
+public class ExactDecimalConverter implements AttributeConverter<BigDecimal, String> {
+
+    @Override
+    public String convertToDatabaseColumn(final BigDecimal value) {
+        return value == null ? null : value.toString();
+    }
+
+    @Override
+    public BigDecimal convertToEntityAttribute(final String text) {
+        return text == null ? null : new BigDecimal(text);
+    }
+}
@@ -0,0 +1,37 @@
+package com.lsgsma.transaction.model;
+
+import jakarta.persistence.Convert;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class TransactionConversion {
+
+    @EmbeddedId
+    private TransactionConversionId id;
+
+    @Convert(converter = ExactDecimalConverter.class)
+    private BigDecimal exchangeRate;
+
+    private BigDecimal convertedAmount;
+
+    @NotNull
+    private Instant computedAt;
+
+    public boolean hasExchangeRate() {
+        return exchangeRate != null;
+    }
+}
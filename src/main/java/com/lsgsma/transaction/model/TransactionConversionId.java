@@ -0,0 +1,7 @@
+package com.lsgsma.transaction.model;
+
+import jakarta.persistence.Embeddable;
+import java.util.UUID;
+
+@Embeddable
+public record TransactionConversionId(UUID transactionId, String currency) {}
@@ -0,0 +1,47 @@
+package com.lsgsma.transaction.model;
+
+import com.lsgsma.transaction.util.UuidV7;
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.generator.GeneratorCreationContext;
+
+// Chooses the id format with spring.jpa.properties.transaction.id-generator: "random" (UUIDv4) or "v7"
+// (time-ordered, so inserts append to the primary key index instead of landing on random pages).
+public class TransactionIdGenerator implements BeforeExecutionGenerator {
+
+    public static final String SETTING = "transaction.id-generator";
+
+    private final Supplier<UUID> ids;
+
+    public TransactionIdGenerator(final TransactionId config, final Member member, final GeneratorCreationContext context) {
+        var setting = context.getServiceRegistry().requireService(ConfigurationService.class).getSettings().get(SETTING);
+        this.ids = idsFor(setting == null ? "random" : setting.toString());
+    }
+
+    static Supplier<UUID> idsFor(final String setting) {
+        return switch (setting.strip().toLowerCase(Locale.ROOT)) {
+            case "v7" -> UuidV7::randomUuid;
+            case "random" -> UUID::randomUUID;
+            default -> throw new IllegalArgumentException("Unknown " + SETTING + " '" + setting + "', expected 'random' or 'v7'");
+        };
+    }
+
+    @Override
+    public Object generate(final SharedSessionContractImplementor session, final Object owner, final Object currentValue,
+                           final EventType eventType) {
+        return ids.get();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
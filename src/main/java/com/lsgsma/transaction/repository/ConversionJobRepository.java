@@ -0,0 +1,13 @@
+package com.lsgsma.transaction.repository;
+
+import com.lsgsma.transaction.model.ConversionJob;
+import com.lsgsma.transaction.model.ConversionJobStatus;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ConversionJobRepository extends JpaRepository<ConversionJob, UUID> {
+
+    List<ConversionJob> findByStatusInOrderByCreatedAt(Collection<ConversionJobStatus> statuses);
+}
@@ -0,0 +1,113 @@
+package com.lsgsma.transaction.repository;
+
+import com.lsgsma.transaction.config.DbAccessGovernorProperties;
+import com.lsgsma.transaction.exception.DatabaseBusyException;
+import com.lsgsma.transaction.util.RateLimitedLogger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+// Bounds concurrent repository calls to the connection pool size. With virtual threads every request can reach
+// the database at once and would otherwise queue invisibly inside Hikari until its connection timeout; here
+// callers wait in a fair (FIFO) queue for at most their operation's deadline and are then rejected with a 503.
+// Calls made inside an already open transaction hold their connection and are not governed again.
+@Slf4j
+public class DbAccessGovernor {
+
+    private final DbAccessGovernorProperties properties;
+    private final int maxConcurrency;
+    private final Semaphore permits;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> acquireTimers = new ConcurrentHashMap<>();
+    private final RateLimitedLogger rejectionLog = new RateLimitedLogger(log, 10, Duration.ofSeconds(1));
+
+    public DbAccessGovernor(final DbAccessGovernorProperties properties, final int maxConcurrency, final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("db.governor.limit", this, DbAccessGovernor::maxConcurrency)
+                .description("Concurrent repository calls allowed by the database governor")
+                .register(meterRegistry);
+        Gauge.builder("db.governor.active", this, DbAccessGovernor::active)
+                .description("Repository calls currently holding a database permit")
+                .register(meterRegistry);
+        Gauge.builder("db.governor.queue", this, DbAccessGovernor::queued)
+                .description("Repository calls waiting for a database permit")
+                .register(meterRegistry);
+    }
+
+    // Lets repository interceptors pass their checked Throwable through, plain suppliers infer E as RuntimeException
+    @FunctionalInterface
+    public interface DatabaseCall<T, E extends Throwable> {
+        T call() throws E;
+    }
+
+    public <T, E extends Throwable> T execute(final String operation, final DatabaseCall<T, E> call) throws E {
+        if (!acquire(operation)) {
+            return call.call();
+        }
+        try {
+            return call.call();
+        } finally {
+            permits.release();
+        }
+    }
+
+    int maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    int active() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    int queued() {
+        return permits.getQueueLength();
+    }
+
+    // false when the call runs without a permit
+    private boolean acquire(final String operation) {
+        if (!properties.enabled() || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return false;
+        }
+        var deadline = properties.deadlines().getOrDefault(operation, properties.defaultDeadline());
+        var start = System.nanoTime();
+        try {
+            // The timed tryAcquire honours the fair ordering, the untimed one would barge
+            if (!permits.tryAcquire(deadline.toNanos(), NANOSECONDS)) {
+                Counter.builder("db.governor.timeouts")
+                        .description("Repository calls rejected after waiting their deadline for a database permit")
+                        .tag("operation", operation)
+                        .register(meterRegistry)
+                        .increment();
+                rejectionLog.warn("Database concurrency limit {} reached, rejecting {} after {} ms in queue",
+                        maxConcurrency, operation, deadline.toMillis());
+                throw new DatabaseBusyException("Database is busy", properties.retryAfter());
+            }
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+            throw new DataAccessResourceFailureException("Interrupted while waiting for a database permit");
+        }
+        acquireTimer(operation).record(System.nanoTime() - start, NANOSECONDS);
+        return true;
+    }
+
+    private Timer acquireTimer(final String operation) {
+        return acquireTimers.computeIfAbsent(operation, name -> Timer.builder("db.governor.acquire")
+                .description("Time repository calls waited for a database permit")
+                .tag("operation", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
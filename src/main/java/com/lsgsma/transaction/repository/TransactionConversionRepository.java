@@ -0,0 +1,27 @@
+package com.lsgsma.transaction.repository;
+
+import com.lsgsma.transaction.model.Transaction;
+import com.lsgsma.transaction.model.TransactionConversion;
+import com.lsgsma.transaction.model.TransactionConversionId;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface TransactionConversionRepository extends JpaRepository<TransactionConversion, TransactionConversionId> {
+
+    // Transactions with a historic date and no conversion into the currency, after the given one in
+    // (transaction_date, id) order so the scan seeks on idx_transaction_transaction_date instead of sorting
+    @Query("""
+            select t from Transaction t
+            where t.transactionDate < :historicBefore
+              and (t.transactionDate > :afterDate or (t.transactionDate = :afterDate and t.id > :afterId))
+              and not exists (
+                select 1 from TransactionConversion c
+                where c.id.transactionId = t.id
+                  and c.id.currency = :currency)
+            order by t.transactionDate, t.id""")
+    List<Transaction> findPendingConversions(String currency, LocalDate historicBefore, LocalDate afterDate, UUID afterId, Limit limit);
+}
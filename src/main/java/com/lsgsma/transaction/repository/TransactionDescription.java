@@ -0,0 +1,5 @@
+package com.lsgsma.transaction.repository;
+
+import java.util.UUID;
+
+public record TransactionDescription(UUID id, String description) {}
@@ -1,8 +1,39 @@
 package com.lsgsma.transaction.repository;
 
 import com.lsgsma.transaction.model.Transaction;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface TransactionRepository extends JpaRepository<Transaction, UUID> {
+
+    // Must be consumed inside a transaction
+    @Query("select new com.lsgsma.transaction.repository.TransactionDescription(t.id, t.description) from Transaction t")
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    Stream<TransactionDescription> streamDescriptions();
+
+    // Must be consumed inside a transaction
+    @Query("select t.id from Transaction t")
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    Stream<UUID> streamIds();
+
+    long countByTransactionDateBetween(LocalDate fromDate, LocalDate toDate);
+
+    // Keyset page over the (transaction_date, id) index, starting after the given transaction
+    @Query("""
+            select t from Transaction t
+            where t.transactionDate between :fromDate and :toDate
+              and (t.transactionDate > :afterDate or (t.transactionDate = :afterDate and t.id > :afterId))
+            order by t.transactionDate, t.id""")
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    List<Transaction> findPageAfter(LocalDate fromDate, LocalDate toDate, LocalDate afterDate, UUID afterId, Limit limit);
 }
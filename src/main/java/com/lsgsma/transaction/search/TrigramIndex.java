@@ -0,0 +1,195 @@
+package com.lsgsma.transaction.search;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Case-insensitive substring search over short texts. Every document gets a dense int id; each trigram of its
+// lowercased text points to a sorted int[] of those ids. A query intersects the postings of its trigrams and
+// checks the remaining candidates against the stored text, which is kept as UTF-8 in one byte arena.
+public class TrigramIndex {
+
+    public static final int MIN_QUERY_LENGTH = 3;
+
+    // Rough per-trigram cost of the HashMap entry, boxed Long key and Postings header
+    private static final int TRIGRAM_OVERHEAD_BYTES = 96;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Postings> postingsByTrigram = new HashMap<>();
+
+    private long[] idMostSignificantBits = new long[1024];
+    private long[] idLeastSignificantBits = new long[1024];
+    private int[] textOffsets = new int[1025];
+    private byte[] texts = new byte[32 * 1024];
+    private int documents;
+
+    public record Match(UUID id, String text) {}
+
+    public record Footprint(int documents, int trigrams, long postings, long estimatedBytes) {}
+
+    private static final class Postings {
+
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(final int id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+    }
+
+    public void add(final UUID id, final String text) {
+        var encoded = text.getBytes(StandardCharsets.UTF_8);
+        var trigrams = trigrams(fold(text));
+        lock.writeLock().lock();
+        try {
+            var document = documents;
+            ensureCapacity(document + 1, encoded.length);
+            idMostSignificantBits[document] = id.getMostSignificantBits();
+            idLeastSignificantBits[document] = id.getLeastSignificantBits();
+            var offset = textOffsets[document];
+            System.arraycopy(encoded, 0, texts, offset, encoded.length);
+            textOffsets[document + 1] = offset + encoded.length;
+            for (var trigram : trigrams) {
+                postingsByTrigram.computeIfAbsent(trigram, _ -> new Postings()).add(document);
+            }
+            documents++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Newest documents first
+    public List<Match> search(final String query, final int limit) {
+        var folded = fold(query);
+        if (folded.length() < MIN_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query must have at least " + MIN_QUERY_LENGTH + " characters");
+        }
+        var trigrams = trigrams(folded);
+        lock.readLock().lock();
+        try {
+            var lists = new ArrayList<Postings>(trigrams.size());
+            for (var trigram : trigrams) {
+                var postings = postingsByTrigram.get(trigram);
+                if (postings == null) {
+                    return List.of();
+                }
+                lists.add(postings);
+            }
+            lists.sort((a, b) -> Integer.compare(a.size, b.size));
+
+            var matches = new ArrayList<Match>(Math.min(limit, lists.getFirst().size));
+            var smallest = lists.getFirst();
+            for (var i = smallest.size - 1; i >= 0 && matches.size() < limit; i--) {
+                var document = smallest.ids[i];
+                if (inAll(lists, document)) {
+                    var text = text(document);
+                    if (fold(text).contains(folded)) {
+                        matches.add(new Match(new UUID(idMostSignificantBits[document], idLeastSignificantBits[document]), text));
+                    }
+                }
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Footprint footprint() {
+        lock.readLock().lock();
+        try {
+            var postings = 0L;
+            var postingsBytes = 0L;
+            for (var list : postingsByTrigram.values()) {
+                postings += list.size;
+                postingsBytes += 16L + 4L * list.ids.length;
+            }
+            var estimatedBytes = postingsBytes
+                    + (long) TRIGRAM_OVERHEAD_BYTES * postingsByTrigram.size()
+                    + 16L * idMostSignificantBits.length
+                    + 4L * textOffsets.length
+                    + texts.length;
+            return new Footprint(documents, postingsByTrigram.size(), postings, estimatedBytes);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postingsByTrigram.clear();
+            idMostSignificantBits = new long[1024];
+            idLeastSignificantBits = new long[1024];
+            textOffsets = new int[1025];
+            texts = new byte[32 * 1024];
+            documents = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean inAll(final List<Postings> lists, final int document) {
+        for (var i = 1; i < lists.size(); i++) {
+            var postings = lists.get(i);
+            if (Arrays.binarySearch(postings.ids, 0, postings.size, document) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String text(final int document) {
+        var offset = textOffsets[document];
+        return new String(texts, offset, textOffsets[document + 1] - offset, StandardCharsets.UTF_8);
+    }
+
+    private void ensureCapacity(final int documentCount, final int textBytes) {
+        if (documentCount > idMostSignificantBits.length) {
+            var capacity = idMostSignificantBits.length * 2;
+            idMostSignificantBits = Arrays.copyOf(idMostSignificantBits, capacity);
+            idLeastSignificantBits = Arrays.copyOf(idLeastSignificantBits, capacity);
+            textOffsets = Arrays.copyOf(textOffsets, capacity + 1);
+        }
+        var required = textOffsets[documentCount - 1] + textBytes;
+        if (required > texts.length) {
+            texts = Arrays.copyOf(texts, Math.max(required, texts.length * 2));
+        }
+    }
+
+    // Per-char lowercasing so the indexed text and the query always fold the same way
+    static String fold(final String text) {
+        var chars = text.toCharArray();
+        for (var i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    static Set<Long> trigrams(final String folded) {
+        var trigrams = new HashSet<Long>();
+        for (var i = 0; i + MIN_QUERY_LENGTH <= folded.length(); i++) {
+            trigrams.add(((long) folded.charAt(i) << 32) | ((long) folded.charAt(i + 1) << 16) | folded.charAt(i + 2));
+        }
+        return trigrams;
+    }
+}
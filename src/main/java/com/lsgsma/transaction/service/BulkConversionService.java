@@ -0,0 +1,158 @@
+package com.lsgsma.transaction.service;
+
+import com.lsgsma.transaction.client.TreasuryApiClient;
+import com.lsgsma.transaction.conversion.ConversionRules;
+import com.lsgsma.transaction.conversion.RateStore;
+import com.lsgsma.transaction.dto.request.ConversionRequestItem;
+import com.lsgsma.transaction.dto.response.ConversionResultItem;
+import com.lsgsma.transaction.exception.TreasuryApiUnavailableException;
+import com.lsgsma.transaction.infra.ExchangeRateStore;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SerializationFeature;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+// Converts a stream of (amount, date) pairs without touching the database. Rates come from the rate store; a
+// date outside every range fetched so far triggers one Treasury range call that covers the next six months, and
+// each resolved rate period is reused for every later date that falls into it.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkConversionService {
+
+    private final TreasuryApiClient treasuryApiClient;
+    private final ExchangeRateStore exchangeRateStore;
+    private final ObjectMapper objectMapper;
+
+    public record Summary(long items, long failed, int rateLookups, int treasuryCalls) {}
+
+    // Reads a JSON array or newline-delimited JSON and writes results in the same order, as they are converted
+    public Summary convert(final String currency, final InputStream input, final OutputStream output, final boolean newlineDelimited) {
+        var session = session(currency);
+        var items = 0L;
+        var failed = 0L;
+        // Let the servlet buffer decide when to flush instead of flushing after every item
+        var writer = objectMapper.writerFor(ConversionResultItem.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        if (newlineDelimited) {
+            writer = writer.withRootValueSeparator("\n");
+        }
+        try (var requests = objectMapper.readerFor(ConversionRequestItem.class).<ConversionRequestItem>readValues(input);
+             var results = newlineDelimited ? writer.writeValues(output) : writer.writeValuesAsArray(output)) {
+            while (requests.hasNextValue()) {
+                var result = session.convert(requests.nextValue());
+                if (nonNull(result.error())) {
+                    failed++;
+                }
+                results.write(result);
+                items++;
+            }
+        }
+        log.info("Converted {} items to {} ({} failed) with {} rate lookups and {} Treasury calls",
+                items, currency, failed, session.rateLookups, session.treasuryCalls);
+        return new Summary(items, failed, session.rateLookups, session.treasuryCalls);
+    }
+
+    // Keeps the resolved rate periods for one run; not thread-safe
+    public Session session(final String currency) {
+        return new Session(currency);
+    }
+
+    public final class Session {
+
+        private final String currency;
+        private final RateStore rateStore = exchangeRateStore.rateStore();
+        // Date ranges already fetched from the Treasury, or given up on while it was unavailable: start -> range
+        private final TreeMap<LocalDate, CoveredRange> coveredRanges = new TreeMap<>();
+        private final TreeMap<LocalDate, RateStore.RatePeriod> periods = new TreeMap<>();
+        private int rateLookups;
+        private int treasuryCalls;
+
+        // end is inclusive; stale when the fetch failed and only the rates already in the store are used
+        private record CoveredRange(LocalDate end, boolean stale) {}
+
+        private Session(final String currency) {
+            this.currency = currency;
+        }
+
+        public int rateLookups() {
+            return rateLookups;
+        }
+
+        public int treasuryCalls() {
+            return treasuryCalls;
+        }
+
+        public ConversionResultItem convert(final ConversionRequestItem item) {
+            if (isNull(item.date())) {
+                return ConversionResultItem.failed(null, item.amount(), "date is required");
+            }
+            if (isNull(item.amount()) || item.amount().signum() <= 0) {
+                return ConversionResultItem.failed(item.date(), item.amount(), "amount must be greater than 0");
+            }
+            return rateFor(item.date())
+                    .map(rate -> ConversionResultItem.converted(item.date(), item.amount(), rate,
+                            ConversionRules.convert(item.amount(), rate), isStale(item.date())))
+                    .orElseGet(() -> ConversionResultItem.failed(item.date(), item.amount(),
+                            "No exchange rate within " + ConversionRules.LOOKBACK_MONTHS + " months before " + item.date()));
+        }
+
+        private Optional<BigDecimal> rateFor(final LocalDate date) {
+            var cached = periods.floorEntry(date);
+            if (nonNull(cached) && cached.getValue().applies(date) && isCovered(date)) {
+                return Optional.of(cached.getValue().exchangeRate().rate());
+            }
+            ensureCovered(date);
+            rateLookups++;
+            var period = rateStore.findPeriod(currency, date);
+            period.ifPresent(found -> periods.put(found.exchangeRate().recordDate(), found));
+            return period.map(found -> found.exchangeRate().rate());
+        }
+
+        private boolean isCovered(final LocalDate date) {
+            return nonNull(coveringRange(date)) || exchangeRateStore.isCompleteThrough(currency, date);
+        }
+
+        private boolean isStale(final LocalDate date) {
+            var range = coveringRange(date);
+            return nonNull(range) && range.stale() && !exchangeRateStore.isCompleteThrough(currency, date);
+        }
+
+        private CoveredRange coveringRange(final LocalDate date) {
+            var range = coveredRanges.floorEntry(date);
+            return nonNull(range) && !date.isAfter(range.getValue().end()) ? range.getValue() : null;
+        }
+
+        private void ensureCovered(final LocalDate date) {
+            if (isCovered(date)) {
+                return;
+            }
+            var today = LocalDate.now();
+            var end = date.plusMonths(ConversionRules.LOOKBACK_MONTHS).isAfter(today) ? today : date.plusMonths(ConversionRules.LOOKBACK_MONTHS);
+            if (end.isBefore(date)) {
+                end = date;
+            }
+            var stale = false;
+            try {
+                treasuryCalls++;
+                treasuryApiClient.getExchangeRatesByCurrencyInRecordDateRangeSortedByRecordDateDesc(currency, ConversionRules.windowStart(date), end)
+                        .filter(response -> nonNull(response.data()))
+                        .ifPresent(response -> exchangeRateStore.recordAll(currency, response.data()));
+            } catch (TreasuryApiUnavailableException e) {
+                // Keep converting with what the store already has instead of retrying for every item
+                log.warn("Treasury API unavailable during bulk conversion to {}, using last known exchange rates", currency);
+                stale = true;
+            }
+            coveredRanges.put(date, new CoveredRange(end, stale));
+        }
+    }
+}
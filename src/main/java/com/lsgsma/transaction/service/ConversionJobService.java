@@ -0,0 +1,336 @@
+package com.lsgsma.transaction.service;
+
+import com.lsgsma.transaction.config.ConversionJobProperties;
+import com.lsgsma.transaction.config.TransactionStoreConfig;
+import com.lsgsma.transaction.dto.request.ConversionJobRequest;
+import com.lsgsma.transaction.dto.request.ConversionRequestItem;
+import com.lsgsma.transaction.dto.response.ConversionJobResponse;
+import com.lsgsma.transaction.dto.response.ConvertedTransactionRow;
+import com.lsgsma.transaction.exception.ConversionJobNotFoundException;
+import com.lsgsma.transaction.exception.ConversionJobNotReadyException;
+import com.lsgsma.transaction.model.ConversionJob;
+import com.lsgsma.transaction.model.ConversionJobFormat;
+import com.lsgsma.transaction.model.ConversionJobStatus;
+import com.lsgsma.transaction.model.Transaction;
+import com.lsgsma.transaction.repository.ConversionJobRepository;
+import com.lsgsma.transaction.repository.TransactionRepository;
+import com.lsgsma.transaction.util.UuidV7;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+// Converts every transaction of a date range into a gzip compressed file on local disk. Transactions are read in
+// keyset pages; each page is written as its own gzip member and then checkpointed together with the file length, so
+// after a restart the file is cut back to the last checkpoint and the job continues from the next page.
+@Service
+@ConditionalOnProperty(name = TransactionStoreConfig.MODE_PROPERTY, havingValue = "jpa", matchIfMissing = true)
+@Slf4j
+public class ConversionJobService {
+
+    private static final UUID FIRST_ID = new UUID(0, 0);
+    private static final String CSV_HEADER = "id,description,transactionDate,purchaseAmount,exchangeRate,convertedAmount,staleExchangeRate,error\n";
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final ConversionJobProperties properties;
+    private final ConversionJobRepository conversionJobRepository;
+    private final TransactionRepository transactionRepository;
+    private final BulkConversionService bulkConversionService;
+    private final ObjectWriter rowWriter;
+    private final ExecutorService workers;
+    private final Set<UUID> cancelled = ConcurrentHashMap.newKeySet();
+
+    public record Result(Path file, String fileName) {}
+
+    public ConversionJobService(final ConversionJobProperties properties, final ConversionJobRepository conversionJobRepository,
+                                final TransactionRepository transactionRepository, final BulkConversionService bulkConversionService,
+                                final ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.conversionJobRepository = conversionJobRepository;
+        this.transactionRepository = transactionRepository;
+        this.bulkConversionService = bulkConversionService;
+        this.rowWriter = objectMapper.writerFor(ConvertedTransactionRow.class);
+        this.workers = Executors.newFixedThreadPool(properties.concurrency(), Thread.ofVirtual().name("conversion-job-", 0).factory());
+    }
+
+    public ConversionJobResponse submit(final ConversionJobRequest request) {
+        var now = Instant.now();
+        var job = new ConversionJob();
+        job.setId(UuidV7.randomUuid());
+        job.setCurrency(request.currency());
+        job.setFromDate(request.fromDate());
+        job.setToDate(request.toDate());
+        job.setFormat(request.formatOrDefault());
+        job.setStatus(ConversionJobStatus.QUEUED);
+        job.setCreatedAt(now);
+        job.setUpdatedAt(now);
+        var stored = conversionJobRepository.save(job);
+        log.info("Conversion job {} queued for {} from {} to {}", stored.getId(), stored.getCurrency(), stored.getFromDate(), stored.getToDate());
+        workers.execute(() -> run(stored.getId()));
+        return toResponse(stored);
+    }
+
+    public ConversionJobResponse get(final UUID id) {
+        return toResponse(find(id));
+    }
+
+    // Stops a queued or running job, or discards the result of a finished one
+    public ConversionJobResponse cancel(final UUID id) {
+        while (true) {
+            var job = find(id);
+            if (job.getStatus() == ConversionJobStatus.CANCELLED) {
+                return toResponse(job);
+            }
+            // Only a queued or running job has a worker to stop, which removes the id once it does
+            if (job.getStatus().isFinished()) {
+                cancelled.remove(id);
+            } else {
+                cancelled.add(id);
+            }
+            job.setStatus(ConversionJobStatus.CANCELLED);
+            job.setUpdatedAt(Instant.now());
+            try {
+                var stored = conversionJobRepository.save(job);
+                deleteOutput(stored);
+                log.info("Conversion job {} cancelled", id);
+                return toResponse(stored);
+            } catch (OptimisticLockingFailureException _) {
+                // The worker checkpointed in between, try again on the new version
+            }
+        }
+    }
+
+    public Result result(final UUID id) {
+        var job = find(id);
+        if (job.getStatus() != ConversionJobStatus.COMPLETED) {
+            throw new ConversionJobNotReadyException("Conversion job " + id + " is " + job.getStatus());
+        }
+        return new Result(outputFile(job), "conversion-" + id + "." + job.getFormat().extension());
+    }
+
+    // Called on startup for jobs that were queued or running when the previous instance stopped
+    public int resumeUnfinished() {
+        var unfinished = conversionJobRepository.findByStatusInOrderByCreatedAt(
+                EnumSet.of(ConversionJobStatus.QUEUED, ConversionJobStatus.RUNNING));
+        unfinished.forEach(job -> workers.execute(() -> run(job.getId())));
+        return unfinished.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // Interrupted jobs stay RUNNING and continue from their last checkpoint on the next start
+        workers.shutdownNow();
+    }
+
+    int pendingCancellations() {
+        return cancelled.size();
+    }
+
+    void run(final UUID id) {
+        var job = conversionJobRepository.findById(id).orElse(null);
+        var wasCancelled = cancelled.remove(id);
+        if (isNull(job) || job.getStatus().isFinished() || wasCancelled) {
+            return;
+        }
+        try {
+            var start = System.nanoTime();
+            job.setStatus(ConversionJobStatus.RUNNING);
+            if (isNull(job.getCursorId())) {
+                job.setTotalRows(transactionRepository.countByTransactionDateBetween(job.getFromDate(), job.getToDate()));
+            }
+            job = checkpoint(job);
+            job = export(job);
+            log.info("Conversion job {} finished with status {}, {} rows ({} failed) in {} ms", id, job.getStatus(),
+                    job.getProcessedRows(), job.getFailedRows(), (System.nanoTime() - start) / 1_000_000);
+        } catch (CancellationException | OptimisticLockingFailureException _) {
+            log.info("Conversion job {} stopped after being cancelled", id);
+        } catch (IOException | RuntimeException e) {
+            if (e instanceof ClosedByInterruptException || workers.isShutdown()) {
+                log.info("Conversion job {} interrupted, it will resume from its last checkpoint", id);
+            } else {
+                log.error("Conversion job {} failed", id, e);
+                fail(id, e);
+            }
+        } finally {
+            cancelled.remove(id);
+        }
+    }
+
+    private ConversionJob export(ConversionJob job) throws IOException {
+        var session = bulkConversionService.session(job.getCurrency());
+        var file = outputFile(job);
+        Files.createDirectories(file.getParent());
+        try (var channel = FileChannel.open(file, CREATE, WRITE)) {
+            // Anything after the checkpoint belongs to a page that is written again
+            channel.truncate(job.getOutputBytes());
+            channel.position(job.getOutputBytes());
+
+            var afterDate = nonNull(job.getCursorDate()) ? job.getCursorDate() : job.getFromDate().minusDays(1);
+            var afterId = nonNull(job.getCursorId()) ? job.getCursorId() : FIRST_ID;
+            List<Transaction> page;
+            do {
+                if (cancelled.contains(job.getId())) {
+                    throw new CancellationException("Conversion job " + job.getId() + " cancelled");
+                }
+                page = transactionRepository.findPageAfter(job.getFromDate(), job.getToDate(), afterDate, afterId,
+                        Limit.of(properties.chunkSize()));
+                if (page.isEmpty()) {
+                    break;
+                }
+                var failed = writePage(channel, job.getFormat(), page, session);
+                channel.force(false);
+
+                var last = page.getLast();
+                afterDate = last.getTransactionDate();
+                afterId = last.getId();
+                job.setCursorDate(afterDate);
+                job.setCursorId(afterId);
+                job.setProcessedRows(job.getProcessedRows() + page.size());
+                job.setFailedRows(job.getFailedRows() + failed);
+                job.setOutputBytes(channel.position());
+                job = checkpoint(job);
+            } while (page.size() == properties.chunkSize());
+
+            if (channel.position() == 0) {
+                // Still a valid (empty) gzip file, with the header for CSV
+                writePage(channel, job.getFormat(), List.of(), session);
+                channel.force(false);
+                job.setOutputBytes(channel.position());
+            }
+        }
+        job.setStatus(ConversionJobStatus.COMPLETED);
+        return checkpoint(job);
+    }
+
+    private long writePage(final FileChannel channel, final ConversionJobFormat format, final List<Transaction> page,
+                           final BulkConversionService.Session session) throws IOException {
+        var failed = 0L;
+        var header = channel.position() == 0 && format == ConversionJobFormat.CSV;
+        // Not closed: that would close the channel too
+        var gzip = new GZIPOutputStream(Channels.newOutputStream(channel), 64 * 1024);
+        var writer = new OutputStreamWriter(gzip, UTF_8);
+        if (header) {
+            writer.write(CSV_HEADER);
+        }
+        for (var transaction : page) {
+            var result = session.convert(new ConversionRequestItem(transaction.getPurchaseAmount(), transaction.getTransactionDate()));
+            if (nonNull(result.error())) {
+                failed++;
+            }
+            var row = ConvertedTransactionRow.of(transaction, result);
+            if (format == ConversionJobFormat.CSV) {
+                writeCsv(writer, row);
+            } else {
+                writer.write(rowWriter.writeValueAsString(row));
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+        gzip.finish();
+        return failed;
+    }
+
+    static void writeCsv(final Writer writer, final ConvertedTransactionRow row) throws IOException {
+        writer.write(row.id().toString());
+        writer.write(',');
+        writer.write(csvText(row.description()));
+        writer.write(',');
+        writer.write(row.transactionDate().toString());
+        writer.write(',');
+        writer.write(csvNumber(row.purchaseAmount()));
+        writer.write(',');
+        writer.write(csvNumber(row.exchangeRate()));
+        writer.write(',');
+        writer.write(csvNumber(row.convertedAmount()));
+        writer.write(',');
+        writer.write(String.valueOf(row.staleExchangeRate()));
+        writer.write(',');
+        writer.write(csvText(row.error()));
+        writer.write('\n');
+    }
+
+    private static String csvNumber(final BigDecimal value) {
+        return isNull(value) ? "" : value.toPlainString();
+    }
+
+    private static String csvText(final String value) {
+        if (isNull(value)) {
+            return "";
+        }
+        if (StringUtils.containsAny(value, ',', '"', '\n', '\r')) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+
+    private ConversionJob checkpoint(final ConversionJob job) {
+        job.setUpdatedAt(Instant.now());
+        return conversionJobRepository.save(job);
+    }
+
+    private void fail(final UUID id, final Exception e) {
+        conversionJobRepository.findById(id)
+                .filter(job -> !job.getStatus().isFinished())
+                .ifPresent(job -> {
+                    job.setStatus(ConversionJobStatus.FAILED);
+                    job.setError(StringUtils.abbreviate(e.getClass().getSimpleName() + ": " + e.getMessage(), MAX_ERROR_LENGTH));
+                    try {
+                        checkpoint(job);
+                    } catch (OptimisticLockingFailureException _) {
+                        // Cancelled concurrently, which wins
+                    }
+                });
+    }
+
+    private void deleteOutput(final ConversionJob job) {
+        try {
+            Files.deleteIfExists(outputFile(job));
+        } catch (IOException e) {
+            log.warn("Could not delete the result file of conversion job {}", job.getId(), e);
+        }
+    }
+
+    private Path outputFile(final ConversionJob job) {
+        return properties.directory().resolve(job.getId() + "." + job.getFormat().extension());
+    }
+
+    private ConversionJob find(final UUID id) {
+        return conversionJobRepository.findById(id).orElseThrow(() -> new ConversionJobNotFoundException(id));
+    }
+
+    private static ConversionJobResponse toResponse(final ConversionJob job) {
+        return new ConversionJobResponse(job.getId(), job.getStatus(), job.getCurrency(), job.getFromDate(), job.getToDate(),
+                job.getFormat(), job.getTotalRows(), job.getProcessedRows(), job.getFailedRows(), job.getError(),
+                job.getCreatedAt(), job.getUpdatedAt());
+    }
+}
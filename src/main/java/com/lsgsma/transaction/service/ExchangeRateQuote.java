@@ -0,0 +1,11 @@
+package com.lsgsma.transaction.service;
+
+import java.math.BigDecimal;
+
+// stale is set when the Treasury API could not be reached and the last known rate was used instead.
+public record ExchangeRateQuote(BigDecimal exchangeRate, boolean stale) {
+
+    public static ExchangeRateQuote fresh(final BigDecimal exchangeRate) {
+        return new ExchangeRateQuote(exchangeRate, false);
+    }
+}
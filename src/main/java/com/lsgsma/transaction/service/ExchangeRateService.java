@@ -1,10 +1,17 @@
 package com.lsgsma.transaction.service;
 
 import com.lsgsma.transaction.client.TreasuryApiClient;
+import com.lsgsma.transaction.conversion.ConversionRules;
+import com.lsgsma.transaction.dto.response.ExchangeRateSeriesResponse;
 import com.lsgsma.transaction.exception.ExchangeRateNotFoundException;
+import com.lsgsma.transaction.exception.ExchangeRateUnavailableException;
+import com.lsgsma.transaction.exception.InvalidDateRangeException;
+import com.lsgsma.transaction.exception.TreasuryApiUnavailableException;
 import com.lsgsma.transaction.infra.CacheWarmingService;
+import com.lsgsma.transaction.infra.ExchangeRateStore;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.cache.Cache;
@@ -22,39 +29,105 @@ public class ExchangeRateService {
     private final TreasuryApiClient treasuryApiClient;
     private final Cache exchangeRateCache;
     private final CacheWarmingService cacheWarmingService;
+    private final ExchangeRateStore exchangeRateStore;
 
-    public ExchangeRateService(TreasuryApiClient treasuryApiClient, CacheManager cacheManager, CacheWarmingService cacheWarmingService) {
+    public ExchangeRateService(TreasuryApiClient treasuryApiClient, CacheManager cacheManager, CacheWarmingService cacheWarmingService,
+                               ExchangeRateStore exchangeRateStore) {
         this.treasuryApiClient = treasuryApiClient;
         this.exchangeRateCache = cacheManager.getCache(EXCHANGE_RATE_CACHE);
         this.cacheWarmingService = cacheWarmingService;
+        this.exchangeRateStore = exchangeRateStore;
     }
 
     public BigDecimal getExchangeRate(final String currency, final LocalDate transactionDate) {
+        return getExchangeRateQuote(currency, transactionDate).exchangeRate();
+    }
+
+    public ExchangeRateQuote getExchangeRateQuote(final String currency, final LocalDate transactionDate) {
         log.debug("Starting fetch for exchange rate");
 
         if (StringUtils.isBlank(currency)) {
             log.warn("No currency given, no conversion applied");
-            return BigDecimal.ONE;
+            return ExchangeRateQuote.fresh(BigDecimal.ONE);
         }
 
         var value = exchangeRateCache.get(buildCacheKey(currency, transactionDate), BigDecimal.class);
         if (value != null) {
-            return value;
+            return ExchangeRateQuote.fresh(value);
+        }
+
+        if (exchangeRateStore.isCompleteThrough(currency, transactionDate)) {
+            return exchangeRateStore.findApplicable(currency, transactionDate)
+                    .map(imported -> {
+                        cacheWarmingService.warmExchangeRateCache(currency, transactionDate, imported.recordDate(), imported.exchangeRate());
+                        return ExchangeRateQuote.fresh(imported.exchangeRate());
+                    })
+                    .orElseThrow(() -> ExchangeRateNotFoundException.forCurrency(currency));
         }
 
-        var sixMonthsEarlier = transactionDate.minusMonths(6);
+        var sixMonthsEarlier = ConversionRules.windowStart(transactionDate);
+
+        try {
+            return treasuryApiClient
+                    .getTopExchangeRateByCurrencyInRecordDateRangeSortedByRecordDateDesc(currency, sixMonthsEarlier, transactionDate)
+                    .filter(treasuryRateResponse -> nonNull(treasuryRateResponse.data()))
+                    .flatMap(response -> response.data().stream().findFirst())
+                    .map(treasuryRateDataResponse -> {
+                        var recordDate = treasuryRateDataResponse.recordDate();
+                        var exchangeRate = treasuryRateDataResponse.exchangeRate();
+                        log.info("Using exchange rate {} from {}", exchangeRate, recordDate);
+                        exchangeRateStore.record(currency, recordDate, exchangeRate);
+                        cacheWarmingService.warmExchangeRateCache(currency, transactionDate, recordDate, exchangeRate);
+                        return ExchangeRateQuote.fresh(exchangeRate);
+                    })
+                    .orElseThrow(() -> ExchangeRateNotFoundException.forCurrency(currency));
+        } catch (TreasuryApiUnavailableException e) {
+            // Not cached on purpose: once the Treasury API is back the next request gets the authoritative rate
+            return exchangeRateStore.findLatest(currency, sixMonthsEarlier, transactionDate)
+                    .map(stored -> {
+                        log.warn("Treasury API unavailable, using last known exchange rate {} from {} for currency {}",
+                                stored.exchangeRate(), stored.recordDate(), currency);
+                        return new ExchangeRateQuote(stored.exchangeRate(), true);
+                    })
+                    .orElseThrow(() -> new ExchangeRateUnavailableException(
+                            "Treasury API is unavailable and no known exchange rate for " + currency, e.getRetryAfter()));
+        }
+    }
 
+    // Fetches every rate that can apply to the range and loads it into the cache; returns the cached entries.
+    public int warm(final String currency, final LocalDate fromDate, final LocalDate toDate) {
+        log.info("Warming exchange rate cache for currency '{}' from {} to {}", currency, fromDate, toDate);
         return treasuryApiClient
-                .getTopExchangeRateByCurrencyInRecordDateRangeSortedByRecordDateDesc(currency, sixMonthsEarlier, transactionDate)
-                .filter(treasuryRateResponse -> nonNull(treasuryRateResponse.data()))
-                .flatMap(response -> response.data().stream().findFirst())
-                .map(treasuryRateDataResponse -> {
-                    var recordDate = treasuryRateDataResponse.recordDate();
-                    var exchangeRate = treasuryRateDataResponse.exchangeRate();
-                    log.info("Using exchange rate {} from {}", exchangeRate, recordDate);
-                    cacheWarmingService.warmExchangeRateCache(currency, transactionDate, recordDate, exchangeRate);
-                    return treasuryRateDataResponse.exchangeRate();
+                .getExchangeRatesByCurrencyInRecordDateRangeSortedByRecordDateDesc(currency, ConversionRules.windowStart(fromDate), toDate)
+                .filter(response -> nonNull(response.data()))
+                .map(response -> {
+                    exchangeRateStore.recordAll(currency, response.data());
+                    return cacheWarmingService.preloadExchangeRateCache(currency, fromDate, toDate, response.data());
                 })
-                .orElseThrow(() -> new ExchangeRateNotFoundException("Could not retrieve exchange rates for " + currency));
+                .orElseThrow(() -> ExchangeRateNotFoundException.forCurrency(currency));
+    }
+
+    // Rates straight from the rate store, never from the Treasury API; unknown currencies are left out.
+    public List<ExchangeRateSeriesResponse> getExchangeRateSeries(final List<String> currencies, final LocalDate fromDate, final LocalDate toDate) {
+        if (fromDate.isAfter(toDate)) {
+            throw new InvalidDateRangeException("from " + fromDate + " is after to " + toDate);
+        }
+        return currencies.stream()
+                .distinct()
+                .filter(exchangeRateStore::contains)
+                .map(currency -> new ExchangeRateSeriesResponse(
+                        currency,
+                        fromDate,
+                        toDate,
+                        exchangeRateStore.completeThrough(currency, fromDate).filter(through -> !through.isBefore(toDate)).isPresent(),
+                        // Newest first, like the Treasury API
+                        exchangeRateStore.findAll(currency, fromDate, toDate).reversed()))
+                .toList();
+    }
+
+    public ExchangeRateSeriesResponse getExchangeRateSeries(final String currency, final LocalDate fromDate, final LocalDate toDate) {
+        return getExchangeRateSeries(List.of(currency), fromDate, toDate).stream()
+                .findFirst()
+                .orElseThrow(() -> ExchangeRateNotFoundException.forCurrency(currency));
     }
 }
@@ -0,0 +1,153 @@
+package com.lsgsma.transaction.service;
+
+import com.lsgsma.transaction.config.HomeCurrencyProperties;
+import com.lsgsma.transaction.conversion.ConversionRules;
+import com.lsgsma.transaction.exception.ExchangeRateNotFoundException;
+import com.lsgsma.transaction.exception.ExchangeRateUnavailableException;
+import com.lsgsma.transaction.infra.ExchangeRateExpiry;
+import com.lsgsma.transaction.model.Transaction;
+import com.lsgsma.transaction.model.TransactionConversion;
+import com.lsgsma.transaction.model.TransactionConversionId;
+import com.lsgsma.transaction.repository.TransactionConversionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+// Conversions into the configured home currencies are computed once a transaction is stored and read back instead of
+// converting on every request. Rates for recent dates can still be published, so only transactions with a historic
+// date are precomputed: their rate (or the lack of one) is final and the row always matches an on-the-fly conversion.
+// Recent transactions are converted on the fly until the backfill picks them up once their quarter is historic.
+@Service
+@Slf4j
+public class HomeCurrencyConversionService {
+
+    private final HomeCurrencyProperties properties;
+    private final ExchangeRateService exchangeRateService;
+    private final ExchangeRateExpiry exchangeRateExpiry;
+    private final TransactionConversionRepository transactionConversionRepository;
+    private final Set<String> homeCurrencies;
+    // Backfill position per currency in (transaction_date, id) order, so each run continues where the last one stopped
+    private final Map<String, Cursor> backfillCursors = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    private record Cursor(LocalDate transactionDate, UUID id) {
+
+        static final Cursor START = new Cursor(LocalDate.of(1, 1, 1), new UUID(0, 0));
+    }
+
+    public HomeCurrencyConversionService(final HomeCurrencyProperties properties,
+                                         final ExchangeRateService exchangeRateService,
+                                         final ExchangeRateExpiry exchangeRateExpiry,
+                                         final TransactionConversionRepository transactionConversionRepository,
+                                         final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.exchangeRateService = exchangeRateService;
+        this.exchangeRateExpiry = exchangeRateExpiry;
+        this.transactionConversionRepository = transactionConversionRepository;
+        this.homeCurrencies = Set.copyOf(properties.currencies());
+        this.hits = Counter.builder("transaction.conversion.precomputed")
+                .tag("result", "hit")
+                .description("Home currency reads served from a precomputed conversion")
+                .register(meterRegistry);
+        this.misses = Counter.builder("transaction.conversion.precomputed")
+                .tag("result", "miss")
+                .description("Home currency reads converted on the fly")
+                .register(meterRegistry);
+    }
+
+    public boolean isHomeCurrency(final String currency) {
+        return homeCurrencies.contains(currency);
+    }
+
+    @Async
+    public void precompute(final Transaction transaction) {
+        for (var currency : properties.currencies()) {
+            convert(transaction, currency);
+        }
+    }
+
+    public Optional<TransactionConversion> findPrecomputed(final Transaction transaction, final String currency) {
+        if (!isHomeCurrency(currency)) {
+            return Optional.empty();
+        }
+        if (!isHistoric(transaction)) {
+            misses.increment();
+            return Optional.empty();
+        }
+        var precomputed = transactionConversionRepository.findById(new TransactionConversionId(transaction.getId(), currency));
+        (precomputed.isPresent() ? hits : misses).increment();
+        return precomputed;
+    }
+
+    @Scheduled(fixedDelayString = "${home-currencies.backfill-interval:5m}")
+    public int backfill() {
+        if (homeCurrencies.isEmpty()) {
+            return 0;
+        }
+        var historicBefore = exchangeRateExpiry.historicBefore();
+        var batchSize = properties.backfillBatchSize();
+        var converted = 0;
+        for (var currency : properties.currencies()) {
+            var cursor = backfillCursors.getOrDefault(currency, Cursor.START);
+            var pending = transactionConversionRepository.findPendingConversions(
+                    currency, historicBefore, cursor.transactionDate(), cursor.id(), Limit.of(batchSize));
+            for (var transaction : pending) {
+                if (convert(transaction, currency)) {
+                    converted++;
+                }
+            }
+            // A short page means the end was reached, the next run starts over for the ones that failed meanwhile
+            backfillCursors.put(currency, pending.size() < batchSize
+                    ? Cursor.START
+                    : new Cursor(pending.getLast().getTransactionDate(), pending.getLast().getId()));
+        }
+        if (converted > 0) {
+            log.info("Backfilled {} home currency conversions", converted);
+        }
+        return converted;
+    }
+
+    boolean isHistoric(final Transaction transaction) {
+        return transaction.getTransactionDate().isBefore(exchangeRateExpiry.historicBefore());
+    }
+
+    boolean convert(final Transaction transaction, final String currency) {
+        if (!isHistoric(transaction)) {
+            return false;
+        }
+        var id = new TransactionConversionId(transaction.getId(), currency);
+        try {
+            var exchangeRateQuote = exchangeRateService.getExchangeRateQuote(currency, transaction.getTransactionDate());
+            if (exchangeRateQuote.stale()) {
+                // The last known rate may not be the one the Treasury API returns, leave it to the backfill
+                log.debug("Skipping conversion of transaction {} to {}, only a stale exchange rate is known", transaction.getId(), currency);
+                return false;
+            }
+            var exchangeRate = exchangeRateQuote.exchangeRate();
+            transactionConversionRepository.save(new TransactionConversion(id, exchangeRate,
+                    ConversionRules.convert(transaction.getPurchaseAmount(), exchangeRate), Instant.now()));
+        } catch (ExchangeRateNotFoundException _) {
+            transactionConversionRepository.save(new TransactionConversion(id, null, null, Instant.now()));
+        } catch (ExchangeRateUnavailableException _) {
+            log.debug("Skipping conversion of transaction {} to {}, Treasury API unavailable", transaction.getId(), currency);
+            return false;
+        } catch (RuntimeException e) {
+            log.warn("Could not precompute conversion of transaction {} to {}", transaction.getId(), currency, e);
+            return false;
+        }
+        return true;
+    }
+}
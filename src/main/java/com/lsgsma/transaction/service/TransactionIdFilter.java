@@ -0,0 +1,149 @@
+package com.lsgsma.transaction.service;
+
+import com.lsgsma.transaction.config.TransactionIdFilterProperties;
+import com.lsgsma.transaction.store.TransactionStore;
+import com.lsgsma.transaction.store.UuidBloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+// Bloom filter over the stored transaction ids, so lookups of ids that were never stored (scanners, stale links)
+// answer 404 without a query: built from the store on startup and updated on every store. Once more ids were
+// added than it was sized for, it is rebuilt at twice the size in the background. It only learns about
+// transactions stored through this instance, hence transaction.id-filter.enabled for shared databases.
+@Service
+@Slf4j
+public class TransactionIdFilter {
+
+    private final TransactionIdFilterProperties properties;
+    private final TransactionStore transactionStore;
+    private final Counter rejected;
+    private final Counter passed;
+    private final Counter falsePositives;
+    private final AtomicBoolean resizing = new AtomicBoolean();
+
+    // null until the first rebuild, every id passes until then
+    private volatile UuidBloomFilter current;
+    // Filter being rebuilt, also receives new ids so none stored during the scan is lost
+    private volatile UuidBloomFilter next;
+
+    public TransactionIdFilter(final TransactionIdFilterProperties properties,
+                               final TransactionStore transactionStore,
+                               final MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.transactionStore = transactionStore;
+        this.rejected = lookups(meterRegistry, "rejected");
+        this.passed = lookups(meterRegistry, "passed");
+        this.falsePositives = lookups(meterRegistry, "false-positive");
+        Gauge.builder("transaction.id.filter.ids", this, TransactionIdFilter::size)
+                .description("Transaction ids in the existence filter")
+                .register(meterRegistry);
+        Gauge.builder("transaction.id.filter.memory", this, TransactionIdFilter::memoryBytes)
+                .baseUnit("bytes")
+                .description("Heap used by the transaction id existence filter")
+                .register(meterRegistry);
+        Gauge.builder("transaction.id.filter.false.positive.rate", this, TransactionIdFilter::expectedFalsePositiveRate)
+                .description("Expected false positive rate of the transaction id existence filter at its current fill")
+                .register(meterRegistry);
+    }
+
+    public boolean enabled() {
+        return properties.enabled();
+    }
+
+    // false only when the id was definitely never stored
+    public boolean mightExist(final UUID id) {
+        var filter = current;
+        if (filter == null) {
+            return true;
+        }
+        if (filter.mightContain(id)) {
+            passed.increment();
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    // A passed id the store did not have
+    public void falsePositive() {
+        if (current != null) {
+            falsePositives.increment();
+        }
+    }
+
+    public void add(final UUID id) {
+        if (!properties.enabled()) {
+            return;
+        }
+        // next before current: if the rebuild swapped filters in between, current is already the new one
+        var building = next;
+        if (building != null) {
+            building.put(id);
+        }
+        var filter = current;
+        if (filter == null) {
+            return;
+        }
+        filter.put(id);
+        if (filter.size() > filter.capacity() && resizing.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("transaction-id-filter-resize").start(this::resize);
+        }
+    }
+
+    public synchronized long rebuild() {
+        if (!properties.enabled()) {
+            return 0;
+        }
+        var filter = new UuidBloomFilter(Math.max(properties.minCapacity(), transactionStore.count() * 2),
+                properties.falsePositiveRate());
+        next = filter;
+        try {
+            transactionStore.forEachId(filter::put);
+            current = filter;
+        } finally {
+            next = null;
+        }
+        return filter.size();
+    }
+
+    public long size() {
+        var filter = current;
+        return filter == null ? 0 : filter.size();
+    }
+
+    public long memoryBytes() {
+        var filter = current;
+        return filter == null ? 0 : filter.memoryBytes();
+    }
+
+    double expectedFalsePositiveRate() {
+        var filter = current;
+        return filter == null ? 0 : filter.expectedFalsePositiveRate();
+    }
+
+    private void resize() {
+        try {
+            var start = System.nanoTime();
+            var ids = rebuild();
+            log.info("Transaction id filter resized for {} ids in {} ms, {} KB",
+                    ids, (System.nanoTime() - start) / 1_000_000, memoryBytes() / 1024);
+        } catch (RuntimeException e) {
+            // The full filter keeps answering, only with a growing false positive rate
+            log.warn("Could not resize the transaction id filter", e);
+        } finally {
+            resizing.set(false);
+        }
+    }
+
+    private static Counter lookups(final MeterRegistry meterRegistry, final String result) {
+        return Counter.builder("transaction.id.filter.lookups")
+                .description("Transaction lookups checked against the id existence filter")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,86 @@
+package com.lsgsma.transaction.service;
+
+import com.lsgsma.transaction.dto.response.TransactionSearchResponse;
+import com.lsgsma.transaction.model.Transaction;
+import com.lsgsma.transaction.search.TrigramIndex;
+import com.lsgsma.transaction.store.TransactionStore;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+// Description search over an in-memory trigram index: filled from the database on startup and updated on every store.
+// A rebuild fills a fresh index while the current one keeps answering, then swaps it in.
+@Service
+@Slf4j
+public class TransactionSearchService {
+
+    private final TransactionStore transactionStore;
+
+    private volatile TrigramIndex index = new TrigramIndex();
+    // Index being rebuilt, also receives new transactions so none stored during the scan is lost
+    private volatile Rebuild next;
+
+    // A transaction stored during the scan can reach the new index both from the store and through index()
+    private record Rebuild(TrigramIndex index, Set<UUID> added) {
+
+        void add(final UUID id, final String description) {
+            if (added.add(id)) {
+                index.add(id, description);
+            }
+        }
+    }
+
+    public TransactionSearchService(final TransactionStore transactionStore, final MeterRegistry meterRegistry) {
+        this.transactionStore = transactionStore;
+        Gauge.builder("transaction.search.index.documents", this, service -> service.index.size())
+                .description("Transactions in the description search index")
+                .register(meterRegistry);
+        Gauge.builder("transaction.search.index.trigrams", this, service -> service.footprint().trigrams())
+                .description("Distinct trigrams in the description search index")
+                .register(meterRegistry);
+        Gauge.builder("transaction.search.index.memory", this, service -> service.footprint().estimatedBytes())
+                .baseUnit("bytes")
+                .description("Estimated heap used by the description search index")
+                .register(meterRegistry);
+    }
+
+    public void index(final Transaction transaction) {
+        // next before index: if the rebuild swapped indexes in between, index is already the new one
+        var rebuild = next;
+        if (rebuild != null) {
+            rebuild.add(transaction.getId(), transaction.getDescription());
+        }
+        var current = index;
+        if (rebuild == null || current != rebuild.index()) {
+            current.add(transaction.getId(), transaction.getDescription());
+        }
+    }
+
+    public List<TransactionSearchResponse> search(final String query, final int limit) {
+        log.debug("Searching transactions by description fragment '{}'", query);
+        return index.search(query, limit).stream()
+                .map(match -> new TransactionSearchResponse(match.id(), match.text()))
+                .toList();
+    }
+
+    public synchronized int rebuild() {
+        var rebuild = new Rebuild(new TrigramIndex(), ConcurrentHashMap.newKeySet());
+        next = rebuild;
+        try {
+            transactionStore.forEachDescription(description -> rebuild.add(description.id(), description.description()));
+            index = rebuild.index();
+        } finally {
+            next = null;
+        }
+        return rebuild.index().size();
+    }
+
+    public TrigramIndex.Footprint footprint() {
+        return index.footprint();
+    }
+}
@@ -1,17 +1,23 @@
 package com.lsgsma.transaction.service;
 
+import com.lsgsma.transaction.conversion.ConversionRules;
 import com.lsgsma.transaction.dto.request.CreateTransactionRequest;
 import com.lsgsma.transaction.dto.response.ConvertedTransactionResponse;
 import com.lsgsma.transaction.dto.response.CreateTransactionResponse;
+import com.lsgsma.transaction.exception.ExchangeRateNotFoundException;
 import com.lsgsma.transaction.exception.TransactionNotFoundException;
+import com.lsgsma.transaction.jfr.ConversionStageEvent;
 import com.lsgsma.transaction.mapper.TransactionMapper;
-import com.lsgsma.transaction.repository.TransactionRepository;
-import java.math.RoundingMode;
+import com.lsgsma.transaction.store.TransactionStore;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import static com.lsgsma.transaction.jfr.ConversionStageEvent.CONVERT;
+import static com.lsgsma.transaction.jfr.ConversionStageEvent.EXCHANGE_RATE;
+import static com.lsgsma.transaction.jfr.ConversionStageEvent.LOAD;
+
 @Service
 @Slf4j
 @RequiredArgsConstructor
@@ -19,33 +25,57 @@ public class TransactionService {
 
     private final TransactionMapper transactionMapper;
     private final ExchangeRateService exchangeRateService;
-    private final TransactionRepository transactionRepository;
+    private final TransactionStore transactionStore;
+    private final TransactionSearchService transactionSearchService;
+    private final TransactionIdFilter transactionIdFilter;
+    private final HomeCurrencyConversionService homeCurrencyConversionService;
 
     public CreateTransactionResponse storeTransaction(final CreateTransactionRequest request) {
         log.debug("Starting transaction store");
         var newTransaction = transactionMapper.toEntity(request);
 
-        var storedTransaction = transactionRepository.save(newTransaction);
+        var storedTransaction = transactionStore.save(newTransaction);
+        transactionSearchService.index(storedTransaction);
+        transactionIdFilter.add(storedTransaction.getId());
+        homeCurrencyConversionService.precompute(storedTransaction);
         log.info("Transaction {} successfully stored in database", storedTransaction.getId());
         return new CreateTransactionResponse(storedTransaction.getId());
     }
 
     public ConvertedTransactionResponse getConvertedTransaction(final UUID id, final String currency) {
         log.debug("Starting transaction {} conversion process", id);
-        var transaction = transactionRepository.findById(id)
-                .orElseThrow(() -> new TransactionNotFoundException("Transaction not found with id: " + id));
+        if (!transactionIdFilter.mightExist(id)) {
+            throw new TransactionNotFoundException(id);
+        }
+        var transaction = ConversionStageEvent.record(LOAD, currency, () -> transactionStore.findById(id))
+                .orElseThrow(() -> {
+                    transactionIdFilter.falsePositive();
+                    return new TransactionNotFoundException(id);
+                });
 
         log.debug("Transaction {} found in the database", id);
-        var exchangeRate = exchangeRateService.getExchangeRate(currency, transaction.getTransactionDate());
+        var precomputed = homeCurrencyConversionService.findPrecomputed(transaction, currency);
+        if (precomputed.isPresent()) {
+            var conversion = precomputed.get();
+            if (!conversion.hasExchangeRate()) {
+                throw ExchangeRateNotFoundException.forCurrency(currency);
+            }
+            log.debug("Using precomputed conversion of transaction {} to currency {}", id, currency);
+            return transactionMapper.toConvertedDto(transaction, conversion.getExchangeRate(), conversion.getConvertedAmount(), false);
+        }
+
+        var exchangeRateQuote = ConversionStageEvent.record(EXCHANGE_RATE, currency,
+                () -> exchangeRateService.getExchangeRateQuote(currency, transaction.getTransactionDate()));
+        var exchangeRate = exchangeRateQuote.exchangeRate();
 
         log.debug("Exchange rate {} found for currency {}", exchangeRate, currency);
 
-        var convertedAmount = transaction.getPurchaseAmount()
-                .multiply(exchangeRate)
-                .setScale(2, RoundingMode.HALF_UP);
+        return ConversionStageEvent.record(CONVERT, currency, () -> {
+            var convertedAmount = ConversionRules.convert(transaction.getPurchaseAmount(), exchangeRate);
 
-        log.info("Transaction {} successfully converted  to currency {}. Final Value: {}", id, currency, convertedAmount);
+            log.info("Transaction {} successfully converted  to currency {}. Final Value: {}", id, currency, convertedAmount);
 
-        return transactionMapper.toConvertedDto(transaction, exchangeRate, convertedAmount);
+            return transactionMapper.toConvertedDto(transaction, exchangeRate, convertedAmount, exchangeRateQuote.stale());
+        });
     }
 }
@@ -0,0 +1,47 @@
+package com.lsgsma.transaction.store;
+
+import com.lsgsma.transaction.model.Transaction;
+import com.lsgsma.transaction.repository.TransactionDescription;
+import com.lsgsma.transaction.repository.TransactionRepository;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+public class JpaTransactionStore implements TransactionStore {
+
+    private final TransactionRepository transactionRepository;
+
+    @Override
+    public Transaction save(final Transaction transaction) {
+        return transactionRepository.save(transaction);
+    }
+
+    @Override
+    public Optional<Transaction> findById(final UUID id) {
+        return transactionRepository.findById(id);
+    }
+
+    @Override
+    public long count() {
+        return transactionRepository.count();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachDescription(final Consumer<TransactionDescription> action) {
+        try (var descriptions = transactionRepository.streamDescriptions()) {
+            descriptions.forEach(action);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachId(final Consumer<UUID> action) {
+        try (var ids = transactionRepository.streamIds()) {
+            ids.forEach(action);
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.lsgsma.transaction.store;
+
+import com.lsgsma.transaction.model.Transaction;
+import com.lsgsma.transaction.repository.TransactionDescription;
+import com.lsgsma.transaction.util.UuidV7;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+// Append-only transaction log. Records have a fixed size (see TransactionRecord) and are appended to preallocated
+// segment files by a single writer thread: every save waiting in the queue goes out in one gathering write and one
+// fsync (group commit), and only returns once it is durable. Segments are memory-mapped for reads and an off-heap
+// hash index from id to record number is rebuilt by scanning them on startup. The segment layout is recorded in a
+// header file when the log is created and checked on every open.
+@Slf4j
+public class LogTransactionStore implements TransactionStore, AutoCloseable {
+
+    private static final String SEGMENT_FORMAT = "segment-%06d.log";
+    private static final String HEADER_FILE = "log.header";
+    // "TXLG", then the record size and records per segment
+    private static final int HEADER_MAGIC = 0x54584c47;
+    private static final int HEADER_BYTES = 16;
+
+    private final Path directory;
+    private final long recordsPerSegment;
+    private final int maxBatchSize;
+    private final UuidOffsetIndex index;
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+    private final BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+
+    // Records durable and visible to readers; only advanced by the writer thread
+    private volatile long committed;
+    private volatile boolean closed;
+    // Set by the writer before it rejects what is left in the queue, see save
+    private volatile boolean stopped;
+
+    private record Segment(FileChannel channel, Arena arena, MemorySegment mapped) {}
+
+    private record PendingWrite(Transaction transaction, ByteBuffer record, CompletableFuture<Transaction> done) {}
+
+    public record Stats(long transactions, long segments, long indexBytes) {}
+
+    public LogTransactionStore(final Path directory, final long segmentBytes, final int maxBatchSize) throws IOException {
+        this.directory = directory;
+        this.recordsPerSegment = segmentBytes / TransactionRecord.SIZE;
+        this.maxBatchSize = maxBatchSize;
+        if (recordsPerSegment < 1) {
+            throw new IllegalArgumentException("Segment size must hold at least one record");
+        }
+        Files.createDirectories(directory);
+        var start = System.nanoTime();
+        var existingSegments = countSegments();
+        checkHeader(existingSegments);
+        this.index = new UuidOffsetIndex(existingSegments * recordsPerSegment);
+        this.committed = recover(existingSegments);
+        log.info("Transaction log opened with {} transactions in {} segments in {} ms",
+                committed, segments.size(), (System.nanoTime() - start) / 1_000_000);
+        this.writer = Thread.ofPlatform().name("transaction-log-writer").daemon().start(this::writeLoop);
+    }
+
+    @Override
+    public Transaction save(final Transaction transaction) {
+        if (closed) {
+            throw new IllegalStateException("Transaction log is closed");
+        }
+        if (transaction.getId() == null) {
+            transaction.setId(UuidV7.randomUuid());
+        }
+        var pending = new PendingWrite(transaction, TransactionRecord.encode(transaction), new CompletableFuture<>());
+        queue.add(pending);
+        if (stopped) {
+            // The writer may have drained the queue for the last time before the add
+            pending.done().completeExceptionally(new IllegalStateException("Transaction log is closed"));
+        }
+        try {
+            return pending.done().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<Transaction> findById(final UUID id) {
+        var recordNumber = index.get(id);
+        return recordNumber < 0 ? Optional.empty() : Optional.of(TransactionRecord.decode(read(recordNumber)));
+    }
+
+    @Override
+    public long count() {
+        return committed;
+    }
+
+    @Override
+    public void forEachDescription(final Consumer<TransactionDescription> action) {
+        var end = committed;
+        for (var recordNumber = 0L; recordNumber < end; recordNumber++) {
+            var record = read(recordNumber);
+            action.accept(new TransactionDescription(TransactionRecord.id(record), TransactionRecord.description(record)));
+        }
+    }
+
+    @Override
+    public void forEachId(final Consumer<UUID> action) {
+        var end = committed;
+        for (var recordNumber = 0L; recordNumber < end; recordNumber++) {
+            action.accept(TransactionRecord.id(read(recordNumber)));
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(committed, segments.size(), index.memoryBytes());
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        try {
+            writer.join();
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+        }
+        for (var segment : segments) {
+            segment.arena().close();
+            segment.channel().close();
+        }
+        index.close();
+    }
+
+    private ByteBuffer read(final long recordNumber) {
+        var segment = segments.get(Math.toIntExact(recordNumber / recordsPerSegment));
+        var offset = (recordNumber % recordsPerSegment) * TransactionRecord.SIZE;
+        return segment.mapped().asSlice(offset, TransactionRecord.SIZE).asByteBuffer();
+    }
+
+    private void writeLoop() {
+        var batch = new ArrayList<PendingWrite>(maxBatchSize);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                var first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                append(batch);
+                batch.forEach(pending -> pending.done().complete(pending.transaction()));
+            } catch (InterruptedException _) {
+                // Nothing was taken from the queue; stop accepting saves and fail the waiting ones below
+                log.warn("Transaction log writer interrupted, no more transactions can be saved");
+                closed = true;
+                break;
+            } catch (IOException e) {
+                var failure = new UncheckedIOException("Could not append to the transaction log", e);
+                batch.forEach(pending -> pending.done().completeExceptionally(failure));
+            } catch (RuntimeException e) {
+                batch.forEach(pending -> pending.done().completeExceptionally(e));
+            }
+            batch.clear();
+        }
+        stopped = true;
+        var rejected = new IllegalStateException("Transaction log is closed");
+        for (var pending = queue.poll(); pending != null; pending = queue.poll()) {
+            pending.done().completeExceptionally(rejected);
+        }
+    }
+
+    private void append(final List<PendingWrite> batch) throws IOException {
+        var next = committed;
+        var touched = new ArrayList<Segment>(2);
+        var from = 0;
+        while (from < batch.size()) {
+            var segmentNumber = Math.toIntExact(next / recordsPerSegment);
+            var segment = segmentNumber < segments.size() ? segments.get(segmentNumber) : openSegment(segmentNumber);
+            var count = (int) Math.min(batch.size() - from, recordsPerSegment - next % recordsPerSegment);
+            var buffers = new ByteBuffer[count];
+            for (var i = 0; i < count; i++) {
+                buffers[i] = batch.get(from + i).record().rewind();
+            }
+            var channel = segment.channel();
+            channel.position((next % recordsPerSegment) * TransactionRecord.SIZE);
+            var remaining = (long) count * TransactionRecord.SIZE;
+            while (remaining > 0) {
+                remaining -= channel.write(buffers);
+            }
+            touched.add(segment);
+            from += count;
+            next += count;
+        }
+        for (var segment : touched) {
+            segment.channel().force(false);
+        }
+        // Index after the fsync so a reader never sees a record that could still be lost
+        var recordNumber = committed;
+        for (var pending : batch) {
+            index.put(pending.transaction().getId(), recordNumber++);
+        }
+        committed = next;
+    }
+
+    private long recover(final int existingSegments) throws IOException {
+        for (var segmentNumber = 0; segmentNumber < existingSegments; segmentNumber++) {
+            var segment = openSegment(segmentNumber);
+            for (var slot = 0L; slot < recordsPerSegment; slot++) {
+                var record = segment.mapped().asSlice(slot * TransactionRecord.SIZE, TransactionRecord.SIZE).asByteBuffer();
+                if (!TransactionRecord.isValid(record)) {
+                    // End of the log: never written, or torn by a crash before its fsync returned
+                    discardAfter(segment, slot, existingSegments);
+                    return segmentNumber * recordsPerSegment + slot;
+                }
+                index.put(TransactionRecord.id(record), segmentNumber * recordsPerSegment + slot);
+            }
+        }
+        return existingSegments * recordsPerSegment;
+    }
+
+    // Records of the same unfinished batch may have reached the disk after the torn one; they were never
+    // acknowledged, so they must not come back on a later restart
+    private void discardAfter(final Segment segment, final long slot, final int existingSegments) throws IOException {
+        var segmentBytes = recordsPerSegment * TransactionRecord.SIZE;
+        segment.channel().truncate(slot * TransactionRecord.SIZE);
+        segment.channel().write(ByteBuffer.allocate(1), segmentBytes - 1);
+        segment.channel().force(true);
+        for (var later = segments.size(); later < existingSegments; later++) {
+            Files.delete(segmentPath(later));
+        }
+    }
+
+    // Records are located by number / recordsPerSegment, so reopening a log with another segment size would read
+    // every record after the first segment from the wrong place
+    private void checkHeader(final int existingSegments) throws IOException {
+        var path = directory.resolve(HEADER_FILE);
+        if (Files.notExists(path)) {
+            if (existingSegments > 0) {
+                throw new IllegalStateException("Transaction log in " + directory + " has segments but no " + HEADER_FILE);
+            }
+            var temporary = directory.resolve(HEADER_FILE + ".tmp");
+            try (var channel = FileChannel.open(temporary, CREATE, WRITE, TRUNCATE_EXISTING)) {
+                channel.write(ByteBuffer.allocate(HEADER_BYTES)
+                        .putInt(HEADER_MAGIC)
+                        .putInt(TransactionRecord.SIZE)
+                        .putLong(recordsPerSegment)
+                        .flip());
+                channel.force(true);
+            }
+            Files.move(temporary, path, ATOMIC_MOVE);
+            return;
+        }
+        var header = ByteBuffer.wrap(Files.readAllBytes(path));
+        if (header.remaining() != HEADER_BYTES || header.getInt() != HEADER_MAGIC) {
+            throw new IllegalStateException(path + " is not a transaction log header");
+        }
+        var recordSize = header.getInt();
+        var storedRecordsPerSegment = header.getLong();
+        if (recordSize != TransactionRecord.SIZE || storedRecordsPerSegment != recordsPerSegment) {
+            throw new IllegalStateException("Transaction log in %s has %d records of %d bytes per segment, configured for %d of %d bytes"
+                    .formatted(directory, storedRecordsPerSegment, recordSize, recordsPerSegment, TransactionRecord.SIZE));
+        }
+    }
+
+    private int countSegments() {
+        var count = 0;
+        while (Files.exists(segmentPath(count))) {
+            count++;
+        }
+        return count;
+    }
+
+    private Segment openSegment(final int segmentNumber) throws IOException {
+        var segmentBytes = recordsPerSegment * TransactionRecord.SIZE;
+        var channel = FileChannel.open(segmentPath(segmentNumber), CREATE, READ, WRITE);
+        if (channel.size() < segmentBytes) {
+            // Sparse preallocation, so the whole segment can be mapped up front
+            channel.write(ByteBuffer.allocate(1), segmentBytes - 1);
+        }
+        var arena = Arena.ofShared();
+        var segment = new Segment(channel, arena, channel.map(FileChannel.MapMode.READ_ONLY, 0, segmentBytes, arena));
+        segments.add(segment);
+        return segment;
+    }
+
+    private Path segmentPath(final int segmentNumber) {
+        return directory.resolve(SEGMENT_FORMAT.formatted(segmentNumber));
+    }
+}
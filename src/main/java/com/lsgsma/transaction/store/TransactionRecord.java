@@ -0,0 +1,70 @@
+package com.lsgsma.transaction.store;
+
+import com.lsgsma.transaction.model.Transaction;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+// Fixed 256-byte layout of a transaction in the segment log, big-endian:
+//   0 crc32c of bytes 4..255 | 4 version | 6 amount scale | 8 id msb | 16 id lsb | 24 amount unscaled
+//   32 epoch day | 36 description length | 38 UTF-8 description, zero padded
+// A slot that was never written (or was torn by a crash) fails the version or checksum check.
+final class TransactionRecord {
+
+    static final int SIZE = 256;
+    static final int MAX_DESCRIPTION_BYTES = SIZE - 38;
+
+    private static final byte VERSION = 1;
+
+    private TransactionRecord() {
+    }
+
+    static ByteBuffer encode(final Transaction transaction) {
+        var description = transaction.getDescription().getBytes(StandardCharsets.UTF_8);
+        if (description.length > MAX_DESCRIPTION_BYTES) {
+            throw new IllegalArgumentException("Description longer than " + MAX_DESCRIPTION_BYTES + " bytes");
+        }
+        var amount = transaction.getPurchaseAmount();
+        var buffer = ByteBuffer.allocate(SIZE);
+        buffer.put(4, VERSION);
+        buffer.putShort(6, (short) amount.scale());
+        buffer.putLong(8, transaction.getId().getMostSignificantBits());
+        buffer.putLong(16, transaction.getId().getLeastSignificantBits());
+        buffer.putLong(24, amount.unscaledValue().longValueExact());
+        buffer.putInt(32, Math.toIntExact(transaction.getTransactionDate().toEpochDay()));
+        buffer.putShort(36, (short) description.length);
+        buffer.put(38, description);
+        buffer.putInt(0, checksum(buffer));
+        return buffer;
+    }
+
+    static boolean isValid(final ByteBuffer record) {
+        return record.get(4) == VERSION && record.getInt(0) == checksum(record);
+    }
+
+    static UUID id(final ByteBuffer record) {
+        return new UUID(record.getLong(8), record.getLong(16));
+    }
+
+    static String description(final ByteBuffer record) {
+        var description = new byte[record.getShort(36)];
+        record.get(38, description);
+        return new String(description, StandardCharsets.UTF_8);
+    }
+
+    static Transaction decode(final ByteBuffer record) {
+        return new Transaction(id(record), description(record),
+                LocalDate.ofEpochDay(record.getInt(32)),
+                new BigDecimal(BigInteger.valueOf(record.getLong(24)), record.getShort(6)));
+    }
+
+    private static int checksum(final ByteBuffer record) {
+        var crc = new CRC32C();
+        crc.update(record.slice(4, SIZE - 4));
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,24 @@
+package com.lsgsma.transaction.store;
+
+import com.lsgsma.transaction.model.Transaction;
+import com.lsgsma.transaction.repository.TransactionDescription;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+// Storage of transactions as used by the request path: insert once, read by id, never update. Selected with
+// transaction.store.mode (jpa by default, or log for the append-only segment log).
+public interface TransactionStore {
+
+    // Assigns the id when the transaction has none
+    Transaction save(Transaction transaction);
+
+    Optional<Transaction> findById(UUID id);
+
+    long count();
+
+    // Visits every stored transaction, used to rebuild in-memory indexes on startup
+    void forEachDescription(Consumer<TransactionDescription> action);
+
+    void forEachId(Consumer<UUID> action);
+}
@@ -0,0 +1,91 @@
+package com.lsgsma.transaction.store;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Bloom filter over UUIDs. Each id sets `hashFunctions` bits derived from two 64-bit mixes of its bits (double
+// hashing), in a bit array updated lock-free so inserts and lookups run concurrently. mightContain never answers
+// false for an inserted id; the false positive rate is the requested one up to `capacity` ids and degrades
+// gradually beyond it.
+public final class UuidBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashFunctions;
+    private final long capacity;
+    private final LongAdder size = new LongAdder();
+
+    public UuidBloomFilter(final long capacity, final double falsePositiveRate) {
+        if (capacity < 1 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Capacity must be positive and the false positive rate between 0 and 1");
+        }
+        var optimalBits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (LN2 * LN2));
+        this.words = new AtomicLongArray(Math.toIntExact((optimalBits + Long.SIZE - 1) / Long.SIZE));
+        this.bits = (long) words.length() * Long.SIZE;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bits / capacity * LN2));
+        this.capacity = capacity;
+    }
+
+    public void put(final UUID id) {
+        var h1 = h1(id);
+        var h2 = h2(id);
+        for (var i = 0; i < hashFunctions; i++) {
+            var bit = bit(h1 + i * h2);
+            var mask = 1L << bit;
+            var word = (int) (bit >>> 6);
+            if ((words.get(word) & mask) == 0) {
+                words.accumulateAndGet(word, mask, (current, set) -> current | set);
+            }
+        }
+        size.increment();
+    }
+
+    public boolean mightContain(final UUID id) {
+        var h1 = h1(id);
+        var h2 = h2(id);
+        for (var i = 0; i < hashFunctions; i++) {
+            var bit = bit(h1 + i * h2);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long size() {
+        return size.sum();
+    }
+
+    public long capacity() {
+        return capacity;
+    }
+
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    public long memoryBytes() {
+        return bits / Byte.SIZE;
+    }
+
+    // Expected rate for the ids inserted so far: (1 - e^(-kn/m))^k
+    public double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-(double) hashFunctions * size() / bits), hashFunctions);
+    }
+
+    private long bit(final long hash) {
+        return (hash & Long.MAX_VALUE) % bits;
+    }
+
+    private static long h1(final UUID id) {
+        return UuidHash.hash(id.getMostSignificantBits(), id.getLeastSignificantBits());
+    }
+
+    // Odd, so the probe sequence never collapses onto h1
+    private static long h2(final UUID id) {
+        return UuidHash.mix(id.getLeastSignificantBits() + 0x9e3779b97f4a7c15L * id.getMostSignificantBits()) | 1;
+    }
+}
@@ -0,0 +1,23 @@
+package com.lsgsma.transaction.store;
+
+// Hashing of transaction ids shared by the offset index and the Bloom filter
+final class UuidHash {
+
+    private UuidHash() {
+    }
+
+    static long hash(final long msb, final long lsb) {
+        return mix(msb ^ Long.rotateLeft(lsb, 32));
+    }
+
+    // murmur3 finalizer: v7 ids share their leading timestamp bits, so the raw bits would cluster
+    static long mix(final long value) {
+        var h = value;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
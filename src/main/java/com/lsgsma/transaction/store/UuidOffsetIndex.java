@@ -0,0 +1,139 @@
+package com.lsgsma.transaction.store;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+
+// Open addressing hash table from transaction id to record number, kept off-heap so millions of ids cost the
+// collector nothing. Slots are 24 bytes (id msb, id lsb, record number + 1, where 0 marks a free slot) with linear
+// probing; the table doubles once it is 70% full.
+final class UuidOffsetIndex implements AutoCloseable {
+
+    private static final long SLOT_SIZE = 3 * Long.BYTES;
+    private static final double MAX_LOAD = 0.7;
+    private static final long MIN_CAPACITY = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Arena arena;
+    private MemorySegment slots;
+    private long capacity;
+    private long size;
+
+    UuidOffsetIndex(final long expectedEntries) {
+        allocate(capacityFor(expectedEntries));
+    }
+
+    void put(final UUID id, final long recordNumber) {
+        lock.writeLock().lock();
+        try {
+            if (size + 1 > capacity * MAX_LOAD) {
+                resize(capacity * 2);
+            }
+            if (insert(slots, capacity, id.getMostSignificantBits(), id.getLeastSignificantBits(), recordNumber + 1)) {
+                size++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // -1 when the id is not indexed
+    long get(final UUID id) {
+        var msb = id.getMostSignificantBits();
+        var lsb = id.getLeastSignificantBits();
+        lock.readLock().lock();
+        try {
+            var mask = capacity - 1;
+            for (var slot = UuidHash.hash(msb, lsb) & mask; ; slot = (slot + 1) & mask) {
+                var offset = slot * SLOT_SIZE;
+                var value = slots.get(JAVA_LONG, offset + 2 * Long.BYTES);
+                if (value == 0) {
+                    return -1;
+                }
+                if (slots.get(JAVA_LONG, offset) == msb && slots.get(JAVA_LONG, offset + Long.BYTES) == lsb) {
+                    return value - 1;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    long size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    long memoryBytes() {
+        lock.readLock().lock();
+        try {
+            return capacity * SLOT_SIZE;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            arena.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void resize(final long newCapacity) {
+        var oldArena = arena;
+        var oldSlots = slots;
+        var oldCapacity = capacity;
+        allocate(newCapacity);
+        for (var slot = 0L; slot < oldCapacity; slot++) {
+            var offset = slot * SLOT_SIZE;
+            var value = oldSlots.get(JAVA_LONG, offset + 2 * Long.BYTES);
+            if (value != 0) {
+                insert(slots, capacity, oldSlots.get(JAVA_LONG, offset), oldSlots.get(JAVA_LONG, offset + Long.BYTES), value);
+            }
+        }
+        oldArena.close();
+    }
+
+    private void allocate(final long newCapacity) {
+        arena = Arena.ofShared();
+        // Zeroed, so every slot starts free
+        slots = arena.allocate(newCapacity * SLOT_SIZE, Long.BYTES);
+        capacity = newCapacity;
+    }
+
+    // false when the id was already present and only its record number was replaced
+    private static boolean insert(final MemorySegment slots, final long capacity, final long msb, final long lsb, final long value) {
+        var mask = capacity - 1;
+        for (var slot = UuidHash.hash(msb, lsb) & mask; ; slot = (slot + 1) & mask) {
+            var offset = slot * SLOT_SIZE;
+            var current = slots.get(JAVA_LONG, offset + 2 * Long.BYTES);
+            if (current == 0) {
+                slots.set(JAVA_LONG, offset, msb);
+                slots.set(JAVA_LONG, offset + Long.BYTES, lsb);
+                slots.set(JAVA_LONG, offset + 2 * Long.BYTES, value);
+                return true;
+            }
+            if (slots.get(JAVA_LONG, offset) == msb && slots.get(JAVA_LONG, offset + Long.BYTES) == lsb) {
+                slots.set(JAVA_LONG, offset + 2 * Long.BYTES, value);
+                return false;
+            }
+        }
+    }
+
+    private static long capacityFor(final long expectedEntries) {
+        var needed = (long) Math.ceil(expectedEntries / MAX_LOAD);
+        return Math.max(MIN_CAPACITY, Long.highestOneBit(Math.max(1, needed - 1)) << 1);
+    }
+}
@@ -0,0 +1,61 @@
+package com.lsgsma.transaction.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+
+// Lets at most permitsPerInterval messages through per interval and reports how many were dropped
+// with the first message of the next interval.
+public class RateLimitedLogger {
+
+    private final Logger logger;
+    private final long permitsPerInterval;
+    private final long intervalNanos;
+    private final LongSupplier nanoTime;
+
+    private final AtomicLong windowStart;
+    private final AtomicLong logged = new AtomicLong();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    public RateLimitedLogger(final Logger logger, final long permitsPerInterval, final Duration interval) {
+        this(logger, permitsPerInterval, interval, System::nanoTime);
+    }
+
+    RateLimitedLogger(final Logger logger, final long permitsPerInterval, final Duration interval, final LongSupplier nanoTime) {
+        this.logger = logger;
+        this.permitsPerInterval = permitsPerInterval;
+        this.intervalNanos = interval.toNanos();
+        this.nanoTime = nanoTime;
+        this.windowStart = new AtomicLong(nanoTime.getAsLong());
+    }
+
+    public void warn(final String format, final Object... arguments) {
+        if (!logger.isWarnEnabled()) {
+            return;
+        }
+        var dropped = tryAcquire();
+        if (dropped < 0) {
+            return;
+        }
+        if (dropped > 0) {
+            logger.warn("{} similar messages suppressed in the last {} ms", dropped, intervalNanos / 1_000_000);
+        }
+        logger.warn(format, arguments);
+    }
+
+    // Negative when the message must be dropped, otherwise the number dropped since the previous window.
+    long tryAcquire() {
+        var now = nanoTime.getAsLong();
+        var start = windowStart.get();
+        if (now - start >= intervalNanos && windowStart.compareAndSet(start, now)) {
+            logged.set(1);
+            return suppressed.getAndSet(0);
+        }
+        if (logged.incrementAndGet() <= permitsPerInterval) {
+            return 0;
+        }
+        suppressed.incrementAndGet();
+        return -1;
+    }
+}
@@ -0,0 +1,40 @@
+package com.lsgsma.transaction.util;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// RFC 9562 version 7 UUIDs: 48-bit Unix millisecond timestamp, then a 12-bit counter (rand_a) that keeps ids
+// generated in the same millisecond strictly increasing within this process, then 62 random bits.
+public class UuidV7 {
+
+    private static final UuidV7 INSTANCE = new UuidV7(System::currentTimeMillis);
+
+    private static final int COUNTER_BITS = 12;
+
+    private final LongSupplier clock;
+    private final SecureRandom random = new SecureRandom();
+    // Last issued (millis << 12 | counter)
+    private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+    UuidV7(final LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    public static UUID randomUuid() {
+        return INSTANCE.next();
+    }
+
+    UUID next() {
+        var now = clock.getAsLong() << COUNTER_BITS;
+        // Counter overflow or a clock going backwards borrow from the next millisecond instead of breaking the order
+        var timestampAndCounter = lastTimestampAndCounter.updateAndGet(last -> Math.max(now, last + 1));
+        var millis = timestampAndCounter >>> COUNTER_BITS;
+        var counter = timestampAndCounter & ((1L << COUNTER_BITS) - 1);
+
+        var mostSignificantBits = (millis << 16) | 0x7000L | counter;
+        var leastSignificantBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
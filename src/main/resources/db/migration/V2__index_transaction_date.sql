@@ -0,0 +1,3 @@
+-- Date-range reads (reports, backfills) seek on transaction_date instead of scanning the table; id is included
+-- so the index also gives a stable order within a day.
+CREATE INDEX idx_transaction_transaction_date ON transaction (transaction_date, id);
@@ -0,0 +1,12 @@
+-- Converted amounts for the configured home currencies, only for transactions dated before the still publishable
+-- quarter so a row never goes stale. The exchange rate is kept as text so the scale returned by the Treasury API
+-- survives the round trip; a NULL rate records that no rate applies to the transaction date.
+CREATE TABLE transaction_conversion (
+    transaction_id UUID NOT NULL,
+    currency VARCHAR(100) NOT NULL,
+    exchange_rate VARCHAR(40),
+    converted_amount NUMERIC(19, 2),
+    computed_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (transaction_id, currency),
+    CONSTRAINT fk_transaction_conversion_transaction FOREIGN KEY (transaction_id) REFERENCES transaction (id) ON DELETE CASCADE
+);
@@ -0,0 +1,23 @@
+-- Bulk conversion jobs. cursor_date/cursor_id is the last transaction written and output_bytes the length of the
+-- result file at that point, so a job interrupted by a restart truncates the file and continues from there.
+CREATE TABLE conversion_job (
+    id UUID NOT NULL,
+    currency VARCHAR(100) NOT NULL,
+    from_date DATE NOT NULL,
+    to_date DATE NOT NULL,
+    format VARCHAR(10) NOT NULL,
+    status VARCHAR(10) NOT NULL,
+    total_rows BIGINT NOT NULL,
+    processed_rows BIGINT NOT NULL,
+    failed_rows BIGINT NOT NULL,
+    cursor_date DATE,
+    cursor_id UUID,
+    output_bytes BIGINT NOT NULL,
+    error VARCHAR(255),
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    version BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_conversion_job_status ON conversion_job (status);
@@ -3,7 +3,7 @@ package com.lsgsma.transaction;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "exchange-rate.preload.enabled=false")
 class TransactionApplicationTests {
 
 	@Test
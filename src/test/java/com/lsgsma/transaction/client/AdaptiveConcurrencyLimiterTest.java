@@ -0,0 +1,91 @@
+package com.lsgsma.transaction.client;
+
+import com.lsgsma.transaction.config.TreasuryConcurrencyLimitProperties;
+import com.lsgsma.transaction.exception.TreasuryApiUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AdaptiveConcurrencyLimiter limiter(final int initialLimit, final Duration queueTimeout) {
+        return new AdaptiveConcurrencyLimiter(
+                new TreasuryConcurrencyLimitProperties(true, initialLimit, 1, 10, 0.5, 2.0, 500, queueTimeout),
+                meterRegistry);
+    }
+
+    @Test
+    void givenSaturatedLimitAndStableRtt_whenRelease_thenIncreaseLimit() {
+        var concurrencyLimiter = limiter(2, Duration.ofSeconds(1));
+
+        concurrencyLimiter.acquire();
+        concurrencyLimiter.acquire();
+        concurrencyLimiter.release(100, false);
+
+        assertEquals(3, concurrencyLimiter.limit());
+        assertEquals(1, concurrencyLimiter.inFlight());
+    }
+
+    @Test
+    void givenInflatedRtt_whenRelease_thenDecreaseLimit() {
+        var concurrencyLimiter = limiter(8, Duration.ofSeconds(1));
+
+        concurrencyLimiter.acquire();
+        concurrencyLimiter.release(100, false);
+        concurrencyLimiter.acquire();
+        concurrencyLimiter.release(1_000, false);
+
+        assertEquals(4, concurrencyLimiter.limit());
+    }
+
+    @Test
+    void givenDroppedRequest_whenExecute_thenDecreaseLimit() {
+        var concurrencyLimiter = limiter(8, Duration.ofSeconds(1));
+
+        assertThrows(ResourceAccessException.class, () -> concurrencyLimiter.execute(() -> {
+            throw new ResourceAccessException("Read timed out");
+        }));
+
+        assertEquals(4, concurrencyLimiter.limit());
+        assertEquals(0, concurrencyLimiter.inFlight());
+    }
+
+    @Test
+    void givenLimitReached_whenQueueTimeoutElapses_thenRejectCall() {
+        var concurrencyLimiter = limiter(1, Duration.ofMillis(50));
+        concurrencyLimiter.acquire();
+
+        assertThrows(TreasuryApiUnavailableException.class, () -> concurrencyLimiter.execute(() -> "rate"));
+
+        assertEquals(1, meterRegistry.get("treasury.client.limit.rejections").counter().count());
+        assertEquals(0, concurrencyLimiter.queued());
+    }
+
+    @Test
+    void givenLimitReached_whenPermitReleased_thenQueuedCallProceeds() throws InterruptedException {
+        var concurrencyLimiter = limiter(1, Duration.ofSeconds(5));
+        concurrencyLimiter.acquire();
+        var completed = new CountDownLatch(1);
+
+        Thread.ofVirtual().start(() -> {
+            concurrencyLimiter.execute(() -> "rate");
+            completed.countDown();
+        });
+        while (concurrencyLimiter.queued() == 0) {
+            Thread.onSpinWait();
+        }
+        concurrencyLimiter.release(100, false);
+
+        assertTrue(completed.await(1, TimeUnit.SECONDS));
+        assertEquals(0, concurrencyLimiter.inFlight());
+    }
+}
@@ -0,0 +1,127 @@
+package com.lsgsma.transaction.client;
+
+import com.lsgsma.transaction.config.TreasuryHedgingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HedgedRequestExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private HedgedRequestExecutor executor(final boolean enabled, final double maxHedgeRatio) {
+        return new HedgedRequestExecutor(
+                new TreasuryHedgingProperties(enabled, 95, Duration.ofMillis(20), Duration.ofMillis(20), maxHedgeRatio, 100),
+                meterRegistry);
+    }
+
+    private double hedges(final String result) {
+        return meterRegistry.get("treasury.client.hedges").tag("result", result).counter().count();
+    }
+
+    @Test
+    void givenFastRequest_whenExecute_thenDoNotHedge() {
+        var hedgedRequestExecutor = executor(true, 1.0);
+        var invocations = new AtomicInteger();
+
+        var result = hedgedRequestExecutor.execute(() -> "rate-" + invocations.incrementAndGet());
+
+        assertEquals("rate-1", result);
+        assertEquals(1, invocations.get());
+        assertEquals(0, hedges("issued"));
+        assertEquals(1, meterRegistry.get("treasury.client.calls").counter().count());
+    }
+
+    @Test
+    void givenSlowPrimaryRequest_whenExecute_thenReturnHedgedResponse() {
+        var hedgedRequestExecutor = executor(true, 1.0);
+        var invocations = new AtomicInteger();
+
+        var start = System.nanoTime();
+        var result = hedgedRequestExecutor.execute(() -> {
+            if (invocations.incrementAndGet() == 1) {
+                sleep(Duration.ofSeconds(5));
+                return "primary";
+            }
+            return "hedge";
+        });
+
+        assertEquals("hedge", result);
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(2)) < 0);
+        assertEquals(1, hedges("issued"));
+        assertEquals(1, hedges("won"));
+    }
+
+    @Test
+    void givenHedgeBudgetExhausted_whenExecute_thenWaitForPrimaryRequest() {
+        var hedgedRequestExecutor = executor(true, 0.0);
+
+        var result = hedgedRequestExecutor.execute(() -> {
+            sleep(Duration.ofMillis(60));
+            return "primary";
+        });
+
+        assertEquals("primary", result);
+        assertEquals(0, hedges("issued"));
+    }
+
+    @Test
+    void givenLongFastPeriodThenSlowBurst_whenExecute_thenHedgeAtMostTheRatioOfTheBurst() {
+        var hedgedRequestExecutor = executor(true, 0.1);
+        for (var i = 0; i < 1_000; i++) {
+            hedgedRequestExecutor.execute(() -> "fast");
+        }
+
+        for (var i = 0; i < 20; i++) {
+            hedgedRequestExecutor.execute(() -> {
+                sleep(Duration.ofMillis(40));
+                return "slow";
+            });
+        }
+
+        // The bucket holds at most one token saved from the fast period, on top of 0.1 per slow call
+        assertTrue(hedges("issued") >= 1);
+        assertTrue(hedges("issued") <= 1 + 0.1 * 20);
+    }
+
+    @Test
+    void givenAllAttemptsFail_whenExecute_thenPropagateFailure() {
+        var hedgedRequestExecutor = executor(true, 1.0);
+
+        assertThrows(ResourceAccessException.class, () -> hedgedRequestExecutor.execute(() -> {
+            sleep(Duration.ofMillis(60));
+            throw new ResourceAccessException("Treasury API unavailable");
+        }));
+    }
+
+    @Test
+    void givenHedgingDisabled_whenExecute_thenCallRequestOnce() {
+        var hedgedRequestExecutor = executor(false, 1.0);
+        var invocations = new AtomicInteger();
+
+        var result = hedgedRequestExecutor.execute(() -> {
+            invocations.incrementAndGet();
+            sleep(Duration.ofMillis(60));
+            return "primary";
+        });
+
+        assertEquals("primary", result);
+        assertEquals(1, invocations.get());
+        assertEquals(0, hedges("issued"));
+    }
+
+    private static void sleep(final Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Interrupted");
+        }
+    }
+}
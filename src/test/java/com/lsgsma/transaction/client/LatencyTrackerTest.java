@@ -0,0 +1,38 @@
+package com.lsgsma.transaction.client;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LatencyTrackerTest {
+
+    @Test
+    void givenNoSamples_whenGetPercentile_thenReturnNegative() {
+        assertEquals(-1, new LatencyTracker(100, 95).percentileNanos());
+    }
+
+    @Test
+    void givenFullWindow_whenGetPercentile_thenReturnNearestRankValue() {
+        var latencyTracker = new LatencyTracker(100, 95);
+
+        for (int i = 1; i <= 129; i++) {
+            latencyTracker.record(i % 100 + 1);
+        }
+
+        assertEquals(95, latencyTracker.percentileNanos());
+    }
+
+    @Test
+    void givenOlderSamplesOutsideWindow_whenGetPercentile_thenIgnoreThem() {
+        var latencyTracker = new LatencyTracker(32, 50);
+
+        for (int i = 0; i < 32; i++) {
+            latencyTracker.record(1_000);
+        }
+        for (int i = 0; i < 33; i++) {
+            latencyTracker.record(10);
+        }
+
+        assertEquals(10, latencyTracker.percentileNanos());
+    }
+}
@@ -0,0 +1,99 @@
+package com.lsgsma.transaction.controller.impl;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.lsgsma.transaction.infra.ExchangeRateStore;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext
+class ExchangeRateControllerImplIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ExchangeRateStore exchangeRateStore;
+
+    @RegisterExtension
+    static WireMockExtension wireMockServer = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort())
+            .build();
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("api.treasury.base-url", wireMockServer::baseUrl);
+    }
+
+    @BeforeEach
+    void setUp() {
+        exchangeRateStore.clear();
+        exchangeRateStore.record("Brazil-Real", LocalDate.of(2024, 3, 31), new BigDecimal("5.0"));
+        exchangeRateStore.record("Brazil-Real", LocalDate.of(2024, 6, 30), new BigDecimal("5.5"));
+        exchangeRateStore.markComplete("Brazil-Real", LocalDate.of(2023, 1, 1), LocalDate.of(2024, 6, 30));
+    }
+
+    @Test
+    void givenKnownCurrency_whenGetExchangeRates_thenReturnSeriesInTreasuryFormatWithETag() throws Exception {
+        mockMvc.perform(get("/exchange-rates/Brazil-Real").param("from", "2024-01-01").param("to", "2024-06-30"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=86400, public"))
+                .andExpect(jsonPath("$.complete").value(true))
+                .andExpect(jsonPath("$.data", hasSize(2)))
+                .andExpect(jsonPath("$.data[0].record_date").value("2024-06-30"))
+                .andExpect(jsonPath("$.data[0].exchange_rate").value(5.5));
+    }
+
+    @Test
+    void givenMatchingETag_whenGetExchangeRates_thenReturn304WithoutBody() throws Exception {
+        var eTag = mockMvc.perform(get("/exchange-rates/Brazil-Real").param("from", "2024-01-01"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/exchange-rates/Brazil-Real").param("from", "2024-01-01").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        exchangeRateStore.record("Brazil-Real", LocalDate.of(2024, 9, 30), new BigDecimal("5.6"));
+
+        mockMvc.perform(get("/exchange-rates/Brazil-Real").param("from", "2024-01-01").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, public"));
+    }
+
+    @Test
+    void givenSeveralCurrencies_whenGetExchangeRates_thenLeaveOutUnknownOnes() throws Exception {
+        mockMvc.perform(get("/exchange-rates").param("currency", "Brazil-Real,Unknown-Currency").param("from", "2024-01-01").param("to", "2024-06-30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].currency").value("Brazil-Real"));
+    }
+
+    @Test
+    void givenUnknownCurrencyOrInvalidRange_whenGetExchangeRates_thenReturnErrors() throws Exception {
+        mockMvc.perform(get("/exchange-rates/Unknown-Currency"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/exchange-rates/Brazil-Real").param("from", "2024-07-01").param("to", "2024-06-30"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -1,9 +1,13 @@
 package com.lsgsma.transaction.controller.impl;
 
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
 import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import com.lsgsma.transaction.dto.request.CreateTransactionRequest;
+import com.lsgsma.transaction.dto.response.ConvertedTransactionResponse;
+import com.lsgsma.transaction.infra.ExchangeRateStore;
 import com.lsgsma.transaction.model.Transaction;
 import com.lsgsma.transaction.repository.TransactionRepository;
 import java.math.BigDecimal;
@@ -26,10 +30,18 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -49,6 +61,12 @@ class TransactionControllerImplIntegrationTest {
     @Autowired
     private CacheManager cacheManager;
 
+    @Autowired
+    private CircuitBreaker treasuryCircuitBreaker;
+
+    @Autowired
+    private ExchangeRateStore exchangeRateStore;
+
     @RegisterExtension
     static WireMockExtension wireMockServer = WireMockExtension.newInstance()
             .options(wireMockConfig().dynamicPort())
@@ -65,6 +83,9 @@ class TransactionControllerImplIntegrationTest {
         transactionRepository.deleteAll();
         cacheManager.getCacheNames()
                 .forEach(cacheName -> Objects.requireNonNull(cacheManager.getCache(cacheName)).clear());
+        treasuryCircuitBreaker.reset();
+        exchangeRateStore.clear();
+        clearInvocations(transactionRepository);
     }
 
     @Test
@@ -173,8 +194,130 @@ class TransactionControllerImplIntegrationTest {
                 .andExpect(jsonPath("$.transactionDate").value("2024-08-20"))
                 .andExpect(jsonPath("$.originalPurchaseAmount").value(100.00))
                 .andExpect(jsonPath("$.exchangeRate").value(5.5))
-                .andExpect(jsonPath("$.convertedAmount").value(550.00));
+                .andExpect(jsonPath("$.convertedAmount").value(550.00))
+                .andExpect(jsonPath("$.staleExchangeRate").doesNotExist());
+
+    }
+
+    @Test
+    void givenAmountsAndDates_whenBulkConvert_thenStreamResultsWithoutDatabaseAccess() throws Exception {
+        wireMockServer.stubFor(WireMock.get(WireMock.urlMatching("/v1/accounting/od/rates_of_exchange.*"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(readStringFromFile("mock/treasury-exchange-rate-response-with-data.json"))));
+
+        var mvcResult = mockMvc.perform(post("/convert")
+                        .param("currency", "Brazil-Real")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                [{"amount": 100.00, "date": "2024-08-20"}, {"amount": 10, "date": "2024-07-01"}]
+                                """))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].convertedAmount").value(550.00))
+                .andExpect(jsonPath("$[1].exchangeRate").value(5.5))
+                .andExpect(jsonPath("$[1].convertedAmount").value(55.00));
+        verifyNoInteractions(transactionRepository);
+    }
 
+    @Test
+    void givenInvalidCurrency_whenBulkConvert_thenReturns400() throws Exception {
+        mockMvc.perform(post("/convert")
+                        .param("currency", "Brazil-</Real>")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+    }
+
+    @Test
+    void givenAcceptCbor_whenGetConverted_thenReturnsCborBody() throws Exception {
+        var transaction = new Transaction();
+        transaction.setDescription("Test Purchase");
+        transaction.setPurchaseAmount(BigDecimal.valueOf(100.00));
+        transaction.setTransactionDate(LocalDate.of(2024, 8, 20));
+        var savedTransaction = transactionRepository.save(transaction);
+        var transactionId = savedTransaction.getId();
+
+        wireMockServer.stubFor(WireMock.get(WireMock.urlMatching("/v1/accounting/od/rates_of_exchange.*"))
+                .willReturn(WireMock.aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(readStringFromFile("mock/treasury-exchange-rate-response-with-data.json"))));
+
+        var body = mockMvc.perform(get("/transaction/{id}", transactionId)
+                        .param("currency", "Brazil-Real")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        var response = CBORMapper.builder().build().readValue(body, ConvertedTransactionResponse.class);
+        assertEquals(transactionId, response.id());
+        assertEquals(0, BigDecimal.valueOf(550.00).compareTo(response.convertedAmount()));
+    }
+
+    @Test
+    void givenAcceptSmile_whenGetConverted_thenReturnsSmileBody() throws Exception {
+        var transaction = new Transaction();
+        transaction.setDescription("Test Purchase");
+        transaction.setPurchaseAmount(BigDecimal.valueOf(100.00));
+        transaction.setTransactionDate(LocalDate.of(2024, 8, 20));
+        var savedTransaction = transactionRepository.save(transaction);
+
+        mockMvc.perform(get("/transaction/{id}", savedTransaction.getId())
+                        .accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"));
+    }
+
+    @Test
+    void givenCircuitOpenAndKnownRate_whenGetConverted_thenReturns200WithStaleRate() throws Exception {
+        var transaction = new Transaction();
+        transaction.setDescription("Test Purchase");
+        transaction.setPurchaseAmount(BigDecimal.valueOf(100.00));
+        transaction.setTransactionDate(LocalDate.of(2024, 8, 20));
+        var savedTransaction = transactionRepository.save(transaction);
+        var transactionId = savedTransaction.getId();
+
+        exchangeRateStore.record("Brazil-Real", LocalDate.of(2024, 6, 30), BigDecimal.valueOf(5.5));
+        treasuryCircuitBreaker.transitionToOpenState();
+
+        mockMvc.perform(get("/transaction/{id}", transactionId)
+                        .param("currency", "Brazil-Real"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.exchangeRate").value(5.5))
+                .andExpect(jsonPath("$.convertedAmount").value(550.00))
+                .andExpect(jsonPath("$.staleExchangeRate").value(true));
+
+        wireMockServer.verify(0, WireMock.getRequestedFor(WireMock.urlMatching("/v1/accounting/od/rates_of_exchange.*")));
+    }
+
+    @Test
+    void givenCircuitOpenAndNoKnownRate_whenGetConverted_thenReturns503() throws Exception {
+        var transaction = new Transaction();
+        transaction.setDescription("Test Purchase");
+        transaction.setPurchaseAmount(BigDecimal.valueOf(100.00));
+        transaction.setTransactionDate(LocalDate.of(2024, 8, 20));
+        var savedTransaction = transactionRepository.save(transaction);
+        var transactionId = savedTransaction.getId();
+
+        treasuryCircuitBreaker.transitionToOpenState();
+
+        mockMvc.perform(get("/transaction/{id}", transactionId)
+                        .param("currency", "Brazil-Real"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.status").value(503))
+                .andExpect(jsonPath("$.error").value("Service Unavailable"))
+                .andExpect(jsonPath("$.messages.serviceUnavailable").value("Treasury API is unavailable and no known exchange rate for Brazil-Real"))
+                .andExpect(jsonPath("$.path").value("/transaction/" + transactionId));
     }
 
     @Test
@@ -207,6 +350,32 @@ class TransactionControllerImplIntegrationTest {
                 .andExpect(jsonPath("$.path").value("/transaction/" + invalidId));
     }
 
+    @Test
+    void givenStoredTransaction_whenSearchByDescriptionFragment_thenReturnIt() throws Exception {
+        var requestDto = new CreateTransactionRequest("Ergonomic standing desk", LocalDate.now(), BigDecimal.valueOf(480.00));
+
+        mockMvc.perform(post("/transaction")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/transaction/search")
+                        .param("q", "STANDING D"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id").exists())
+                .andExpect(jsonPath("$[0].description").value("Ergonomic standing desk"));
+    }
+
+    @Test
+    void givenShortQuery_whenSearch_thenReturns400() throws Exception {
+        mockMvc.perform(get("/transaction/search")
+                        .param("q", "de"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.error").value("Request Value error"));
+    }
+
     @Test
     void givenInvalidCurrency_whenGetConverted_thenReturns400() throws Exception {
         var id = UUID.randomUUID();
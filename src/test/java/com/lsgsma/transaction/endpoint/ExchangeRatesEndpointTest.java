@@ -0,0 +1,117 @@
+package com.lsgsma.transaction.endpoint;
+
+import com.lsgsma.transaction.infra.ExchangeRatePreloader;
+import com.lsgsma.transaction.infra.ExchangeRateStore;
+import com.lsgsma.transaction.service.ExchangeRateService;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import static com.lsgsma.transaction.config.AppConfig.EXCHANGE_RATE_CACHE;
+import static com.lsgsma.transaction.util.CacheUtil.buildCacheKey;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExchangeRatesEndpointTest {
+
+    @Mock
+    private ExchangeRateService exchangeRateService;
+
+    @Mock
+    private ExchangeRatePreloader exchangeRatePreloader;
+
+    private final CaffeineCacheManager cacheManager = new CaffeineCacheManager(EXCHANGE_RATE_CACHE);
+    private final ExchangeRateStore exchangeRateStore = new ExchangeRateStore();
+
+    private ExchangeRatesEndpoint exchangeRatesEndpoint;
+
+    @BeforeEach
+    void setup() {
+        cacheManager.setCacheSpecification("recordStats");
+        exchangeRatesEndpoint = new ExchangeRatesEndpoint(cacheManager, exchangeRateStore, exchangeRateService, exchangeRatePreloader);
+
+        var cache = cacheManager.getCache(EXCHANGE_RATE_CACHE);
+        cache.put(buildCacheKey("Brazil-Real", LocalDate.of(2024, 8, 19)), BigDecimal.valueOf(5.5));
+        cache.put(buildCacheKey("Brazil-Real", LocalDate.of(2024, 8, 20)), BigDecimal.valueOf(5.5));
+        cache.put(buildCacheKey("Japan-Yen", LocalDate.of(2024, 8, 20)), BigDecimal.valueOf(150));
+        exchangeRateStore.record("Brazil-Real", LocalDate.of(2024, 3, 31), BigDecimal.valueOf(5.0));
+        exchangeRateStore.record("Brazil-Real", LocalDate.of(2024, 6, 30), BigDecimal.valueOf(5.5));
+    }
+
+    @Test
+    void givenCachedRates_whenReport_thenReturnCoveragePerCurrency() {
+        var report = exchangeRatesEndpoint.report();
+
+        assertEquals(3, report.cacheEntries());
+        assertEquals(3L * ExchangeRatesEndpoint.ESTIMATED_ENTRY_BYTES, report.estimatedCacheBytes());
+        assertEquals(2, report.currencies().size());
+
+        var brazil = report.currencies().getFirst();
+        assertEquals("Brazil-Real", brazil.currency());
+        assertEquals(2, brazil.cacheEntries());
+        assertEquals(LocalDate.of(2024, 8, 19), brazil.earliestCachedDate());
+        assertEquals(LocalDate.of(2024, 8, 20), brazil.latestCachedDate());
+        assertEquals(LocalDate.of(2024, 3, 31), brazil.earliestRecordDate());
+        assertEquals(LocalDate.of(2024, 6, 30), brazil.latestRecordDate());
+        assertEquals(2, brazil.storedRecords());
+    }
+
+    @Test
+    void givenUnknownCurrency_whenReadCurrency_thenReturnNull() {
+        assertNull(exchangeRatesEndpoint.currency("Mexico-Peso"));
+    }
+
+    @Test
+    void givenCurrencyAndRange_whenWarm_thenDelegateToExchangeRateService() {
+        when(exchangeRateService.warm("Brazil-Real", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31))).thenReturn(31);
+
+        var result = exchangeRatesEndpoint.warm("Brazil-Real", "2024-01-01", "2024-01-31");
+
+        assertEquals(31, result.cachedEntries());
+    }
+
+    @Test
+    void givenCurrencyWithoutRange_whenEvict_thenRemoveAllItsEntries() {
+        var result = exchangeRatesEndpoint.evict("Brazil-Real", null, null);
+
+        assertEquals(2, result.evictedEntries());
+        assertEquals(0, exchangeRatesEndpoint.currency("Brazil-Real").cacheEntries());
+        assertEquals(1, exchangeRatesEndpoint.currency("Japan-Yen").cacheEntries());
+    }
+
+    @Test
+    void givenCurrencyAndRange_whenEvict_thenRemoveOnlyEntriesInRange() {
+        var result = exchangeRatesEndpoint.evict("Brazil-Real", "2024-08-20", "2024-08-20");
+
+        assertEquals(1, result.evictedEntries());
+        assertEquals(LocalDate.of(2024, 8, 19), exchangeRatesEndpoint.currency("Brazil-Real").latestCachedDate());
+    }
+
+    @Test
+    void givenOnlyUpperBound_whenEvict_thenRemoveEntriesUpToIt() {
+        var result = exchangeRatesEndpoint.evict("Brazil-Real", null, "2024-08-19");
+
+        assertEquals(1, result.evictedEntries());
+        assertEquals(LocalDate.of(2024, 8, 20), exchangeRatesEndpoint.currency("Brazil-Real").earliestCachedDate());
+        assertEquals(1, exchangeRatesEndpoint.currency("Japan-Yen").cacheEntries());
+    }
+
+    @Test
+    void givenMalformedDate_whenWarm_thenThrowInvalidEndpointRequestException() {
+        assertThrows(InvalidEndpointRequestException.class, () -> exchangeRatesEndpoint.warm("Brazil-Real", "01/01/2024", null));
+    }
+
+    @Test
+    void givenMalformedDate_whenEvict_thenThrowInvalidEndpointRequestException() {
+        assertThrows(InvalidEndpointRequestException.class, () -> exchangeRatesEndpoint.evict("Brazil-Real", null, "2024-13-01"));
+    }
+}
@@ -0,0 +1,78 @@
+package com.lsgsma.transaction.endpoint;
+
+import com.lsgsma.transaction.jfr.BoundedCounter;
+import com.lsgsma.transaction.jfr.JfrMonitor;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JfrEndpointTest {
+
+    @TempDir
+    private Path directory;
+
+    @Mock
+    private JfrMonitor jfrMonitor;
+
+    @InjectMocks
+    private JfrEndpoint jfrEndpoint;
+
+    @Test
+    void givenMonitorData_whenReport_thenSummarizePinningAllocationsAndStages() {
+        var timer = Timer.builder("transaction.conversion.stage").register(new SimpleMeterRegistry());
+        timer.record(Duration.ofMillis(30));
+        when(jfrMonitor.isRunning()).thenReturn(true);
+        when(jfrMonitor.pinnedEvents()).thenReturn(2L);
+        when(jfrMonitor.topPinnedFrames(anyInt())).thenReturn(List.of(new BoundedCounter.Count("com.lsgsma.transaction.Foo.bar:10", 2)));
+        when(jfrMonitor.allocationByEndpoint(anyInt())).thenReturn(List.of(new BoundedCounter.Count("TransactionControllerImpl.getTransaction", 4096)));
+        when(jfrMonitor.topAllocationSites(anyInt())).thenReturn(List.of());
+        when(jfrMonitor.stageTimers()).thenReturn(Map.of("exchangeRate", timer));
+
+        var report = jfrEndpoint.report();
+
+        assertEquals(2, report.pinnedEvents());
+        assertEquals(4096, report.allocatedBytesByEndpoint().getFirst().total());
+        assertEquals(1, report.conversionStages().get("exchangeRate").count());
+        assertEquals(30.0, report.conversionStages().get("exchangeRate").maxMillis());
+    }
+
+    @Test
+    void givenMonitorNotRunning_whenDump_thenReturn503() throws IOException {
+        when(jfrMonitor.isRunning()).thenReturn(false);
+
+        assertEquals(503, jfrEndpoint.dump().getStatus());
+    }
+
+    @Test
+    void givenRecording_whenDumpStreamed_thenDeleteTemporaryFile() throws IOException {
+        var file = Files.write(directory.resolve("dump.jfr"), new byte[]{1, 2, 3});
+        when(jfrMonitor.isRunning()).thenReturn(true);
+        when(jfrMonitor.dump()).thenReturn(file);
+
+        var response = jfrEndpoint.dump();
+        try (var inputStream = response.getBody().getInputStream()) {
+            assertArrayEquals(new byte[]{1, 2, 3}, inputStream.readAllBytes());
+        }
+
+        assertEquals(200, response.getStatus());
+        assertFalse(Files.exists(file));
+    }
+}
@@ -0,0 +1,138 @@
+package com.lsgsma.transaction.filter;
+
+import com.lsgsma.transaction.config.AdmissionControlProperties;
+import com.lsgsma.transaction.infra.ExchangeRateStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdmissionControlFilterTest {
+
+    private final AdmissionControlProperties properties = new AdmissionControlProperties(
+            true, Duration.ofMillis(100), 4, 2, 10, 0.5, 0.5, Duration.ofSeconds(2));
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExchangeRateStore exchangeRateStore = new ExchangeRateStore();
+
+    private AdmissionLimiter admissionLimiter;
+    private AdmissionControlFilter admissionControlFilter;
+
+    @BeforeEach
+    void setup() {
+        admissionLimiter = new AdmissionLimiter(properties, meterRegistry);
+        admissionControlFilter = new AdmissionControlFilter(properties, admissionLimiter, exchangeRateStore, JsonMapper.builder().build());
+        exchangeRateStore.record("Brazil-Real", LocalDate.of(2024, 6, 30), BigDecimal.valueOf(5.5));
+    }
+
+    @Test
+    void givenCapacityAvailable_whenFilter_thenPassRequestAndReleasePermit() throws Exception {
+        var response = new MockHttpServletResponse();
+        var filterChain = new MockFilterChain();
+
+        admissionControlFilter.doFilter(getConversion("Brazil-Real"), response, filterChain);
+
+        assertNotNull(filterChain.getRequest());
+        assertEquals(200, response.getStatus());
+        assertEquals(0, admissionLimiter.inFlight());
+    }
+
+    @Test
+    void givenLimitReached_whenFilter_thenReturn503WithRetryAfter() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            assertTrue(admissionLimiter.tryAcquire(AdmissionLimiter.Priority.HIGH));
+        }
+        var response = new MockHttpServletResponse();
+        var filterChain = new MockFilterChain();
+
+        admissionControlFilter.doFilter(getConversion("Brazil-Real"), response, filterChain);
+
+        assertNull(filterChain.getRequest());
+        assertEquals(503, response.getStatus());
+        assertEquals("2", response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("\"serviceUnavailable\""));
+        assertEquals(1, meterRegistry.get("http.server.admission.rejections").tag("priority", "high").counter().count());
+    }
+
+    @Test
+    void givenLowPriorityShareUsed_whenFilter_thenShedWritesButAdmitCachedReads() throws Exception {
+        assertTrue(admissionLimiter.tryAcquire(AdmissionLimiter.Priority.LOW));
+        assertTrue(admissionLimiter.tryAcquire(AdmissionLimiter.Priority.LOW));
+
+        var writeResponse = new MockHttpServletResponse();
+        var post = new MockHttpServletRequest("POST", "/transaction");
+        admissionControlFilter.doFilter(post, writeResponse, new MockFilterChain());
+
+        var readResponse = new MockHttpServletResponse();
+        admissionControlFilter.doFilter(getConversion("Brazil-Real"), readResponse, new MockFilterChain());
+
+        assertEquals(503, writeResponse.getStatus());
+        assertEquals(200, readResponse.getStatus());
+    }
+
+    @Test
+    void givenRequest_whenResolvePriority_thenOnlyReadsOfKnownCurrenciesAreHigh() {
+        assertEquals(AdmissionLimiter.Priority.HIGH, admissionControlFilter.priorityOf(getConversion("Brazil-Real")));
+        assertEquals(AdmissionLimiter.Priority.HIGH, admissionControlFilter.priorityOf(new MockHttpServletRequest("GET", "/transaction/1")));
+        assertEquals(AdmissionLimiter.Priority.LOW, admissionControlFilter.priorityOf(getConversion("Japan-Yen")));
+        assertEquals(AdmissionLimiter.Priority.LOW, admissionControlFilter.priorityOf(new MockHttpServletRequest("POST", "/transaction")));
+    }
+
+    @Test
+    void givenNonTransactionPath_whenCheckShouldNotFilter_thenSkip() {
+        assertTrue(admissionControlFilter.shouldNotFilter(new MockHttpServletRequest("GET", "/actuator/health")));
+        assertFalse(admissionControlFilter.shouldNotFilter(new MockHttpServletRequest("POST", "/transaction")));
+    }
+
+    @Test
+    void givenSaturatedLimitAndSlowRequests_whenRelease_thenDecreaseLimitDownToMinimum() {
+        var held = 0;
+        while (admissionLimiter.tryAcquire(AdmissionLimiter.Priority.HIGH)) {
+            held++;
+        }
+        for (int i = 0; i < held; i++) {
+            admissionLimiter.release(AdmissionLimiter.Priority.HIGH, Duration.ofSeconds(5).toNanos());
+        }
+
+        assertEquals(2, admissionLimiter.limit());
+    }
+
+    @Test
+    void givenSlowRequestsBelowSaturation_whenRelease_thenKeepLimit() {
+        for (int i = 0; i < 20; i++) {
+            admissionLimiter.tryAcquire(AdmissionLimiter.Priority.HIGH);
+            admissionLimiter.release(AdmissionLimiter.Priority.HIGH, Duration.ofSeconds(5).toNanos());
+        }
+
+        assertEquals(4, admissionLimiter.limit());
+    }
+
+    @Test
+    void givenSaturatedLimitAndSlowLowPriorityRequests_whenRelease_thenKeepLimit() {
+        assertTrue(admissionLimiter.tryAcquire(AdmissionLimiter.Priority.HIGH));
+        for (int i = 0; i < 20; i++) {
+            assertTrue(admissionLimiter.tryAcquire(AdmissionLimiter.Priority.LOW));
+            admissionLimiter.release(AdmissionLimiter.Priority.LOW, Duration.ofSeconds(5).toNanos());
+        }
+
+        assertEquals(4, admissionLimiter.limit());
+    }
+
+    private static MockHttpServletRequest getConversion(final String currency) {
+        var request = new MockHttpServletRequest("GET", "/transaction/a1b2c3d4-e5f6-7890-1234-567890abcdef");
+        request.setParameter("currency", currency);
+        return request;
+    }
+}
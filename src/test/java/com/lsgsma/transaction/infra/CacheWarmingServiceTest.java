@@ -1,7 +1,9 @@
 package com.lsgsma.transaction.infra;
 
+import com.lsgsma.transaction.dto.client.response.TreasuryExchangeRateDataResponse;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,6 +12,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -46,4 +49,34 @@ class CacheWarmingServiceTest {
         }
         verifyNoMoreInteractions(exchangeRateCache);
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenRecords_whenCallToPreloadExchangeRateCache_thenCacheLatestRecordWithinSixMonthsForEachDate() {
+        var currency = "Brazil-Real";
+        var fromDate = LocalDate.of(2024, 6, 28);
+        var toDate = LocalDate.of(2024, 7, 2);
+        var records = List.of(
+                new TreasuryExchangeRateDataResponse(BigDecimal.valueOf(5.6), LocalDate.of(2024, 6, 30)),
+                new TreasuryExchangeRateDataResponse(BigDecimal.valueOf(5.5), LocalDate.of(2024, 3, 31)));
+
+        var cachedEntries = cacheWarmingService.preloadExchangeRateCache(currency, fromDate, toDate, records);
+
+        assertEquals(5, cachedEntries);
+        verify(exchangeRateCache).put(currency + "::2024-06-28", BigDecimal.valueOf(5.5));
+        verify(exchangeRateCache).put(currency + "::2024-06-29", BigDecimal.valueOf(5.5));
+        verify(exchangeRateCache).put(currency + "::2024-06-30", BigDecimal.valueOf(5.6));
+        verify(exchangeRateCache).put(currency + "::2024-07-01", BigDecimal.valueOf(5.6));
+        verify(exchangeRateCache).put(currency + "::2024-07-02", BigDecimal.valueOf(5.6));
+        verifyNoMoreInteractions(exchangeRateCache);
+    }
+
+    @Test
+    void givenRecordOlderThanSixMonths_whenCallToPreloadExchangeRateCache_thenDoNotCacheIt() {
+        var records = List.of(new TreasuryExchangeRateDataResponse(BigDecimal.valueOf(5.5), LocalDate.of(2023, 12, 31)));
+
+        var cachedEntries = cacheWarmingService.preloadExchangeRateCache("Brazil-Real", LocalDate.of(2024, 7, 1), LocalDate.of(2024, 7, 2), records);
+
+        assertEquals(0, cachedEntries);
+        verifyNoMoreInteractions(exchangeRateCache);
+    }
+}
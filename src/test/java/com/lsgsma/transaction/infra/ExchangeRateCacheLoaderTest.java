@@ -0,0 +1,95 @@
+package com.lsgsma.transaction.infra;
+
+import com.lsgsma.transaction.client.TreasuryApiClient;
+import com.lsgsma.transaction.dto.client.response.TreasuryExchangeRateDataResponse;
+import com.lsgsma.transaction.dto.client.response.TreasuryExchangeRateResponse;
+import com.lsgsma.transaction.exception.TreasuryApiUnavailableException;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExchangeRateCacheLoaderTest {
+
+    @Mock
+    private TreasuryApiClient treasuryApiClient;
+
+    @Mock
+    private ExchangeRateExpiry exchangeRateExpiry;
+
+    private final ExchangeRateStore exchangeRateStore = new ExchangeRateStore();
+
+    private ExchangeRateCacheLoader exchangeRateCacheLoader;
+
+    @BeforeEach
+    void setup() {
+        exchangeRateCacheLoader = new ExchangeRateCacheLoader(treasuryApiClient, exchangeRateExpiry, exchangeRateStore, Duration.ofMinutes(15));
+    }
+
+    @Test
+    void givenAnyKey_whenLoad_thenDoNotCallTreasuryApi() {
+        assertNull(exchangeRateCacheLoader.load("Brazil-Real::2024-08-20"));
+        verifyNoInteractions(treasuryApiClient);
+    }
+
+    @Test
+    void givenHistoricKey_whenReload_thenKeepOldValue() {
+        when(exchangeRateExpiry.isHistoric("Brazil-Real::2023-08-20")).thenReturn(true);
+
+        assertEquals(BigDecimal.valueOf(5.5), exchangeRateCacheLoader.reload("Brazil-Real::2023-08-20", BigDecimal.valueOf(5.5)));
+        verifyNoInteractions(treasuryApiClient);
+    }
+
+    @Test
+    void givenSeveralRecentDaysOfOneCurrency_whenReload_thenFetchItsRecentWindowOnce() {
+        when(exchangeRateExpiry.historicBefore()).thenReturn(LocalDate.of(2024, 7, 1));
+        when(treasuryApiClient.getExchangeRatesByCurrencyInRecordDateRangeSortedByRecordDateDesc(eq("Brazil-Real"), eq(LocalDate.of(2024, 1, 1)), any()))
+                .thenReturn(Optional.of(new TreasuryExchangeRateResponse(List.of(
+                        new TreasuryExchangeRateDataResponse(BigDecimal.valueOf(5.7), LocalDate.of(2024, 8, 15)),
+                        new TreasuryExchangeRateDataResponse(BigDecimal.valueOf(5.5), LocalDate.of(2024, 6, 30))))));
+
+        assertEquals(BigDecimal.valueOf(5.7), exchangeRateCacheLoader.reload("Brazil-Real::2024-08-20", BigDecimal.valueOf(5.5)));
+        assertEquals(BigDecimal.valueOf(5.5), exchangeRateCacheLoader.reload("Brazil-Real::2024-08-10", BigDecimal.valueOf(5.4)));
+        assertEquals(BigDecimal.valueOf(5.7), exchangeRateCacheLoader.reload("Brazil-Real::2024-08-21", BigDecimal.valueOf(5.5)));
+
+        verify(treasuryApiClient, times(1)).getExchangeRatesByCurrencyInRecordDateRangeSortedByRecordDateDesc(any(), any(), any());
+    }
+
+    @Test
+    void givenRefreshIntervalElapsed_whenReload_thenFetchAgain() {
+        exchangeRateCacheLoader = new ExchangeRateCacheLoader(treasuryApiClient, exchangeRateExpiry, exchangeRateStore, Duration.ZERO);
+        when(exchangeRateExpiry.historicBefore()).thenReturn(LocalDate.of(2024, 7, 1));
+        when(treasuryApiClient.getExchangeRatesByCurrencyInRecordDateRangeSortedByRecordDateDesc(eq("Brazil-Real"), any(), any()))
+                .thenReturn(Optional.empty());
+
+        exchangeRateCacheLoader.reload("Brazil-Real::2024-08-20", BigDecimal.valueOf(5.5));
+        exchangeRateCacheLoader.reload("Brazil-Real::2024-08-21", BigDecimal.valueOf(5.5));
+
+        verify(treasuryApiClient, times(2)).getExchangeRatesByCurrencyInRecordDateRangeSortedByRecordDateDesc(any(), any(), any());
+    }
+
+    @Test
+    void givenRecentKey_whenTreasuryApiFails_thenKeepOldValue() {
+        when(exchangeRateExpiry.historicBefore()).thenReturn(LocalDate.of(2024, 7, 1));
+        when(treasuryApiClient.getExchangeRatesByCurrencyInRecordDateRangeSortedByRecordDateDesc(eq("Brazil-Real"), any(), any()))
+                .thenThrow(new TreasuryApiUnavailableException("Treasury API is unavailable", Duration.ofSeconds(30)));
+
+        assertEquals(BigDecimal.valueOf(5.5), exchangeRateCacheLoader.reload("Brazil-Real::2024-08-20", BigDecimal.valueOf(5.5)));
+    }
+}
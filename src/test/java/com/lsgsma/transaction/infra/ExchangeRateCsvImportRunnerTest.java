@@ -0,0 +1,68 @@
+package com.lsgsma.transaction.infra;
+
+import com.lsgsma.transaction.config.ExchangeRateImportProperties;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExchangeRateCsvImportRunnerTest {
+
+    @TempDir
+    private Path directory;
+
+    private final ExchangeRateStore exchangeRateStore = new ExchangeRateStore();
+
+    @Test
+    void givenNoFile_whenRun_thenDoNothing() {
+        new ExchangeRateCsvImportRunner(new ExchangeRateImportProperties(null, true), exchangeRateStore).run(null);
+
+        assertTrue(exchangeRateStore.currencies().isEmpty());
+        assertTrue(exchangeRateStore.lastUpdated().isEmpty());
+    }
+
+    @Test
+    void givenCsvFile_whenRun_thenLoadStoreAndMarkItCompleteThroughLatestRecordDate() throws IOException {
+        var file = Files.writeString(directory.resolve("rates.csv"), """
+                Record Date,Country - Currency Description,Exchange Rate
+                2024-06-30,Brazil-Real,5.5
+                2024-09-30,Japan-Yen,143.25
+                """);
+
+        new ExchangeRateCsvImportRunner(new ExchangeRateImportProperties(file, true), exchangeRateStore).run(null);
+
+        assertEquals(new BigDecimal("5.5"), exchangeRateStore.findApplicable("Brazil-Real", LocalDate.of(2024, 8, 20)).orElseThrow().exchangeRate());
+        assertTrue(exchangeRateStore.isCompleteThrough("Brazil-Real", LocalDate.of(2024, 9, 30)));
+        assertFalse(exchangeRateStore.isCompleteThrough("Brazil-Real", LocalDate.of(2024, 10, 1)));
+        assertFalse(exchangeRateStore.isCompleteThrough("Canada-Dollar", LocalDate.of(2024, 8, 20)));
+    }
+
+    @Test
+    void givenNonAuthoritativeImport_whenRun_thenOnlyUseRatesAsFallback() throws IOException {
+        var file = Files.writeString(directory.resolve("rates.csv"), """
+                Record Date,Country - Currency Description,Exchange Rate
+                2024-06-30,Brazil-Real,5.5
+                """);
+
+        new ExchangeRateCsvImportRunner(new ExchangeRateImportProperties(file, false), exchangeRateStore).run(null);
+
+        assertTrue(exchangeRateStore.contains("Brazil-Real"));
+        assertFalse(exchangeRateStore.isCompleteThrough("Brazil-Real", LocalDate.of(2024, 6, 30)));
+    }
+
+    @Test
+    void givenMissingFile_whenRun_thenFailStartup() {
+        var properties = new ExchangeRateImportProperties(directory.resolve("missing.csv"), true);
+
+        assertThrows(UncheckedIOException.class, () -> new ExchangeRateCsvImportRunner(properties, exchangeRateStore).run(null));
+    }
+}
@@ -0,0 +1,75 @@
+package com.lsgsma.transaction.infra;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExchangeRateExpiryTest {
+
+    private final ExchangeRateExpiry exchangeRateExpiry = new ExchangeRateExpiry(
+            Clock.fixed(LocalDate.of(2024, 8, 20).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC),
+            Duration.ofDays(15),
+            Duration.ofMinutes(60));
+
+    @Test
+    void givenDateBeforeCurrentQuarter_whenCheckIsHistoric_thenReturnTrue() {
+        assertTrue(exchangeRateExpiry.isHistoric("Brazil-Real::2024-06-30"));
+        assertTrue(exchangeRateExpiry.isHistoric("Brazil-Real::2022-01-15"));
+    }
+
+    @Test
+    void givenDateInCurrentQuarter_whenCheckIsHistoric_thenReturnFalse() {
+        assertFalse(exchangeRateExpiry.isHistoric("Brazil-Real::2024-07-01"));
+        assertFalse(exchangeRateExpiry.isHistoric("Brazil-Real::2024-08-20"));
+    }
+
+    @Test
+    void givenDateInPreviousQuarterWithinPublicationLag_whenCheckIsHistoric_thenReturnFalse() {
+        var expiry = new ExchangeRateExpiry(
+                Clock.fixed(LocalDate.of(2024, 7, 10).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC),
+                Duration.ofDays(15),
+                Duration.ofMinutes(60));
+
+        assertFalse(expiry.isHistoric("Brazil-Real::2024-06-30"));
+        assertTrue(expiry.isHistoric("Brazil-Real::2024-03-31"));
+    }
+
+    @Test
+    void givenPublicationLag_whenGetHistoricBefore_thenReturnFirstDayOfLaggedQuarter() {
+        assertEquals(LocalDate.of(2024, 7, 1), exchangeRateExpiry.historicBefore());
+        assertEquals(LocalDate.of(2024, 4, 1), new ExchangeRateExpiry(
+                Clock.fixed(LocalDate.of(2024, 7, 10).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC),
+                Duration.ofDays(15),
+                Duration.ofMinutes(60)).historicBefore());
+    }
+
+    @Test
+    void givenHistoricEntry_whenComputeExpiry_thenNeverExpire() {
+        assertEquals(Long.MAX_VALUE, exchangeRateExpiry.expireAfterCreate("Brazil-Real::2023-05-10", BigDecimal.ONE, 0));
+        assertEquals(Long.MAX_VALUE, exchangeRateExpiry.expireAfterUpdate("Brazil-Real::2023-05-10", BigDecimal.ONE, 0, 10));
+        assertEquals(Long.MAX_VALUE, exchangeRateExpiry.expireAfterRead("Brazil-Real::2023-05-10", BigDecimal.ONE, 0, 10));
+    }
+
+    @Test
+    void givenRecentEntry_whenComputeExpiry_thenExpireAfterAccessDuration() {
+        var expected = Duration.ofMinutes(60).toNanos();
+
+        assertEquals(expected, exchangeRateExpiry.expireAfterCreate("Brazil-Real::2024-08-01", BigDecimal.ONE, 0));
+        assertEquals(expected, exchangeRateExpiry.expireAfterUpdate("Brazil-Real::2024-08-01", BigDecimal.ONE, 0, 10));
+        assertEquals(expected, exchangeRateExpiry.expireAfterRead("Brazil-Real::2024-08-01", BigDecimal.ONE, 0, 10));
+    }
+
+    @Test
+    void givenKeyWithoutDate_whenParseTransactionDate_thenReturnNull() {
+        assertNull(ExchangeRateExpiry.transactionDateOf("not-a-rate-key"));
+        assertFalse(exchangeRateExpiry.isHistoric("not-a-rate-key"));
+    }
+}
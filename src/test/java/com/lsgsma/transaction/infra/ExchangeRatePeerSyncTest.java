@@ -0,0 +1,76 @@
+package com.lsgsma.transaction.infra;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockExtension;
+import com.github.tomakehurst.wiremock.matching.UrlPattern;
+import com.lsgsma.transaction.config.ExchangeRatePeerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExchangeRatePeerSyncTest {
+
+    @RegisterExtension
+    static WireMockExtension peer = WireMockExtension.newInstance()
+            .options(wireMockConfig().dynamicPort())
+            .build();
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final ExchangeRateStore peerStore = new ExchangeRateStore();
+    private final ExchangeRateStore exchangeRateStore = new ExchangeRateStore();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void givenPeerWithRates_whenSyncTwice_thenPullFullSnapshotThenOnlyChanges() {
+        var peerSync = peerSync(URI.create(peer.baseUrl()));
+        peerStore.record("Brazil-Real", LocalDate.of(2024, 6, 30), new BigDecimal("5.5"));
+        peerStore.markComplete("Brazil-Real", LocalDate.of(2023, 12, 1), LocalDate.of(2024, 6, 30));
+        var full = peerStore.snapshot(null, 0);
+        stubSnapshot(WireMock.urlEqualTo(ExchangeRatePeerSync.SNAPSHOT_PATH), full);
+
+        assertEquals(1, peerSync.syncAll());
+
+        peerStore.record("Brazil-Real", LocalDate.of(2024, 9, 30), new BigDecimal("5.6"));
+        stubSnapshot(WireMock.urlEqualTo(ExchangeRatePeerSync.SNAPSHOT_PATH + "?epoch=" + full.epoch() + "&since=" + full.version()),
+                peerStore.snapshot(full.epoch(), full.version()));
+
+        assertEquals(1, peerSync.syncAll());
+        assertEquals(new BigDecimal("5.6"), exchangeRateStore.findApplicable("Brazil-Real", LocalDate.of(2024, 10, 1)).orElseThrow().exchangeRate());
+        assertTrue(exchangeRateStore.isCompleteThrough("Brazil-Real", LocalDate.of(2024, 6, 30)));
+        assertEquals(2, meterRegistry.get("exchange.rate.peer.sync").tag("result", "success").counter().count());
+    }
+
+    @Test
+    void givenUnreachablePeer_whenSync_thenContinueWithOtherPeers() {
+        var peerSync = peerSync(URI.create("http://localhost:1"), URI.create(peer.baseUrl()));
+        peerStore.record("Japan-Yen", LocalDate.of(2024, 6, 30), new BigDecimal("160.5"));
+        stubSnapshot(WireMock.urlEqualTo(ExchangeRatePeerSync.SNAPSHOT_PATH), peerStore.snapshot(null, 0));
+
+        assertEquals(1, peerSync.syncAll());
+        assertTrue(exchangeRateStore.contains("Japan-Yen"));
+        assertEquals(1, meterRegistry.get("exchange.rate.peer.sync").tag("result", "failure").counter().count());
+    }
+
+    private ExchangeRatePeerSync peerSync(final URI... urls) {
+        return new ExchangeRatePeerSync(new ExchangeRatePeerProperties(List.of(urls), Duration.ofMinutes(1), Duration.ofSeconds(2)),
+                exchangeRateStore, meterRegistry);
+    }
+
+    private void stubSnapshot(final UrlPattern url, final ExchangeRateSnapshot snapshot) {
+        peer.stubFor(WireMock.get(url)
+                .willReturn(WireMock.aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody(jsonMapper.writeValueAsString(snapshot))));
+    }
+}
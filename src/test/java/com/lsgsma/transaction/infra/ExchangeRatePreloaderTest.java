@@ -0,0 +1,118 @@
+package com.lsgsma.transaction.infra;
+
+import com.lsgsma.transaction.client.TreasuryApiClient;
+import com.lsgsma.transaction.config.ExchangeRatePreloadProperties;
+import com.lsgsma.transaction.dto.client.response.TreasuryExchangeRateDataResponse;
+import com.lsgsma.transaction.dto.client.response.TreasuryExchangeRateResponse;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExchangeRatePreloaderTest {
+
+    @Mock
+    private TreasuryApiClient treasuryApiClient;
+
+    @Mock
+    private CacheWarmingService cacheWarmingService;
+
+    @Mock
+    private ExchangeRateStore exchangeRateStore;
+
+    private final ExchangeRateExpiry exchangeRateExpiry = new ExchangeRateExpiry(Clock.systemUTC(), Duration.ofDays(15), Duration.ofMinutes(60));
+
+    @Test
+    void givenPreloadDisabled_whenRun_thenDoNotCallTreasuryApi() {
+        var preloader = new ExchangeRatePreloader(properties(false, List.of("Brazil-Real")), treasuryApiClient, cacheWarmingService, exchangeRateStore, exchangeRateExpiry);
+
+        preloader.run(null);
+
+        assertEquals(ExchangeRatePreloader.State.DISABLED, preloader.getResult().state());
+        verifyNoInteractions(treasuryApiClient, cacheWarmingService, exchangeRateStore, exchangeRateExpiry);
+    }
+
+    @Test
+    void givenAllCurrenciesAvailable_whenRun_thenPreloadCacheAndComplete() {
+        var preloader = new ExchangeRatePreloader(properties(true, List.of("Brazil-Real", "Japan-Yen")), treasuryApiClient, cacheWarmingService, exchangeRateStore, exchangeRateExpiry);
+        var records = List.of(new TreasuryExchangeRateDataResponse(BigDecimal.valueOf(5.5), LocalDate.now().minusMonths(1)));
+
+        when(treasuryApiClient.getExchangeRatesByCurrencyInRecordDateRangeSortedByRecordDateDesc(any(), any(), any()))
+                .thenReturn(Optional.of(new TreasuryExchangeRateResponse(records)));
+        when(exchangeRateStore.findAll(any(), any(), any())).thenReturn(records);
+
+        preloader.run(null);
+
+        var result = preloader.getResult();
+        assertEquals(ExchangeRatePreloader.State.COMPLETED, result.state());
+        assertEquals(List.of("Brazil-Real", "Japan-Yen"), result.loadedCurrencies());
+        verify(exchangeRateStore).recordAll("Brazil-Real", records);
+        verify(exchangeRateStore).markComplete(eq("Brazil-Real"), any(), eq(exchangeRateExpiry.historicBefore().minusDays(1)));
+        verify(cacheWarmingService).preloadExchangeRateCache(eq("Brazil-Real"), any(), any(), eq(records));
+        verify(cacheWarmingService).preloadExchangeRateCache(eq("Japan-Yen"), any(), any(), eq(records));
+    }
+
+    @Test
+    void givenPeersSentPartOfRange_whenRun_thenOnlyFetchTheRest() {
+        var preloader = new ExchangeRatePreloader(properties(true, List.of("Brazil-Real")), treasuryApiClient, cacheWarmingService, exchangeRateStore, exchangeRateExpiry);
+        var through = LocalDate.now().minusDays(20);
+        var records = List.of(new TreasuryExchangeRateDataResponse(BigDecimal.valueOf(5.5), LocalDate.now().minusMonths(1)));
+
+        when(exchangeRateStore.completeThrough(eq("Brazil-Real"), any())).thenReturn(Optional.of(through));
+        when(treasuryApiClient.getExchangeRatesByCurrencyInRecordDateRangeSortedByRecordDateDesc("Brazil-Real", through.plusDays(1), LocalDate.now()))
+                .thenReturn(Optional.of(new TreasuryExchangeRateResponse(List.of())));
+        when(exchangeRateStore.findAll(any(), any(), any())).thenReturn(records);
+
+        preloader.run(null);
+
+        assertEquals(ExchangeRatePreloader.State.COMPLETED, preloader.getResult().state());
+        verify(cacheWarmingService).preloadExchangeRateCache(eq("Brazil-Real"), any(), any(), eq(records));
+    }
+
+    @Test
+    void givenPeersSentWholeRange_whenRun_thenDoNotCallTreasuryApi() {
+        var preloader = new ExchangeRatePreloader(properties(true, List.of("Brazil-Real")), treasuryApiClient, cacheWarmingService, exchangeRateStore, exchangeRateExpiry);
+
+        when(exchangeRateStore.completeThrough(eq("Brazil-Real"), any())).thenReturn(Optional.of(LocalDate.now()));
+
+        preloader.run(null);
+
+        assertEquals(List.of("Brazil-Real"), preloader.getResult().loadedCurrencies());
+        verifyNoInteractions(treasuryApiClient);
+        verify(cacheWarmingService).preloadExchangeRateCache(eq("Brazil-Real"), any(), any(), eq(List.of()));
+    }
+
+    @Test
+    void givenTreasuryApiUnreachable_whenRun_thenReportDegraded() {
+        var preloader = new ExchangeRatePreloader(properties(true, List.of("Brazil-Real")), treasuryApiClient, cacheWarmingService, exchangeRateStore, exchangeRateExpiry);
+
+        when(treasuryApiClient.getExchangeRatesByCurrencyInRecordDateRangeSortedByRecordDateDesc(any(), any(), any()))
+                .thenReturn(Optional.empty());
+
+        preloader.run(null);
+
+        var result = preloader.getResult();
+        assertEquals(ExchangeRatePreloader.State.DEGRADED, result.state());
+        assertEquals(List.of("Brazil-Real"), result.failedCurrencies());
+        verify(cacheWarmingService, never()).preloadExchangeRateCache(any(), any(), any(), any());
+    }
+
+    private ExchangeRatePreloadProperties properties(final boolean enabled, final List<String> currencies) {
+        return new ExchangeRatePreloadProperties(enabled, currencies, Duration.ofDays(30), 2, Duration.ofSeconds(5));
+    }
+}
@@ -0,0 +1,98 @@
+package com.lsgsma.transaction.infra;
+
+import com.lsgsma.transaction.dto.client.response.TreasuryExchangeRateDataResponse;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExchangeRateStoreTest {
+
+    private final ExchangeRateStore exchangeRateStore = new ExchangeRateStore();
+
+    @Test
+    void givenChangesAfterSnapshot_whenSnapshotSinceItsVersion_thenReturnOnlyTheChanges() {
+        exchangeRateStore.record("Brazil-Real", LocalDate.of(2024, 3, 31), new BigDecimal("5.0"));
+        var first = exchangeRateStore.snapshot(null, 0);
+
+        exchangeRateStore.record("Brazil-Real", LocalDate.of(2024, 6, 30), new BigDecimal("5.5"));
+        exchangeRateStore.record("Brazil-Real", LocalDate.of(2024, 3, 31), new BigDecimal("5.00"));
+        var delta = exchangeRateStore.snapshot(first.epoch(), first.version());
+
+        assertTrue(first.full());
+        assertFalse(delta.full());
+        assertEquals(first.version() + 1, delta.version());
+        assertEquals(List.of(new ExchangeRateSnapshot.CurrencyRates("Brazil-Real", null, null,
+                Map.of(LocalDate.of(2024, 6, 30), new BigDecimal("5.5")))), delta.currencies());
+    }
+
+    @Test
+    void givenUnknownEpoch_whenSnapshot_thenReturnEverything() {
+        exchangeRateStore.record("Brazil-Real", LocalDate.of(2024, 3, 31), new BigDecimal("5.0"));
+        var version = exchangeRateStore.snapshot(null, 0).version();
+
+        var snapshot = exchangeRateStore.snapshot("restarted-peer", version);
+
+        assertTrue(snapshot.full());
+        assertEquals(1, snapshot.currencies().getFirst().rates().size());
+    }
+
+    @Test
+    void givenPeerSnapshot_whenApply_thenStoreRatesAndCompleteRange() {
+        var peer = new ExchangeRateStore();
+        peer.recordAll("Brazil-Real", List.of(
+                new TreasuryExchangeRateDataResponse(new BigDecimal("5.0"), LocalDate.of(2024, 3, 31)),
+                new TreasuryExchangeRateDataResponse(new BigDecimal("5.5"), LocalDate.of(2024, 6, 30))));
+        peer.markComplete("Brazil-Real", LocalDate.of(2023, 6, 1), LocalDate.of(2024, 6, 30));
+
+        var changed = exchangeRateStore.apply(peer.snapshot(null, 0));
+        var appliedAgain = exchangeRateStore.apply(peer.snapshot(null, 0));
+
+        assertEquals(2, changed);
+        assertEquals(0, appliedAgain);
+        assertEquals(new BigDecimal("5.5"), exchangeRateStore.findApplicable("Brazil-Real", LocalDate.of(2024, 6, 30)).orElseThrow().exchangeRate());
+        assertTrue(exchangeRateStore.isCompleteThrough("Brazil-Real", LocalDate.of(2024, 5, 31)));
+        assertFalse(exchangeRateStore.isCompleteThrough("Brazil-Real", LocalDate.of(2024, 7, 1)));
+    }
+
+    @Test
+    void givenAdjacentAndDisjointRanges_whenMarkComplete_thenMergeOrKeepMostRecent() {
+        exchangeRateStore.markComplete("Brazil-Real", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 31));
+        exchangeRateStore.markComplete("Brazil-Real", LocalDate.of(2024, 4, 1), LocalDate.of(2024, 6, 30));
+
+        assertEquals(Optional.of(LocalDate.of(2024, 6, 30)), exchangeRateStore.completeThrough("Brazil-Real", LocalDate.of(2024, 2, 1)));
+
+        exchangeRateStore.markComplete("Brazil-Real", LocalDate.of(2024, 9, 1), LocalDate.of(2024, 9, 30));
+
+        assertEquals(Optional.empty(), exchangeRateStore.completeThrough("Brazil-Real", LocalDate.of(2024, 2, 1)));
+        assertEquals(Optional.of(LocalDate.of(2024, 9, 30)), exchangeRateStore.completeThrough("Brazil-Real", LocalDate.of(2024, 9, 1)));
+    }
+
+    @Test
+    void givenImportedRates_whenSnapshot_thenIncludeThem() {
+        exchangeRateStore.rateStore().put("Japan-Yen", LocalDate.of(2024, 6, 30), new BigDecimal("160.5"));
+        exchangeRateStore.imported(Set.of("Japan-Yen"), LocalDate.of(2024, 6, 30), true);
+
+        var snapshot = exchangeRateStore.snapshot(null, 0);
+
+        assertEquals(List.of(new ExchangeRateSnapshot.CurrencyRates("Japan-Yen", LocalDate.MIN, LocalDate.of(2024, 6, 30),
+                Map.of(LocalDate.of(2024, 6, 30), new BigDecimal("160.5")))), snapshot.currencies());
+    }
+
+    @Test
+    void givenClearedStore_whenSnapshot_thenStartNewEpoch() {
+        var epoch = exchangeRateStore.epoch();
+
+        exchangeRateStore.clear();
+
+        assertNotEquals(epoch, exchangeRateStore.epoch());
+    }
+}
@@ -0,0 +1,36 @@
+package com.lsgsma.transaction.jfr;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BoundedCounterTest {
+
+    @Test
+    void givenCounts_whenTop_thenReturnLargestTotalsFirst() {
+        var boundedCounter = new BoundedCounter(10);
+
+        boundedCounter.add("a", 5);
+        boundedCounter.add("b", 20);
+        boundedCounter.add("a", 10);
+        boundedCounter.add("c", 1);
+
+        assertEquals(List.of(new BoundedCounter.Count("b", 20), new BoundedCounter.Count("a", 15)), boundedCounter.top(2));
+        assertEquals(36, boundedCounter.total());
+    }
+
+    @Test
+    void givenMoreKeysThanMax_whenAdd_thenFoldNewKeysIntoOther() {
+        var boundedCounter = new BoundedCounter(2);
+
+        boundedCounter.add("a", 1);
+        boundedCounter.add("b", 1);
+        boundedCounter.add("c", 3);
+        boundedCounter.add("d", 4);
+        boundedCounter.add("a", 1);
+
+        assertEquals(List.of(new BoundedCounter.Count(BoundedCounter.OTHER, 7), new BoundedCounter.Count("a", 2),
+                new BoundedCounter.Count("b", 1)), boundedCounter.top(10));
+    }
+}
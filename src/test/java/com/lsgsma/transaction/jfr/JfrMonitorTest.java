@@ -0,0 +1,74 @@
+package com.lsgsma.transaction.jfr;
+
+import com.lsgsma.transaction.config.JfrProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JfrMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private JfrMonitor jfrMonitor;
+
+    private JfrMonitor monitor(final boolean enabled) {
+        jfrMonitor = new JfrMonitor(new JfrProperties(enabled, Duration.ofMillis(20), "150/s", 50, Duration.ofMinutes(1), DataSize.ofMegabytes(16)),
+                meterRegistry);
+        return jfrMonitor;
+    }
+
+    @AfterEach
+    void tearDown() {
+        jfrMonitor.stop();
+    }
+
+    @Test
+    void givenConversionStageEvents_whenStreamed_thenRecordStageTimers() throws InterruptedException {
+        var monitor = monitor(true);
+        monitor.start();
+
+        var value = ConversionStageEvent.record(ConversionStageEvent.CONVERT, "Brazil-Real", () -> "converted");
+
+        var deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (!monitor.stageTimers().containsKey(ConversionStageEvent.CONVERT) && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+        }
+        assertEquals("converted", value);
+        assertEquals(1, meterRegistry.get("transaction.conversion.stage").tag("stage", ConversionStageEvent.CONVERT).timer().count());
+    }
+
+    @Test
+    void givenRunningStream_whenDump_thenWriteReadableRecording() throws IOException {
+        var monitor = monitor(true);
+        monitor.start();
+        ConversionStageEvent.record(ConversionStageEvent.LOAD, "Brazil-Real", () -> null);
+
+        var file = monitor.dump();
+        try {
+            assertTrue(Files.size(file) > 0);
+            assertFalse(RecordingFile.readAllEvents(file).isEmpty());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void givenMonitoringDisabled_whenStart_thenDoNotRunAndRefuseDump() {
+        var monitor = monitor(false);
+        monitor.start();
+
+        assertFalse(monitor.isRunning());
+        assertThrows(IllegalStateException.class, monitor::dump);
+        assertEquals(0, monitor.pinnedEvents());
+    }
+}
@@ -0,0 +1,24 @@
+package com.lsgsma.transaction.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TransactionIdGeneratorTest {
+
+    @Test
+    void givenV7Setting_whenGenerateIds_thenReturnTimeOrderedUuids() {
+        assertEquals(7, TransactionIdGenerator.idsFor("v7").get().version());
+    }
+
+    @Test
+    void givenRandomSetting_whenGenerateIds_thenReturnRandomUuids() {
+        assertEquals(4, TransactionIdGenerator.idsFor(" RANDOM ").get().version());
+    }
+
+    @Test
+    void givenUnknownSetting_whenGenerateIds_thenThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> TransactionIdGenerator.idsFor("v1"));
+    }
+}
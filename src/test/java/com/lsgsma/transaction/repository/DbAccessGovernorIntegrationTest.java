@@ -0,0 +1,84 @@
+package com.lsgsma.transaction.repository;
+
+import com.lsgsma.transaction.exception.DatabaseBusyException;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "db-governor.max-concurrency=1",
+        "db-governor.default-deadline=50ms",
+        "db-governor.retry-after=3s",
+        "db-governor.deadlines[TransactionRepository.count]=5s"})
+@AutoConfigureMockMvc
+@DirtiesContext
+class DbAccessGovernorIntegrationTest {
+
+    @Autowired
+    private DbAccessGovernor governor;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void givenAllPermitsHeld_whenRepositoryIsCalled_thenRejectWithDatabaseBusy() throws InterruptedException {
+        var release = holdPermit();
+        try {
+            assertThrowsExactly(DatabaseBusyException.class, () -> transactionRepository.findById(UUID.randomUUID()));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void givenAllPermitsHeld_whenGetTransaction_thenReturns503WithRetryAfter() throws Exception {
+        var id = UUID.randomUUID();
+        var release = holdPermit();
+        try {
+            mockMvc.perform(get("/transaction/{id}", id)
+                            .param("currency", "Brazil-Real"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "3"))
+                    .andExpect(jsonPath("$.status").value(503))
+                    .andExpect(jsonPath("$.messages.serviceUnavailable").value("Database is busy"))
+                    .andExpect(jsonPath("$.path").value("/transaction/" + id));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    // Keeps the only permit on another thread until the returned latch is counted down
+    private CountDownLatch holdPermit() throws InterruptedException {
+        var acquired = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        Thread.ofVirtual().start(() -> governor.execute("TransactionRepository.count", () -> {
+            acquired.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException _) {
+                return false;
+            }
+        }));
+        assertTrue(acquired.await(5, TimeUnit.SECONDS));
+        assertEquals(1, governor.active());
+        return release;
+    }
+}
@@ -0,0 +1,137 @@
+package com.lsgsma.transaction.repository;
+
+import com.lsgsma.transaction.config.DbAccessGovernorProperties;
+import com.lsgsma.transaction.exception.DatabaseBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DbAccessGovernorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private DbAccessGovernor governor(final boolean enabled, final Duration defaultDeadline, final Map<String, Duration> deadlines) {
+        return new DbAccessGovernor(
+                new DbAccessGovernorProperties(enabled, null, defaultDeadline, deadlines, Duration.ofSeconds(3)),
+                1,
+                meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void givenFreePermit_whenExecute_thenRecordAcquireTimeAndReleasePermit() {
+        var governor = governor(true, Duration.ofSeconds(1), Map.of());
+
+        assertEquals("row", governor.execute("TransactionRepository.findById", () -> {
+            assertEquals(1, governor.active());
+            return "row";
+        }));
+
+        assertEquals(0, governor.active());
+        assertEquals(1, meterRegistry.get("db.governor.acquire").tag("operation", "TransactionRepository.findById").timer().count());
+    }
+
+    @Test
+    void givenAllPermitsHeld_whenDeadlineElapses_thenRejectWithRetryAfter() throws InterruptedException {
+        var governor = governor(true, Duration.ofMillis(50), Map.of());
+        var release = holdPermit(governor);
+
+        var ex = assertThrowsExactly(DatabaseBusyException.class,
+                () -> governor.execute("TransactionRepository.findById", () -> "row"));
+
+        assertEquals(Duration.ofSeconds(3), ex.getRetryAfter());
+        assertEquals(1, meterRegistry.get("db.governor.timeouts").tag("operation", "TransactionRepository.findById").counter().count());
+        assertEquals(0, governor.queued());
+        release.countDown();
+    }
+
+    @Test
+    void givenOperationDeadline_whenPermitReleasedInTime_thenOnlyThatOperationProceeds() throws InterruptedException {
+        var governor = governor(true, Duration.ofMillis(10), Map.of("TransactionRepository.findPageAfter", Duration.ofSeconds(5)));
+        var release = holdPermit(governor);
+        var completed = new CountDownLatch(1);
+
+        Thread.ofVirtual().start(() -> {
+            governor.execute("TransactionRepository.findPageAfter", () -> "page");
+            completed.countDown();
+        });
+        waitForQueued(governor, 1);
+        assertThrowsExactly(DatabaseBusyException.class, () -> governor.execute("TransactionRepository.findById", () -> "row"));
+        release.countDown();
+
+        assertTrue(completed.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void givenQueuedCalls_whenPermitsReleased_thenServeInArrivalOrder() throws InterruptedException {
+        var governor = governor(true, Duration.ofSeconds(5), Map.of());
+        var release = holdPermit(governor);
+        var order = new CopyOnWriteArrayList<Integer>();
+        var threads = new Thread[3];
+
+        for (var i = 0; i < threads.length; i++) {
+            var caller = i;
+            threads[i] = Thread.ofVirtual().start(() -> governor.execute("TransactionRepository.save", () -> order.add(caller)));
+            waitForQueued(governor, i + 1);
+        }
+        release.countDown();
+        for (var thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(List.of(0, 1, 2), order);
+    }
+
+    @Test
+    void givenActiveTransactionOrDisabledGovernor_whenExecute_thenDoNotWaitForPermit() throws InterruptedException {
+        var governor = governor(true, Duration.ofMillis(10), Map.of());
+        var release = holdPermit(governor);
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        assertEquals("row", governor.execute("TransactionRepository.streamDescriptions", () -> "row"));
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        assertEquals("row", governor(false, Duration.ofMillis(10), Map.of()).execute("TransactionRepository.findById", () -> "row"));
+
+        assertTrue(meterRegistry.find("db.governor.timeouts").counters().isEmpty());
+        release.countDown();
+    }
+
+    // Keeps the only permit on another thread until the returned latch is counted down
+    private static CountDownLatch holdPermit(final DbAccessGovernor governor) throws InterruptedException {
+        var acquired = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        Thread.ofVirtual().start(() -> governor.execute("TransactionRepository.save", () -> {
+            acquired.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException _) {
+                return false;
+            }
+        }));
+        assertTrue(acquired.await(5, TimeUnit.SECONDS));
+        return release;
+    }
+
+    private static void waitForQueued(final DbAccessGovernor governor, final int expected) throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (governor.queued() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(expected, governor.queued());
+    }
+}
@@ -0,0 +1,75 @@
+package com.lsgsma.transaction.search;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrigramIndexTest {
+
+    private final TrigramIndex trigramIndex = new TrigramIndex();
+
+    private final UUID keyboard = UUID.randomUUID();
+    private final UUID mouse = UUID.randomUUID();
+    private final UUID monitor = UUID.randomUUID();
+
+    @BeforeEach
+    void setup() {
+        trigramIndex.add(keyboard, "New keyboard for home office");
+        trigramIndex.add(mouse, "Wireless mouse");
+        trigramIndex.add(monitor, "Office monitor");
+    }
+
+    @Test
+    void givenFragment_whenSearch_thenReturnCaseInsensitiveMatchesNewestFirst() {
+        var matches = trigramIndex.search("OFFICE", 10);
+
+        assertEquals(List.of(new TrigramIndex.Match(monitor, "Office monitor"), new TrigramIndex.Match(keyboard, "New keyboard for home office")), matches);
+    }
+
+    @Test
+    void givenAllTrigramsPresentButNotContiguous_whenSearch_thenDoNotMatch() {
+        trigramIndex.add(UUID.randomUUID(), "abc xbcd");
+
+        assertTrue(trigramIndex.search("abcd", 10).isEmpty());
+    }
+
+    @Test
+    void givenUnknownTrigram_whenSearch_thenReturnEmpty() {
+        assertTrue(trigramIndex.search("zebra", 10).isEmpty());
+    }
+
+    @Test
+    void givenLimit_whenSearch_thenReturnAtMostLimit() {
+        assertEquals(List.of(new TrigramIndex.Match(monitor, "Office monitor")), trigramIndex.search("office", 1));
+    }
+
+    @Test
+    void givenShortQuery_whenSearch_thenThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> trigramIndex.search("of", 10));
+    }
+
+    @Test
+    void givenManyDocuments_whenAdd_thenGrowAndKeepThemSearchable() {
+        for (var i = 0; i < 5_000; i++) {
+            trigramIndex.add(UUID.randomUUID(), "Purchase number " + i + " with açaí");
+        }
+
+        assertEquals(5_003, trigramIndex.size());
+        assertEquals("Purchase number 4321 with açaí", trigramIndex.search("r 4321 w", 10).getFirst().text());
+        assertEquals(10, trigramIndex.search("AÇAÍ", 10).size());
+        assertTrue(trigramIndex.footprint().estimatedBytes() > 0);
+    }
+
+    @Test
+    void givenIndexedDocuments_whenClear_thenReturnNoMatches() {
+        trigramIndex.clear();
+
+        assertEquals(0, trigramIndex.size());
+        assertTrue(trigramIndex.search("office", 10).isEmpty());
+    }
+}
@@ -0,0 +1,151 @@
+package com.lsgsma.transaction.service;
+
+import com.lsgsma.transaction.client.TreasuryApiClient;
+import com.lsgsma.transaction.dto.client.response.TreasuryExchangeRateDataResponse;
+import com.lsgsma.transaction.dto.client.response.TreasuryExchangeRateResponse;
+import com.lsgsma.transaction.exception.TreasuryApiUnavailableException;
+import com.lsgsma.transaction.infra.ExchangeRateStore;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BulkConversionServiceTest {
+
+    private static final String CURRENCY = "Brazil-Real";
+
+    @Mock
+    private TreasuryApiClient treasuryApiClient;
+
+    private final ExchangeRateStore exchangeRateStore = new ExchangeRateStore();
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private BulkConversionService bulkConversionService;
+
+    @BeforeEach
+    void setup() {
+        bulkConversionService = new BulkConversionService(treasuryApiClient, exchangeRateStore, jsonMapper);
+    }
+
+    @Test
+    void givenItemsInSameRatePeriods_whenConvert_thenLookUpEachPeriodOnceAndCallTreasuryOnce() {
+        when(treasuryApiClient.getExchangeRatesByCurrencyInRecordDateRangeSortedByRecordDateDesc(eq(CURRENCY), any(), any()))
+                .thenReturn(Optional.of(new TreasuryExchangeRateResponse(List.of(
+                        new TreasuryExchangeRateDataResponse(new BigDecimal("5.5"), LocalDate.of(2024, 6, 30)),
+                        new TreasuryExchangeRateDataResponse(new BigDecimal("5.0"), LocalDate.of(2024, 3, 31))))));
+
+        var output = new ByteArrayOutputStream();
+        var summary = bulkConversionService.convert(CURRENCY, input("""
+                [{"amount": 100, "date": "2024-04-10"},
+                 {"amount": 10.005, "date": "2024-05-01"},
+                 {"amount": 1, "date": "2024-07-15"},
+                 {"amount": 2, "date": "2024-08-20"}]
+                """), output, false);
+
+        assertEquals(new BulkConversionService.Summary(4, 0, 2, 1), summary);
+        assertJson("""
+                [{"date":"2024-04-10","amount":100,"exchangeRate":5.0,"convertedAmount":500.00},\
+                {"date":"2024-05-01","amount":10.005,"exchangeRate":5.0,"convertedAmount":50.03},\
+                {"date":"2024-07-15","amount":1,"exchangeRate":5.5,"convertedAmount":5.50},\
+                {"date":"2024-08-20","amount":2,"exchangeRate":5.5,"convertedAmount":11.00}]""", output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void givenInvalidItemsAndMissingRate_whenConvert_thenReportErrorsPerItem() {
+        when(treasuryApiClient.getExchangeRatesByCurrencyInRecordDateRangeSortedByRecordDateDesc(eq(CURRENCY), any(), any()))
+                .thenReturn(Optional.of(new TreasuryExchangeRateResponse(List.of())));
+
+        var output = new ByteArrayOutputStream();
+        var summary = bulkConversionService.convert(CURRENCY, input("""
+                {"amount": -1, "date": "2024-04-10"}
+                {"amount": 5}
+                {"amount": 5, "date": "2024-04-10"}
+                """), output, true);
+
+        assertEquals(3, summary.failed());
+        var lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertJson("{\"date\":\"2024-04-10\",\"amount\":-1,\"error\":\"amount must be greater than 0\"}", lines[0]);
+        assertJson("{\"amount\":5,\"error\":\"date is required\"}", lines[1]);
+        assertJson("{\"date\":\"2024-04-10\",\"amount\":5,\"error\":\"No exchange rate within 6 months before 2024-04-10\"}", lines[2]);
+    }
+
+    @Test
+    void givenCompleteImport_whenConvert_thenDoNotCallTreasury() {
+        exchangeRateStore.record(CURRENCY, LocalDate.of(2024, 6, 30), new BigDecimal("5.5"));
+        exchangeRateStore.imported(Set.of(CURRENCY), LocalDate.of(2024, 9, 30), true);
+
+        var summary = bulkConversionService.convert(CURRENCY, input("[{\"amount\": 1, \"date\": \"2024-08-20\"}]"),
+                new ByteArrayOutputStream(), false);
+
+        assertEquals(0, summary.failed());
+        verifyNoInteractions(treasuryApiClient);
+    }
+
+    @Test
+    void givenTreasuryUnavailable_whenConvert_thenUseKnownRatesFlaggedStaleWithoutRetrying() {
+        exchangeRateStore.record(CURRENCY, LocalDate.of(2024, 6, 30), new BigDecimal("5.5"));
+        when(treasuryApiClient.getExchangeRatesByCurrencyInRecordDateRangeSortedByRecordDateDesc(eq(CURRENCY), any(), any()))
+                .thenThrow(new TreasuryApiUnavailableException("Treasury API is unavailable", Duration.ofSeconds(30)));
+
+        var output = new ByteArrayOutputStream();
+        bulkConversionService.convert(CURRENCY, input("""
+                [{"amount": 1, "date": "2024-08-20"}, {"amount": 1, "date": "2024-08-21"}]
+                """), output, false);
+
+        assertJson("""
+                [{"date":"2024-08-20","amount":1,"exchangeRate":5.5,"convertedAmount":5.50,"staleExchangeRate":true},\
+                {"date":"2024-08-21","amount":1,"exchangeRate":5.5,"convertedAmount":5.50,"staleExchangeRate":true}]""",
+                output.toString(StandardCharsets.UTF_8));
+        verify(treasuryApiClient, times(1)).getExchangeRatesByCurrencyInRecordDateRangeSortedByRecordDateDesc(eq(CURRENCY), any(), any());
+    }
+
+    @Test
+    void givenTreasuryBackAfterFailure_whenConvert_thenFlagOnlyItemsOfTheFailedRangeStale() {
+        exchangeRateStore.record(CURRENCY, LocalDate.of(2024, 6, 30), new BigDecimal("5.5"));
+        when(treasuryApiClient.getExchangeRatesByCurrencyInRecordDateRangeSortedByRecordDateDesc(eq(CURRENCY), any(), any()))
+                .thenThrow(new TreasuryApiUnavailableException("Treasury API is unavailable", Duration.ofSeconds(30)))
+                .thenReturn(Optional.of(new TreasuryExchangeRateResponse(List.of(
+                        new TreasuryExchangeRateDataResponse(new BigDecimal("4.0"), LocalDate.of(2019, 12, 31))))));
+
+        var output = new ByteArrayOutputStream();
+        bulkConversionService.convert(CURRENCY, input("""
+                [{"amount": 1, "date": "2024-08-20"}, {"amount": 1, "date": "2020-03-10"}, {"amount": 1, "date": "2024-08-21"}]
+                """), output, false);
+
+        assertJson("""
+                [{"date":"2024-08-20","amount":1,"exchangeRate":5.5,"convertedAmount":5.50,"staleExchangeRate":true},\
+                {"date":"2020-03-10","amount":1,"exchangeRate":4.0,"convertedAmount":4.00},\
+                {"date":"2024-08-21","amount":1,"exchangeRate":5.5,"convertedAmount":5.50,"staleExchangeRate":true}]""",
+                output.toString(StandardCharsets.UTF_8));
+        verify(treasuryApiClient, times(2)).getExchangeRatesByCurrencyInRecordDateRangeSortedByRecordDateDesc(eq(CURRENCY), any(), any());
+    }
+
+    private void assertJson(final String expected, final String actual) {
+        assertEquals(jsonMapper.readTree(expected), jsonMapper.readTree(actual));
+    }
+
+    private static ByteArrayInputStream input(final String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,227 @@
+package com.lsgsma.transaction.service;
+
+import com.lsgsma.transaction.client.TreasuryApiClient;
+import com.lsgsma.transaction.config.ConversionJobProperties;
+import com.lsgsma.transaction.exception.ConversionJobNotFoundException;
+import com.lsgsma.transaction.exception.ConversionJobNotReadyException;
+import com.lsgsma.transaction.infra.ExchangeRateStore;
+import com.lsgsma.transaction.model.ConversionJob;
+import com.lsgsma.transaction.model.ConversionJobFormat;
+import com.lsgsma.transaction.model.ConversionJobStatus;
+import com.lsgsma.transaction.model.Transaction;
+import com.lsgsma.transaction.repository.ConversionJobRepository;
+import com.lsgsma.transaction.repository.TransactionRepository;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConversionJobServiceTest {
+
+    private static final String CURRENCY = "Brazil-Real";
+    private static final LocalDate FROM_DATE = LocalDate.of(2024, 8, 1);
+    private static final LocalDate TO_DATE = LocalDate.of(2024, 8, 31);
+
+    @Mock
+    private ConversionJobRepository conversionJobRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private TreasuryApiClient treasuryApiClient;
+
+    @TempDir
+    private Path directory;
+
+    private final ExchangeRateStore exchangeRateStore = new ExchangeRateStore();
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private ConversionJobService conversionJobService;
+
+    @BeforeEach
+    void setup() {
+        exchangeRateStore.record(CURRENCY, LocalDate.of(2024, 6, 30), new BigDecimal("5.5"));
+        exchangeRateStore.imported(Set.of(CURRENCY), LocalDate.of(2024, 12, 31), true);
+        conversionJobService = new ConversionJobService(
+                new ConversionJobProperties(directory, 1, 2),
+                conversionJobRepository,
+                transactionRepository,
+                new BulkConversionService(treasuryApiClient, exchangeRateStore, jsonMapper),
+                jsonMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        conversionJobService.shutdown();
+    }
+
+    @Test
+    void givenTransactionsInRange_whenRun_thenWriteEveryPageAndComplete() throws IOException {
+        var job = storedJob(ConversionJobFormat.NDJSON);
+        var first = transaction("Laptop", LocalDate.of(2024, 8, 2), "100.00");
+        var second = transaction("Mouse", LocalDate.of(2024, 8, 2), "10.00");
+        var third = transaction("Desk", LocalDate.of(2024, 8, 20), "150.75");
+        when(transactionRepository.countByTransactionDateBetween(FROM_DATE, TO_DATE)).thenReturn(3L);
+        when(transactionRepository.findPageAfter(FROM_DATE, TO_DATE, FROM_DATE.minusDays(1), new UUID(0, 0), Limit.of(2)))
+                .thenReturn(List.of(first, second));
+        when(transactionRepository.findPageAfter(FROM_DATE, TO_DATE, second.getTransactionDate(), second.getId(), Limit.of(2)))
+                .thenReturn(List.of(third));
+
+        conversionJobService.run(job.getId());
+
+        assertEquals(ConversionJobStatus.COMPLETED, job.getStatus());
+        assertEquals(3, job.getTotalRows());
+        assertEquals(3, job.getProcessedRows());
+        assertEquals(0, job.getFailedRows());
+        assertEquals(third.getId(), job.getCursorId());
+        var lines = readResult(job).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals(jsonMapper.readTree("""
+                {"id":"%s","description":"Desk","transactionDate":"2024-08-20","purchaseAmount":150.75,\
+                "exchangeRate":5.5,"convertedAmount":829.13}""".formatted(third.getId())), jsonMapper.readTree(lines[2]));
+    }
+
+    @Test
+    void givenCsvFormat_whenRun_thenWriteHeaderAndQuoteText() throws IOException {
+        var job = storedJob(ConversionJobFormat.CSV);
+        var transaction = transaction("Chair, \"ergonomic\"", LocalDate.of(2024, 8, 20), "150.75");
+        when(transactionRepository.findPageAfter(any(), any(), any(), any(), any())).thenReturn(List.of(transaction));
+
+        conversionJobService.run(job.getId());
+
+        assertEquals("""
+                id,description,transactionDate,purchaseAmount,exchangeRate,convertedAmount,staleExchangeRate,error
+                %s,"Chair, ""ergonomic\"\"",2024-08-20,150.75,5.5,829.13,false,
+                """.formatted(transaction.getId()), readResult(job));
+    }
+
+    @Test
+    void givenInterruptedJob_whenRun_thenDiscardUncheckpointedBytesAndContinueFromCursor() throws IOException {
+        var job = storedJob(ConversionJobFormat.NDJSON);
+        var checkpointed = transaction("Laptop", LocalDate.of(2024, 8, 2), "100.00");
+        var remaining = transaction("Desk", LocalDate.of(2024, 8, 20), "150.75");
+        var file = directory.resolve(job.getId() + ".ndjson.gz");
+        Files.write(file, gzip("{\"description\":\"Laptop\"}\n"));
+        job.setStatus(ConversionJobStatus.RUNNING);
+        job.setTotalRows(2);
+        job.setProcessedRows(1);
+        job.setCursorDate(checkpointed.getTransactionDate());
+        job.setCursorId(checkpointed.getId());
+        job.setOutputBytes(Files.size(file));
+        Files.write(file, new byte[]{31, -117, 8, 0, 1, 2}, StandardOpenOption.APPEND);
+        when(transactionRepository.findPageAfter(FROM_DATE, TO_DATE, checkpointed.getTransactionDate(), checkpointed.getId(), Limit.of(2)))
+                .thenReturn(List.of(remaining));
+
+        conversionJobService.run(job.getId());
+
+        verify(transactionRepository, never()).countByTransactionDateBetween(any(), any());
+        assertEquals(ConversionJobStatus.COMPLETED, job.getStatus());
+        assertEquals(2, job.getProcessedRows());
+        var lines = readResult(job).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("{\"description\":\"Laptop\"}", lines[0]);
+        assertEquals("Desk", jsonMapper.readTree(lines[1]).get("description").asString());
+    }
+
+    @Test
+    void givenCancelledQueuedJob_whenRun_thenDoNotConvert() {
+        var job = storedJob(ConversionJobFormat.NDJSON);
+
+        var cancelled = conversionJobService.cancel(job.getId());
+        conversionJobService.run(job.getId());
+
+        assertEquals(ConversionJobStatus.CANCELLED, cancelled.status());
+        verifyNoInteractions(transactionRepository);
+        assertFalse(Files.exists(directory.resolve(job.getId() + ".ndjson.gz")));
+        assertEquals(0, conversionJobService.pendingCancellations());
+    }
+
+    @Test
+    void givenFinishedOrUnknownJob_whenCancel_thenDoNotTrackCancellation() {
+        var job = storedJob(ConversionJobFormat.NDJSON);
+        job.setStatus(ConversionJobStatus.COMPLETED);
+        var unknownId = UUID.randomUUID();
+        when(conversionJobRepository.findById(unknownId)).thenReturn(Optional.empty());
+
+        assertEquals(ConversionJobStatus.CANCELLED, conversionJobService.cancel(job.getId()).status());
+        assertThrowsExactly(ConversionJobNotFoundException.class, () -> conversionJobService.cancel(unknownId));
+
+        assertEquals(0, conversionJobService.pendingCancellations());
+    }
+
+    @Test
+    void givenUnfinishedJob_whenGetResult_thenThrowNotReady() {
+        var job = storedJob(ConversionJobFormat.NDJSON);
+        job.setStatus(ConversionJobStatus.RUNNING);
+
+        var ex = assertThrowsExactly(ConversionJobNotReadyException.class, () -> conversionJobService.result(job.getId()));
+
+        assertEquals("Conversion job " + job.getId() + " is RUNNING", ex.getMessage());
+    }
+
+    private ConversionJob storedJob(final ConversionJobFormat format) {
+        var job = new ConversionJob();
+        job.setId(UUID.randomUUID());
+        job.setCurrency(CURRENCY);
+        job.setFromDate(FROM_DATE);
+        job.setToDate(TO_DATE);
+        job.setFormat(format);
+        job.setStatus(ConversionJobStatus.QUEUED);
+        job.setCreatedAt(Instant.now());
+        job.setUpdatedAt(Instant.now());
+        when(conversionJobRepository.findById(job.getId())).thenReturn(Optional.of(job));
+        lenient().when(conversionJobRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        return job;
+    }
+
+    private String readResult(final ConversionJob job) throws IOException {
+        var result = conversionJobService.result(job.getId());
+        try (var input = new GZIPInputStream(Files.newInputStream(result.file()))) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static byte[] gzip(final String text) throws IOException {
+        var output = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(output)) {
+            gzip.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return output.toByteArray();
+    }
+
+    private static Transaction transaction(final String description, final LocalDate transactionDate, final String amount) {
+        return new Transaction(UUID.randomUUID(), description, transactionDate, new BigDecimal(amount));
+    }
+}
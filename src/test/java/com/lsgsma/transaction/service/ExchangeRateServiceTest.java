@@ -3,13 +3,20 @@ package com.lsgsma.transaction.service;
 import com.lsgsma.transaction.client.TreasuryApiClient;
 import com.lsgsma.transaction.dto.client.response.TreasuryExchangeRateDataResponse;
 import com.lsgsma.transaction.dto.client.response.TreasuryExchangeRateResponse;
+import com.lsgsma.transaction.dto.response.ExchangeRateSeriesResponse;
 import com.lsgsma.transaction.exception.ExchangeRateNotFoundException;
+import com.lsgsma.transaction.exception.ExchangeRateUnavailableException;
+import com.lsgsma.transaction.exception.InvalidDateRangeException;
+import com.lsgsma.transaction.exception.TreasuryApiUnavailableException;
 import com.lsgsma.transaction.infra.CacheWarmingService;
+import com.lsgsma.transaction.infra.ExchangeRateStore;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,7 +26,9 @@ import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.only;
 import static org.mockito.Mockito.verify;
@@ -45,12 +54,14 @@ class ExchangeRateServiceTest {
     @Mock
     private CacheWarmingService cacheWarmingService;
 
+    private final ExchangeRateStore exchangeRateStore = new ExchangeRateStore();
+
     @BeforeEach
     void setup() {
 
         when(cacheManager.getCache(anyString())).thenReturn(exchangeRateCache);
 
-        exchangeRateService = new ExchangeRateService(treasuryApiClient, cacheManager, cacheWarmingService);
+        exchangeRateService = new ExchangeRateService(treasuryApiClient, cacheManager, cacheWarmingService, exchangeRateStore);
     }
 
     @Test
@@ -100,6 +111,7 @@ class ExchangeRateServiceTest {
         assertEquals(BigDecimal.valueOf(5.5), actualExchangeRate);
 
         verify(cacheWarmingService, only()).warmExchangeRateCache(currency, date, recordDate, BigDecimal.valueOf(5.5));
+        assertEquals(recordDate, exchangeRateStore.findLatest(currency, sixMonthsAgo, date).orElseThrow().recordDate());
         verifyNoMoreInteractions(exchangeRateCache);
         verify(treasuryApiClient, only()).getTopExchangeRateByCurrencyInRecordDateRangeSortedByRecordDateDesc(currency, sixMonthsAgo, date);
     }
@@ -163,4 +175,123 @@ class ExchangeRateServiceTest {
         verify(treasuryApiClient, only()).getTopExchangeRateByCurrencyInRecordDateRangeSortedByRecordDateDesc(currency, sixMonthsAgo, date);
     }
 
-}
\ No newline at end of file
+    @Test
+    void givenTreasuryApiUnavailableAndKnownRate_whenGetExchangeRateQuote_thenReturnStaleRate() {
+        var date = LocalDate.of(2024, 8, 20);
+        var sixMonthsAgo = date.minusMonths(6);
+        var currency = "Brazil-Real";
+        exchangeRateStore.record(currency, LocalDate.of(2024, 3, 31), BigDecimal.valueOf(5.1));
+        exchangeRateStore.record(currency, LocalDate.of(2024, 6, 30), BigDecimal.valueOf(5.5));
+        exchangeRateStore.record(currency, LocalDate.of(2024, 9, 30), BigDecimal.valueOf(5.9));
+
+        when(treasuryApiClient.getTopExchangeRateByCurrencyInRecordDateRangeSortedByRecordDateDesc(currency, sixMonthsAgo, date))
+                .thenThrow(new TreasuryApiUnavailableException("Treasury API is unavailable", Duration.ofSeconds(30)));
+
+        var actualQuote = exchangeRateService.getExchangeRateQuote(currency, date);
+
+        assertEquals(BigDecimal.valueOf(5.5), actualQuote.exchangeRate());
+        assertTrue(actualQuote.stale());
+        verifyNoInteractions(cacheWarmingService);
+    }
+
+    @Test
+    void givenTreasuryApiUnavailableAndNoKnownRateInWindow_whenGetExchangeRateQuote_thenThrowExchangeRateUnavailableException() {
+        var date = LocalDate.of(2024, 8, 20);
+        var sixMonthsAgo = date.minusMonths(6);
+        var currency = "Brazil-Real";
+        exchangeRateStore.record(currency, LocalDate.of(2023, 12, 31), BigDecimal.valueOf(4.9));
+
+        when(treasuryApiClient.getTopExchangeRateByCurrencyInRecordDateRangeSortedByRecordDateDesc(currency, sixMonthsAgo, date))
+                .thenThrow(new TreasuryApiUnavailableException("Treasury API is unavailable", Duration.ofSeconds(30)));
+
+        var ex = assertThrowsExactly(ExchangeRateUnavailableException.class, () -> exchangeRateService.getExchangeRateQuote(currency, date));
+
+        assertEquals(Duration.ofSeconds(30), ex.getRetryAfter());
+    }
+
+    @Test
+    void givenTreasuryApiAvailable_whenGetExchangeRateQuote_thenReturnFreshRate() {
+        var date = LocalDate.of(2024, 8, 20);
+        var currency = "Brazil-Real";
+
+        when(treasuryApiClient.getTopExchangeRateByCurrencyInRecordDateRangeSortedByRecordDateDesc(currency, date.minusMonths(6), date))
+                .thenReturn(Optional.of(new TreasuryExchangeRateResponse(
+                        List.of(new TreasuryExchangeRateDataResponse(BigDecimal.valueOf(5.5), LocalDate.of(2024, 6, 30))))));
+
+        assertFalse(exchangeRateService.getExchangeRateQuote(currency, date).stale());
+    }
+
+    @Test
+    void givenCompleteImportCoveringDate_whenGetExchangeRateQuote_thenUseImportedRateWithoutCallingApi() {
+        var date = LocalDate.of(2024, 8, 20);
+        var currency = "Brazil-Real";
+        exchangeRateStore.record(currency, LocalDate.of(2024, 6, 30), BigDecimal.valueOf(5.5));
+        exchangeRateStore.imported(Set.of(currency), LocalDate.of(2024, 9, 30), true);
+
+        var actualQuote = exchangeRateService.getExchangeRateQuote(currency, date);
+
+        assertEquals(BigDecimal.valueOf(5.5), actualQuote.exchangeRate());
+        assertFalse(actualQuote.stale());
+        verifyNoInteractions(treasuryApiClient);
+        verify(cacheWarmingService).warmExchangeRateCache(currency, date, LocalDate.of(2024, 6, 30), BigDecimal.valueOf(5.5));
+    }
+
+    @Test
+    void givenCompleteImportWithoutRateInWindow_whenGetExchangeRateQuote_thenThrowExchangeRateNotFoundException() {
+        var date = LocalDate.of(2024, 8, 20);
+        var currency = "Brazil-Real";
+        exchangeRateStore.record(currency, LocalDate.of(2023, 12, 31), BigDecimal.valueOf(4.9));
+        exchangeRateStore.imported(Set.of(currency), LocalDate.of(2024, 9, 30), true);
+
+        assertThrowsExactly(ExchangeRateNotFoundException.class, () -> exchangeRateService.getExchangeRateQuote(currency, date));
+        verifyNoInteractions(treasuryApiClient);
+    }
+
+    @Test
+    void givenImportOlderThanDate_whenGetExchangeRateQuote_thenCallApi() {
+        var date = LocalDate.of(2024, 8, 20);
+        var currency = "Brazil-Real";
+        exchangeRateStore.record(currency, LocalDate.of(2024, 3, 31), BigDecimal.valueOf(5.1));
+        exchangeRateStore.imported(Set.of(currency), LocalDate.of(2024, 3, 31), true);
+
+        when(treasuryApiClient.getTopExchangeRateByCurrencyInRecordDateRangeSortedByRecordDateDesc(currency, date.minusMonths(6), date))
+                .thenReturn(Optional.of(new TreasuryExchangeRateResponse(
+                        List.of(new TreasuryExchangeRateDataResponse(BigDecimal.valueOf(5.5), LocalDate.of(2024, 6, 30))))));
+
+        assertEquals(BigDecimal.valueOf(5.5), exchangeRateService.getExchangeRateQuote(currency, date).exchangeRate());
+    }
+
+    @Test
+    void givenStoredRates_whenGetExchangeRateSeries_thenReturnRangeNewestFirstWithoutCallingApi() {
+        exchangeRateStore.recordAll("Brazil-Real", List.of(
+                new TreasuryExchangeRateDataResponse(BigDecimal.valueOf(4.9), LocalDate.of(2023, 12, 31)),
+                new TreasuryExchangeRateDataResponse(BigDecimal.valueOf(5.0), LocalDate.of(2024, 3, 31)),
+                new TreasuryExchangeRateDataResponse(BigDecimal.valueOf(5.5), LocalDate.of(2024, 6, 30))));
+        exchangeRateStore.markComplete("Brazil-Real", LocalDate.of(2023, 1, 1), LocalDate.of(2024, 6, 30));
+
+        var series = exchangeRateService.getExchangeRateSeries("Brazil-Real", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 30));
+
+        assertEquals(new ExchangeRateSeriesResponse("Brazil-Real", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 30), true, List.of(
+                new TreasuryExchangeRateDataResponse(BigDecimal.valueOf(5.5), LocalDate.of(2024, 6, 30)),
+                new TreasuryExchangeRateDataResponse(BigDecimal.valueOf(5.0), LocalDate.of(2024, 3, 31)))), series);
+        assertFalse(exchangeRateService.getExchangeRateSeries("Brazil-Real", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 7, 1)).complete());
+        verifyNoInteractions(treasuryApiClient);
+    }
+
+    @Test
+    void givenSomeUnknownCurrencies_whenGetExchangeRateSeries_thenLeaveThemOut() {
+        exchangeRateStore.record("Japan-Yen", LocalDate.of(2024, 6, 30), BigDecimal.valueOf(160.5));
+
+        var series = exchangeRateService.getExchangeRateSeries(List.of("Japan-Yen", "Unknown-Currency"), LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 30));
+
+        assertEquals(List.of("Japan-Yen"), series.stream().map(ExchangeRateSeriesResponse::currency).toList());
+        assertThrowsExactly(ExchangeRateNotFoundException.class,
+                () -> exchangeRateService.getExchangeRateSeries("Unknown-Currency", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 30)));
+    }
+
+    @Test
+    void givenFromAfterTo_whenGetExchangeRateSeries_thenThrowInvalidDateRangeException() {
+        assertThrowsExactly(InvalidDateRangeException.class,
+                () -> exchangeRateService.getExchangeRateSeries("Japan-Yen", LocalDate.of(2024, 7, 1), LocalDate.of(2024, 6, 30)));
+    }
+}
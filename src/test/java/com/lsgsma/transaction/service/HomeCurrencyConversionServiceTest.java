@@ -0,0 +1,192 @@
+package com.lsgsma.transaction.service;
+
+import com.lsgsma.transaction.config.HomeCurrencyProperties;
+import com.lsgsma.transaction.exception.ExchangeRateNotFoundException;
+import com.lsgsma.transaction.exception.ExchangeRateUnavailableException;
+import com.lsgsma.transaction.infra.ExchangeRateExpiry;
+import com.lsgsma.transaction.model.Transaction;
+import com.lsgsma.transaction.model.TransactionConversion;
+import com.lsgsma.transaction.model.TransactionConversionId;
+import com.lsgsma.transaction.repository.TransactionConversionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HomeCurrencyConversionServiceTest {
+
+    private static final LocalDate HISTORIC_DATE = LocalDate.of(2024, 5, 20);
+    private static final LocalDate RECENT_DATE = LocalDate.of(2024, 8, 20);
+
+    @Mock
+    private ExchangeRateService exchangeRateService;
+
+    @Mock
+    private TransactionConversionRepository transactionConversionRepository;
+
+    @Captor
+    private ArgumentCaptor<TransactionConversion> conversionArgumentCaptor;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private HomeCurrencyConversionService homeCurrencyConversionService;
+
+    @BeforeEach
+    void setup() {
+        homeCurrencyConversionService = service(List.of("Brazil-Real", "Euro Zone-Euro"), 100);
+    }
+
+    private HomeCurrencyConversionService service(final List<String> currencies, final int backfillBatchSize) {
+        var exchangeRateExpiry = new ExchangeRateExpiry(
+                Clock.fixed(RECENT_DATE.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC),
+                Duration.ofDays(15),
+                Duration.ofMinutes(60));
+        return new HomeCurrencyConversionService(
+                new HomeCurrencyProperties(currencies, Duration.ofMinutes(5), backfillBatchSize),
+                exchangeRateService,
+                exchangeRateExpiry,
+                transactionConversionRepository,
+                meterRegistry);
+    }
+
+    @Test
+    void givenFreshRate_whenConvert_thenStoreSameResultAsOnTheFlyConversion() {
+        var transaction = transaction(HISTORIC_DATE);
+        when(exchangeRateService.getExchangeRateQuote("Brazil-Real", HISTORIC_DATE))
+                .thenReturn(ExchangeRateQuote.fresh(new BigDecimal("5.500")));
+
+        assertTrue(homeCurrencyConversionService.convert(transaction, "Brazil-Real"));
+
+        verify(transactionConversionRepository).save(conversionArgumentCaptor.capture());
+        var conversion = conversionArgumentCaptor.getValue();
+        assertEquals(new TransactionConversionId(transaction.getId(), "Brazil-Real"), conversion.getId());
+        assertEquals(new BigDecimal("5.500"), conversion.getExchangeRate());
+        assertEquals(new BigDecimal("829.13"), conversion.getConvertedAmount());
+    }
+
+    @Test
+    void givenNoPublishedRate_whenConvert_thenStoreMissingRate() {
+        var transaction = transaction(HISTORIC_DATE);
+        when(exchangeRateService.getExchangeRateQuote("Brazil-Real", HISTORIC_DATE))
+                .thenThrow(ExchangeRateNotFoundException.forCurrency("Brazil-Real"));
+
+        assertTrue(homeCurrencyConversionService.convert(transaction, "Brazil-Real"));
+
+        verify(transactionConversionRepository).save(conversionArgumentCaptor.capture());
+        assertFalse(conversionArgumentCaptor.getValue().hasExchangeRate());
+        assertNull(conversionArgumentCaptor.getValue().getConvertedAmount());
+    }
+
+    @Test
+    void givenStaleRateOrTreasuryUnavailable_whenConvert_thenLeaveItToBackfill() {
+        var transaction = transaction(HISTORIC_DATE);
+        when(exchangeRateService.getExchangeRateQuote("Brazil-Real", HISTORIC_DATE))
+                .thenReturn(new ExchangeRateQuote(BigDecimal.valueOf(5.5), true));
+        when(exchangeRateService.getExchangeRateQuote("Euro Zone-Euro", HISTORIC_DATE))
+                .thenThrow(new ExchangeRateUnavailableException("Treasury API is unavailable", Duration.ofSeconds(30)));
+
+        assertFalse(homeCurrencyConversionService.convert(transaction, "Brazil-Real"));
+        assertFalse(homeCurrencyConversionService.convert(transaction, "Euro Zone-Euro"));
+
+        verify(transactionConversionRepository, never()).save(any());
+    }
+
+    @Test
+    void givenOtherCurrency_whenFindPrecomputed_thenDoNotQueryRepository() {
+        assertTrue(homeCurrencyConversionService.findPrecomputed(transaction(HISTORIC_DATE), "Japan-Yen").isEmpty());
+
+        verifyNoInteractions(transactionConversionRepository);
+    }
+
+    @Test
+    void givenHistoricConversion_whenFindPrecomputed_thenServeRegardlessOfAge() {
+        var transaction = transaction(HISTORIC_DATE);
+        var conversion = conversion(transaction, Instant.now().minus(Duration.ofDays(30)));
+        when(transactionConversionRepository.findById(conversion.getId())).thenReturn(Optional.of(conversion));
+
+        assertEquals(Optional.of(conversion), homeCurrencyConversionService.findPrecomputed(transaction, "Brazil-Real"));
+        assertEquals(1, meterRegistry.get("transaction.conversion.precomputed").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    void givenRecentTransaction_whenFindPrecomputed_thenConvertOnTheFlyWithoutQuery() {
+        assertTrue(homeCurrencyConversionService.findPrecomputed(transaction(RECENT_DATE), "Brazil-Real").isEmpty());
+
+        verifyNoInteractions(transactionConversionRepository);
+        assertEquals(1, meterRegistry.get("transaction.conversion.precomputed").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void givenRecentTransaction_whenPrecompute_thenStoreNothingUntilItsQuarterIsHistoric() {
+        homeCurrencyConversionService.precompute(transaction(RECENT_DATE));
+
+        verifyNoInteractions(exchangeRateService, transactionConversionRepository);
+    }
+
+    @Test
+    void givenPendingTransactions_whenBackfill_thenConvertEachHomeCurrency() {
+        var transaction = transaction(HISTORIC_DATE);
+        when(transactionConversionRepository.findPendingConversions(eq("Brazil-Real"), eq(LocalDate.of(2024, 7, 1)), any(), any(), eq(Limit.of(100))))
+                .thenReturn(List.of(transaction));
+        when(transactionConversionRepository.findPendingConversions(eq("Euro Zone-Euro"), eq(LocalDate.of(2024, 7, 1)), any(), any(), eq(Limit.of(100))))
+                .thenReturn(List.of());
+        when(exchangeRateService.getExchangeRateQuote("Brazil-Real", HISTORIC_DATE))
+                .thenReturn(ExchangeRateQuote.fresh(BigDecimal.valueOf(5.5)));
+
+        assertEquals(1, homeCurrencyConversionService.backfill());
+        verify(transactionConversionRepository).save(any());
+    }
+
+    @Test
+    void givenFullPage_whenBackfill_thenContinueAfterItOnNextRunAndStartOverAtTheEnd() {
+        var service = service(List.of("Brazil-Real"), 1);
+        var first = transaction(HISTORIC_DATE);
+        var start = LocalDate.of(1, 1, 1);
+        var historicBefore = LocalDate.of(2024, 7, 1);
+        when(transactionConversionRepository.findPendingConversions("Brazil-Real", historicBefore, start, new UUID(0, 0), Limit.of(1)))
+                .thenReturn(List.of(first));
+        when(transactionConversionRepository.findPendingConversions("Brazil-Real", historicBefore, HISTORIC_DATE, first.getId(), Limit.of(1)))
+                .thenReturn(List.of());
+        when(exchangeRateService.getExchangeRateQuote("Brazil-Real", HISTORIC_DATE))
+                .thenReturn(ExchangeRateQuote.fresh(BigDecimal.valueOf(5.5)));
+
+        assertEquals(1, service.backfill());
+        assertEquals(0, service.backfill());
+        assertEquals(1, service.backfill());
+    }
+
+    private static Transaction transaction(final LocalDate transactionDate) {
+        return new Transaction(UUID.randomUUID(), "description", transactionDate, BigDecimal.valueOf(150.75));
+    }
+
+    private static TransactionConversion conversion(final Transaction transaction, final Instant computedAt) {
+        return new TransactionConversion(new TransactionConversionId(transaction.getId(), "Brazil-Real"),
+                BigDecimal.valueOf(5.5), BigDecimal.valueOf(829.13), computedAt);
+    }
+}
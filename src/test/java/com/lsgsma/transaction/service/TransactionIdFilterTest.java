@@ -0,0 +1,108 @@
+package com.lsgsma.transaction.service;
+
+import com.lsgsma.transaction.config.TransactionIdFilterProperties;
+import com.lsgsma.transaction.store.TransactionStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionIdFilterTest {
+
+    private static final UUID STORED = UUID.randomUUID();
+
+    @Mock
+    private TransactionStore transactionStore;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TransactionIdFilter filter(final boolean enabled) {
+        return new TransactionIdFilter(new TransactionIdFilterProperties(enabled, 0.01, 1_000), transactionStore, meterRegistry);
+    }
+
+    @Test
+    void givenFilterNotBuiltYet_whenMightExist_thenPassEveryId() {
+        var transactionIdFilter = filter(true);
+
+        assertTrue(transactionIdFilter.mightExist(UUID.randomUUID()));
+        assertEquals(0, meterRegistry.get("transaction.id.filter.lookups").tag("result", "passed").counter().count());
+    }
+
+    @Test
+    void givenRebuiltFilter_whenMightExist_thenRejectUnknownIdsAndPassStoredOnes() {
+        var transactionIdFilter = filter(true);
+        storedIds(STORED);
+
+        assertEquals(1, transactionIdFilter.rebuild());
+
+        assertTrue(transactionIdFilter.mightExist(STORED));
+        assertFalse(transactionIdFilter.mightExist(UUID.randomUUID()));
+        assertEquals(1, meterRegistry.get("transaction.id.filter.lookups").tag("result", "passed").counter().count());
+        assertEquals(1, meterRegistry.get("transaction.id.filter.lookups").tag("result", "rejected").counter().count());
+        assertTrue(meterRegistry.get("transaction.id.filter.memory").gauge().value() > 0);
+    }
+
+    @Test
+    void givenIdStoredDuringRebuild_whenMightExist_thenPassIt() {
+        var transactionIdFilter = filter(true);
+        var storedDuringScan = UUID.randomUUID();
+        when(transactionStore.count()).thenReturn(1L);
+        doAnswer(invocation -> {
+            transactionIdFilter.add(storedDuringScan);
+            invocation.<Consumer<UUID>>getArgument(0).accept(STORED);
+            return null;
+        }).when(transactionStore).forEachId(any());
+
+        transactionIdFilter.rebuild();
+
+        assertTrue(transactionIdFilter.mightExist(storedDuringScan));
+        assertTrue(transactionIdFilter.mightExist(STORED));
+    }
+
+    @Test
+    void givenNewTransaction_whenAdd_thenPassIt() {
+        var transactionIdFilter = filter(true);
+        storedIds();
+        transactionIdFilter.rebuild();
+        var added = UUID.randomUUID();
+
+        transactionIdFilter.add(added);
+
+        assertTrue(transactionIdFilter.mightExist(added));
+        assertEquals(1, meterRegistry.get("transaction.id.filter.ids").gauge().value());
+    }
+
+    @Test
+    void givenDisabledFilter_whenRebuild_thenNeverReadStoreAndPassEveryId() {
+        var transactionIdFilter = filter(false);
+
+        assertEquals(0, transactionIdFilter.rebuild());
+        transactionIdFilter.add(UUID.randomUUID());
+
+        assertTrue(transactionIdFilter.mightExist(UUID.randomUUID()));
+        verifyNoInteractions(transactionStore);
+    }
+
+    private void storedIds(final UUID... ids) {
+        when(transactionStore.count()).thenReturn((long) ids.length);
+        doAnswer(invocation -> {
+            Consumer<UUID> action = invocation.getArgument(0);
+            for (var id : ids) {
+                action.accept(id);
+            }
+            return null;
+        }).when(transactionStore).forEachId(any());
+    }
+}
@@ -0,0 +1,92 @@
+package com.lsgsma.transaction.service;
+
+import com.lsgsma.transaction.dto.response.TransactionSearchResponse;
+import com.lsgsma.transaction.model.Transaction;
+import com.lsgsma.transaction.repository.TransactionDescription;
+import com.lsgsma.transaction.store.TransactionStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionSearchServiceTest {
+
+    @Mock
+    private TransactionStore transactionStore;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TransactionSearchService transactionSearchService;
+
+    @BeforeEach
+    void setup() {
+        transactionSearchService = new TransactionSearchService(transactionStore, meterRegistry);
+    }
+
+    @Test
+    void givenStoredTransactions_whenRebuild_thenIndexThemAndPublishFootprint() {
+        var id = UUID.randomUUID();
+        storedDescriptions(
+                new TransactionDescription(id, "New keyboard for home office"),
+                new TransactionDescription(UUID.randomUUID(), "Wireless mouse"));
+
+        var documents = transactionSearchService.rebuild();
+
+        assertEquals(2, documents);
+        assertEquals(List.of(new TransactionSearchResponse(id, "New keyboard for home office")), transactionSearchService.search("keyboard", 20));
+        assertEquals(2, meterRegistry.get("transaction.search.index.documents").gauge().value());
+        assertTrue(meterRegistry.get("transaction.search.index.memory").gauge().value() > 0);
+    }
+
+    @Test
+    void givenIndexedTransaction_whenRebuild_thenReplaceIndexContent() {
+        transactionSearchService.index(new Transaction(UUID.randomUUID(), "Deleted purchase", LocalDate.of(2024, 8, 20), BigDecimal.TEN));
+        storedDescriptions();
+
+        transactionSearchService.rebuild();
+
+        assertTrue(transactionSearchService.search("purchase", 20).isEmpty());
+    }
+
+    @Test
+    void givenTransactionStoredDuringRebuild_whenRebuild_thenIndexItOnceAndKeepServingOldIndex() {
+        var id = UUID.randomUUID();
+        var existing = new Transaction(UUID.randomUUID(), "Existing laptop", LocalDate.of(2024, 8, 20), BigDecimal.TEN);
+        var stored = new Transaction(id, "New laptop stand", LocalDate.of(2024, 8, 20), BigDecimal.TEN);
+        transactionSearchService.index(existing);
+        doAnswer(invocation -> {
+            Consumer<TransactionDescription> action = invocation.getArgument(0);
+            action.accept(new TransactionDescription(existing.getId(), existing.getDescription()));
+            transactionSearchService.index(stored);
+            assertEquals(2, transactionSearchService.search("laptop", 20).size());
+            action.accept(new TransactionDescription(id, stored.getDescription()));
+            return null;
+        }).when(transactionStore).forEachDescription(any());
+
+        assertEquals(2, transactionSearchService.rebuild());
+
+        assertEquals(List.of(new TransactionSearchResponse(id, "New laptop stand")), transactionSearchService.search("stand", 20));
+        assertEquals(2, transactionSearchService.search("laptop", 20).size());
+    }
+
+    private void storedDescriptions(final TransactionDescription... descriptions) {
+        doAnswer(invocation -> {
+            Consumer<TransactionDescription> action = invocation.getArgument(0);
+            List.of(descriptions).forEach(action);
+            return null;
+        }).when(transactionStore).forEachDescription(any());
+    }
+}
@@ -7,8 +7,11 @@ import com.lsgsma.transaction.exception.ExchangeRateNotFoundException;
 import com.lsgsma.transaction.exception.TransactionNotFoundException;
 import com.lsgsma.transaction.mapper.TransactionMapper;
 import com.lsgsma.transaction.model.Transaction;
-import com.lsgsma.transaction.repository.TransactionRepository;
+import com.lsgsma.transaction.model.TransactionConversion;
+import com.lsgsma.transaction.model.TransactionConversionId;
+import com.lsgsma.transaction.store.TransactionStore;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Optional;
 import java.util.UUID;
@@ -22,7 +25,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.only;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -38,11 +43,20 @@ class TransactionServiceTest {
     private ExchangeRateService exchangeRateService;
 
     @Mock
-    private TransactionRepository transactionRepository;
+    private TransactionStore transactionStore;
 
     @Mock
     private TransactionMapper transactionMapper;
 
+    @Mock
+    private TransactionSearchService transactionSearchService;
+
+    @Mock
+    private HomeCurrencyConversionService homeCurrencyConversionService;
+
+    @Mock
+    private TransactionIdFilter transactionIdFilter;
+
     @Captor
     private ArgumentCaptor<Transaction> transactionArgumentCaptor;
 
@@ -59,7 +73,7 @@ class TransactionServiceTest {
                 , BigDecimal.valueOf(150.75));
 
         when(transactionMapper.toEntity(any())).thenCallRealMethod();
-        when(transactionRepository.save(transactionArgumentCaptor.capture())).thenReturn(mockedSavedTransaction);
+        when(transactionStore.save(transactionArgumentCaptor.capture())).thenReturn(mockedSavedTransaction);
         var actual = transactionService.storeTransaction(transactionRequest);
         var expected = new CreateTransactionResponse(id);
 
@@ -67,7 +81,10 @@ class TransactionServiceTest {
 
 
         verifyNoInteractions(exchangeRateService);
-        verify(transactionRepository, only()).save(any());
+        verify(transactionStore, only()).save(any());
+        verify(transactionSearchService, only()).index(mockedSavedTransaction);
+        verify(homeCurrencyConversionService, only()).precompute(mockedSavedTransaction);
+        verify(transactionIdFilter, only()).add(id);
         assertEquals("description", toStoreTransactionValue.getDescription());
         assertEquals(LocalDate.of(2024, 8, 20), toStoreTransactionValue.getTransactionDate());
         assertEquals(BigDecimal.valueOf(150.75), toStoreTransactionValue.getPurchaseAmount());
@@ -79,14 +96,28 @@ class TransactionServiceTest {
         var id = UUID.randomUUID();
         var currency = "Brazil-Real";
 
-        when(transactionRepository.findById(id)).thenReturn(Optional.empty());
+        when(transactionIdFilter.mightExist(id)).thenReturn(true);
+        when(transactionStore.findById(id)).thenReturn(Optional.empty());
 
         var ex = assertThrowsExactly(TransactionNotFoundException.class, () -> transactionService.getConvertedTransaction(id, currency));
         assertEquals("Transaction not found with id: " + id, ex.getMessage());
+        verify(transactionIdFilter).falsePositive();
         verifyNoInteractions(transactionMapper);
         verifyNoInteractions(exchangeRateService);
     }
 
+    @Test
+    void givenIdRejectedByFilter_whenConvertTransaction_thenThrowTransactionNotFoundWithoutLookup() {
+        var id = UUID.randomUUID();
+
+        when(transactionIdFilter.mightExist(id)).thenReturn(false);
+
+        var ex = assertThrowsExactly(TransactionNotFoundException.class, () -> transactionService.getConvertedTransaction(id, "Brazil-Real"));
+        assertEquals("Transaction not found with id: " + id, ex.getMessage());
+        verifyNoInteractions(transactionStore);
+        verifyNoInteractions(homeCurrencyConversionService);
+    }
+
     @Test
     void givenInvalidCurrency_whenExchangeRateServiceThrowsException_thenPropagateException() {
         var id = UUID.randomUUID();
@@ -97,8 +128,9 @@ class TransactionServiceTest {
                 , LocalDate.of(2024, 8, 20)
                 , BigDecimal.valueOf(150.75));
 
-        when(transactionRepository.findById(id)).thenReturn(Optional.of(mockedSavedTransaction));
-        when(exchangeRateService.getExchangeRate(currency, LocalDate.of(2024, 8, 20)))
+        when(transactionIdFilter.mightExist(id)).thenReturn(true);
+        when(transactionStore.findById(id)).thenReturn(Optional.of(mockedSavedTransaction));
+        when(exchangeRateService.getExchangeRateQuote(currency, LocalDate.of(2024, 8, 20)))
                 .thenThrow(new ExchangeRateNotFoundException("mocked test"));
 
         var ex = assertThrowsExactly(ExchangeRateNotFoundException.class, () -> transactionService.getConvertedTransaction(id, currency));
@@ -117,10 +149,62 @@ class TransactionServiceTest {
                 , LocalDate.of(2024, 8, 20)
                 , BigDecimal.valueOf(150.75));
 
-        when(transactionRepository.findById(id)).thenReturn(Optional.of(mockedSavedTransaction));
-        when(exchangeRateService.getExchangeRate(currency, LocalDate.of(2024, 8, 20)))
-                .thenReturn(BigDecimal.valueOf(5.5));
-        when(transactionMapper.toConvertedDto(any(), any(), any())).thenCallRealMethod();
+        when(transactionIdFilter.mightExist(id)).thenReturn(true);
+        when(transactionStore.findById(id)).thenReturn(Optional.of(mockedSavedTransaction));
+        when(exchangeRateService.getExchangeRateQuote(currency, LocalDate.of(2024, 8, 20)))
+                .thenReturn(ExchangeRateQuote.fresh(BigDecimal.valueOf(5.5)));
+        when(transactionMapper.toConvertedDto(any(), any(), any(), anyBoolean())).thenCallRealMethod();
+
+        var actual = transactionService.getConvertedTransaction(id, currency);
+        var expected = new ConvertedTransactionResponse(id
+                , "description"
+                , LocalDate.of(2024, 8, 20)
+                , BigDecimal.valueOf(150.75)
+                , BigDecimal.valueOf(5.5)
+                , BigDecimal.valueOf(829.13)
+                );
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void givenStaleExchangeRate_whenConvertTransaction_thenFlagResponseAsStale() {
+        var id = UUID.randomUUID();
+        var currency = "Brazil-Real";
+
+        var mockedSavedTransaction = new Transaction(id
+                , "description"
+                , LocalDate.of(2024, 8, 20)
+                , BigDecimal.valueOf(150.75));
+
+        when(transactionIdFilter.mightExist(id)).thenReturn(true);
+        when(transactionStore.findById(id)).thenReturn(Optional.of(mockedSavedTransaction));
+        when(exchangeRateService.getExchangeRateQuote(currency, LocalDate.of(2024, 8, 20)))
+                .thenReturn(new ExchangeRateQuote(BigDecimal.valueOf(5.5), true));
+        when(transactionMapper.toConvertedDto(any(), any(), any(), anyBoolean())).thenCallRealMethod();
+
+        var actual = transactionService.getConvertedTransaction(id, currency);
+
+        assertTrue(actual.staleExchangeRate());
+        assertEquals(BigDecimal.valueOf(829.13), actual.convertedAmount());
+    }
+
+    @Test
+    void givenPrecomputedConversion_whenConvertTransaction_thenSkipExchangeRateLookup() {
+        var id = UUID.randomUUID();
+        var currency = "Brazil-Real";
+
+        var mockedSavedTransaction = new Transaction(id
+                , "description"
+                , LocalDate.of(2024, 8, 20)
+                , BigDecimal.valueOf(150.75));
+
+        when(transactionIdFilter.mightExist(id)).thenReturn(true);
+        when(transactionStore.findById(id)).thenReturn(Optional.of(mockedSavedTransaction));
+        when(homeCurrencyConversionService.findPrecomputed(mockedSavedTransaction, currency))
+                .thenReturn(Optional.of(new TransactionConversion(new TransactionConversionId(id, currency),
+                        BigDecimal.valueOf(5.5), BigDecimal.valueOf(829.13), Instant.now())));
+        when(transactionMapper.toConvertedDto(any(), any(), any(), anyBoolean())).thenCallRealMethod();
 
         var actual = transactionService.getConvertedTransaction(id, currency);
         var expected = new ConvertedTransactionResponse(id
@@ -132,6 +216,27 @@ class TransactionServiceTest {
                 );
 
         assertEquals(expected, actual);
+        verifyNoInteractions(exchangeRateService);
     }
 
-}
\ No newline at end of file
+    @Test
+    void givenPrecomputedMissingRate_whenConvertTransaction_thenThrowExchangeRateNotFound() {
+        var id = UUID.randomUUID();
+        var currency = "Brazil-Real";
+
+        var mockedSavedTransaction = new Transaction(id
+                , "description"
+                , LocalDate.of(2024, 8, 20)
+                , BigDecimal.valueOf(150.75));
+
+        when(transactionIdFilter.mightExist(id)).thenReturn(true);
+        when(transactionStore.findById(id)).thenReturn(Optional.of(mockedSavedTransaction));
+        when(homeCurrencyConversionService.findPrecomputed(mockedSavedTransaction, currency))
+                .thenReturn(Optional.of(new TransactionConversion(new TransactionConversionId(id, currency), null, null, Instant.now())));
+
+        var ex = assertThrowsExactly(ExchangeRateNotFoundException.class, () -> transactionService.getConvertedTransaction(id, currency));
+
+        assertEquals("Could not retrieve exchange rates for Brazil-Real", ex.getMessage());
+        verifyNoInteractions(exchangeRateService);
+    }
+}
@@ -0,0 +1,183 @@
+package com.lsgsma.transaction.store;
+
+import com.lsgsma.transaction.model.Transaction;
+import com.lsgsma.transaction.repository.TransactionDescription;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LogTransactionStoreTest {
+
+    // Four records per segment
+    private static final long SEGMENT_BYTES = 4 * TransactionRecord.SIZE;
+
+    @TempDir
+    private Path directory;
+
+    private LogTransactionStore store;
+
+    @BeforeEach
+    void setup() throws IOException {
+        store = new LogTransactionStore(directory, SEGMENT_BYTES, 16);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        store.close();
+    }
+
+    @Test
+    void givenTransactionWithoutId_whenSave_thenAssignIdAndFindItBack() {
+        var transaction = new Transaction(null, "Café em São Paulo", LocalDate.of(2024, 8, 20), new BigDecimal("150.75"));
+
+        var saved = store.save(transaction);
+
+        assertNotNull(saved.getId());
+        var found = store.findById(saved.getId()).orElseThrow();
+        assertEquals(saved.getId(), found.getId());
+        assertEquals("Café em São Paulo", found.getDescription());
+        assertEquals(LocalDate.of(2024, 8, 20), found.getTransactionDate());
+        assertEquals(new BigDecimal("150.75"), found.getPurchaseAmount());
+        assertEquals(Optional.empty(), store.findById(UUID.randomUUID()));
+    }
+
+    @Test
+    void givenMoreTransactionsThanOneSegment_whenSave_thenRollOverToNextSegment() {
+        var ids = saveAll(6);
+
+        assertEquals(new LogTransactionStore.Stats(6, 2, 1024 * 24), store.stats());
+        ids.forEach(id -> assertTrue(store.findById(id).isPresent()));
+        assertTrue(Files.exists(directory.resolve("segment-000001.log")));
+    }
+
+    @Test
+    void givenExistingLog_whenReopen_thenRebuildIndexAndDescriptionsInOrder() throws IOException {
+        var ids = saveAll(6);
+        store.close();
+
+        store = new LogTransactionStore(directory, SEGMENT_BYTES, 16);
+
+        assertEquals(6, store.stats().transactions());
+        ids.forEach(id -> assertTrue(store.findById(id).isPresent()));
+        var descriptions = new ArrayList<TransactionDescription>();
+        store.forEachDescription(descriptions::add);
+        assertEquals(ids, descriptions.stream().map(TransactionDescription::id).toList());
+        assertEquals("Purchase 5", descriptions.get(5).description());
+        var storedIds = new ArrayList<UUID>();
+        store.forEachId(storedIds::add);
+        assertEquals(ids, storedIds);
+        assertEquals(6, store.count());
+    }
+
+    @Test
+    void givenTornRecord_whenReopen_thenDiscardItAndEverythingAfter() throws IOException {
+        var ids = saveAll(6);
+        store.close();
+        try (var channel = FileChannel.open(directory.resolve("segment-000000.log"), WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{42}), 2L * TransactionRecord.SIZE + 100);
+        }
+
+        store = new LogTransactionStore(directory, SEGMENT_BYTES, 16);
+
+        assertEquals(2, store.stats().transactions());
+        assertTrue(store.findById(ids.get(1)).isPresent());
+        assertFalse(store.findById(ids.get(2)).isPresent());
+        assertFalse(store.findById(ids.get(4)).isPresent());
+        assertFalse(Files.exists(directory.resolve("segment-000001.log")));
+        var next = store.save(transaction("Next"));
+        assertTrue(store.findById(next.getId()).isPresent());
+        assertEquals(3, store.stats().transactions());
+    }
+
+    @Test
+    void givenLogCreatedWithOtherSegmentSize_whenReopen_thenFailFast() throws IOException {
+        saveAll(6);
+        store.close();
+
+        var ex = assertThrowsExactly(IllegalStateException.class,
+                () -> new LogTransactionStore(directory, 2 * SEGMENT_BYTES, 16));
+
+        assertEquals("Transaction log in %s has 4 records of 256 bytes per segment, configured for 8 of 256 bytes".formatted(directory),
+                ex.getMessage());
+        store = new LogTransactionStore(directory, SEGMENT_BYTES, 16);
+        assertEquals(6, store.count());
+    }
+
+    @Test
+    void givenInterruptedWriter_whenSave_thenFailInsteadOfWaiting() throws InterruptedException {
+        var writer = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("transaction-log-writer") && thread.isAlive())
+                .findFirst()
+                .orElseThrow();
+
+        writer.interrupt();
+        writer.join(5_000);
+
+        assertFalse(writer.isAlive());
+        assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> assertThrowsExactly(IllegalStateException.class, () -> store.save(transaction("Late"))));
+    }
+
+    @Test
+    void givenConcurrentSaves_whenSave_thenEveryTransactionIsStoredOnce() throws Exception {
+        var tasks = new ArrayList<Callable<Transaction>>();
+        for (var i = 0; i < 200; i++) {
+            var description = "Concurrent " + i;
+            tasks.add(() -> store.save(transaction(description)));
+        }
+
+        List<Future<Transaction>> saved;
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            saved = executor.invokeAll(tasks);
+        }
+
+        assertEquals(200, store.stats().transactions());
+        for (var future : saved) {
+            assertEquals(future.get().getDescription(), store.findById(future.get().getId()).orElseThrow().getDescription());
+        }
+    }
+
+    @Test
+    void givenTooLongDescription_whenSave_thenRejectWithoutWriting() {
+        var transaction = transaction("x".repeat(TransactionRecord.MAX_DESCRIPTION_BYTES + 1));
+
+        assertThrowsExactly(IllegalArgumentException.class, () -> store.save(transaction));
+        assertEquals(0, store.stats().transactions());
+    }
+
+    private List<UUID> saveAll(final int count) {
+        var ids = new ArrayList<UUID>();
+        for (var i = 0; i < count; i++) {
+            ids.add(store.save(transaction("Purchase " + i)).getId());
+        }
+        return ids;
+    }
+
+    private static Transaction transaction(final String description) {
+        return new Transaction(null, description, LocalDate.of(2024, 8, 20), BigDecimal.TEN);
+    }
+}
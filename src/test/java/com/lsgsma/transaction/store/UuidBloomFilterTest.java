@@ -0,0 +1,52 @@
+package com.lsgsma.transaction.store;
+
+import com.lsgsma.transaction.util.UuidV7;
+import java.util.ArrayList;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UuidBloomFilterTest {
+
+    @Test
+    void givenInsertedIds_whenMightContain_thenNeverMissOne() {
+        var filter = new UuidBloomFilter(10_000, 0.01);
+        var ids = new ArrayList<UUID>();
+        for (var i = 0; i < 10_000; i++) {
+            var id = UuidV7.randomUuid();
+            ids.add(id);
+            filter.put(id);
+        }
+
+        ids.forEach(id -> assertTrue(filter.mightContain(id)));
+        assertEquals(10_000, filter.size());
+    }
+
+    @Test
+    void givenFilterAtCapacity_whenMightContainUnknownIds_thenStayNearRequestedFalsePositiveRate() {
+        var filter = new UuidBloomFilter(100_000, 0.01);
+        for (var i = 0; i < 100_000; i++) {
+            filter.put(UuidV7.randomUuid());
+        }
+
+        var falsePositives = 0;
+        for (var i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID())) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 1_500, "false positives: " + falsePositives);
+        assertEquals(0.01, filter.expectedFalsePositiveRate(), 0.002);
+        assertEquals(7, filter.hashFunctions());
+        assertEquals(119_816, filter.memoryBytes());
+    }
+
+    @Test
+    void givenInvalidFalsePositiveRate_whenCreate_thenReject() {
+        assertThrows(IllegalArgumentException.class, () -> new UuidBloomFilter(1_000, 1.0));
+    }
+}
@@ -0,0 +1,53 @@
+package com.lsgsma.transaction.store;
+
+import com.lsgsma.transaction.util.UuidV7;
+import java.util.ArrayList;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class UuidOffsetIndexTest {
+
+    private final UuidOffsetIndex index = new UuidOffsetIndex(0);
+
+    @AfterEach
+    void tearDown() {
+        index.close();
+    }
+
+    @Test
+    void givenMoreIdsThanInitialCapacity_whenPut_thenGrowAndKeepEveryEntry() {
+        var ids = new ArrayList<UUID>();
+        for (var recordNumber = 0; recordNumber < 5_000; recordNumber++) {
+            var id = UuidV7.randomUuid();
+            ids.add(id);
+            index.put(id, recordNumber);
+        }
+
+        assertEquals(5_000, index.size());
+        assertEquals(8192 * 24, index.memoryBytes());
+        for (var recordNumber = 0; recordNumber < ids.size(); recordNumber++) {
+            assertEquals(recordNumber, index.get(ids.get(recordNumber)));
+        }
+    }
+
+    @Test
+    void givenUnknownId_whenGet_thenReturnMinusOne() {
+        index.put(UUID.randomUUID(), 0);
+
+        assertEquals(-1, index.get(UUID.randomUUID()));
+    }
+
+    @Test
+    void givenExistingId_whenPut_thenReplaceRecordNumber() {
+        var id = UUID.randomUUID();
+        index.put(id, 3);
+
+        index.put(id, 7);
+
+        assertEquals(1, index.size());
+        assertEquals(7, index.get(id));
+    }
+}
@@ -0,0 +1,43 @@
+package com.lsgsma.transaction.util;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RateLimitedLoggerTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final RateLimitedLogger rateLimitedLogger = new RateLimitedLogger(
+            LoggerFactory.getLogger(RateLimitedLoggerTest.class), 2, Duration.ofSeconds(1), nanoTime::get);
+
+    @Test
+    void givenPermitsLeft_whenTryAcquire_thenAllow() {
+        assertEquals(0, rateLimitedLogger.tryAcquire());
+        assertEquals(0, rateLimitedLogger.tryAcquire());
+    }
+
+    @Test
+    void givenPermitsExhausted_whenTryAcquire_thenDrop() {
+        rateLimitedLogger.tryAcquire();
+        rateLimitedLogger.tryAcquire();
+
+        assertEquals(-1, rateLimitedLogger.tryAcquire());
+        assertEquals(-1, rateLimitedLogger.tryAcquire());
+    }
+
+    @Test
+    void givenNextInterval_whenTryAcquire_thenAllowAndReportSuppressedCount() {
+        for (int i = 0; i < 5; i++) {
+            rateLimitedLogger.tryAcquire();
+        }
+
+        nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        assertEquals(3, rateLimitedLogger.tryAcquire());
+        assertEquals(0, rateLimitedLogger.tryAcquire());
+        assertEquals(-1, rateLimitedLogger.tryAcquire());
+    }
+}
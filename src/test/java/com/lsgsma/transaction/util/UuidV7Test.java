@@ -0,0 +1,52 @@
+package com.lsgsma.transaction.util;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UuidV7Test {
+
+    @Test
+    void givenGeneratedId_whenInspect_thenHaveVersion7VariantAndTimestamp() {
+        var uuidV7 = new UuidV7(() -> 1_724_112_000_000L);
+
+        var id = uuidV7.next();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(1_724_112_000_000L, id.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void givenSameMillisecond_whenNext_thenIdsAreStrictlyIncreasing() {
+        var uuidV7 = new UuidV7(() -> 1_724_112_000_000L);
+
+        var previous = uuidV7.next();
+        for (var i = 0; i < 10_000; i++) {
+            var id = uuidV7.next();
+            assertTrue(compareUnsigned(previous, id) < 0, previous + " should sort before " + id);
+            previous = id;
+        }
+    }
+
+    @Test
+    void givenClockGoingBackwards_whenNext_thenKeepOrder() {
+        var clock = new AtomicLong(1_724_112_000_000L);
+        var uuidV7 = new UuidV7(clock::get);
+
+        var first = uuidV7.next();
+        clock.addAndGet(-5_000);
+        var second = uuidV7.next();
+
+        assertTrue(compareUnsigned(first, second) < 0);
+    }
+
+    // Byte order as stored by databases, unlike UUID.compareTo which compares signed longs
+    private static int compareUnsigned(final UUID a, final UUID b) {
+        var most = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return most != 0 ? most : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}